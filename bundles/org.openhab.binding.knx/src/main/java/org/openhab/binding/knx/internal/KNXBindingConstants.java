@@ -86,6 +86,9 @@ public class KNXBindingConstants {
 
     public static final String CHANNEL_RESET = "reset";
 
+    // Bridge channels
+    public static final String CHANNEL_READ_PROGRESS = "read-progress";
+
     // Channel Configuration parameters
     public static final String GA = "ga";
     public static final String HSB_GA = "hsb";
@@ -13,8 +13,6 @@
 package org.openhab.binding.knx.internal.client;
 
 import java.util.Set;
-import java.util.concurrent.CopyOnWriteArraySet;
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -64,6 +62,8 @@ import tuwien.auto.calimero.process.ProcessListener;
 public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClient {
 
     private static final int MAX_SEND_ATTEMPTS = 2;
+    private static final int EVENT_THREADS = 4;
+    private static final int EVENT_QUEUE_CAPACITY = 1000;
 
     private final Logger logger = LoggerFactory.getLogger(AbstractKNXClient.class);
     private final KNXTypeMapper typeHelper = new KNXCoreTypeMapper();
@@ -85,8 +85,10 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
     private @Nullable ScheduledFuture<?> busJob;
     private @Nullable ScheduledFuture<?> connectJob;
 
-    private final Set<GroupAddressListener> groupAddressListeners = new CopyOnWriteArraySet<>();
-    private final LinkedBlockingQueue<ReadDatapoint> readDatapoints = new LinkedBlockingQueue<>();
+    private final GroupAddressListenerIndex groupAddressListeners = new GroupAddressListenerIndex();
+    private final KeyedSerialExecutor<GroupAddress> eventExecutor;
+    private final ReadScheduler readScheduler;
+    private volatile int reportedReadProgress = -1;
 
     @FunctionalInterface
     private interface ListenerNotification {
@@ -103,6 +105,7 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
 
         @Override
         public void groupWrite(ProcessEvent e) {
+            readScheduler.telegramReceived();
             processEvent("Group Write", e, (listener, source, destination, asdu) -> {
                 listener.onGroupWrite(AbstractKNXClient.this, source, destination, asdu);
             });
@@ -110,6 +113,7 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
 
         @Override
         public void groupReadRequest(ProcessEvent e) {
+            readScheduler.telegramReceived();
             processEvent("Group Read Request", e, (listener, source, destination, asdu) -> {
                 listener.onGroupRead(AbstractKNXClient.this, source, destination, asdu);
             });
@@ -129,9 +133,18 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
         this.thingUID = thingUID;
         this.responseTimeout = responseTimeout;
         this.readingPause = readingPause;
+        this.readScheduler = new ReadScheduler(readingPause);
         this.readRetriesLimit = readRetriesLimit;
         this.knxScheduler = knxScheduler;
         this.statusUpdateCallback = statusUpdateCallback;
+
+        // The telegrams of a group address are passed to its listeners one after another and in the order of
+        // arrival, telegrams of different group addresses in parallel. A listener that blocks, e.g. while answering a
+        // read request, only delays the telegrams of its group address. If too many telegrams are pending, Calimero's
+        // receiving thread waits for the listeners instead of dropping telegrams. Writes to the bus time out, so
+        // listeners waiting for the bus do not block the receiving thread for good.
+        eventExecutor = new KeyedSerialExecutor<>("knx-events-" + thingUID.getId(), EVENT_THREADS,
+                EVENT_QUEUE_CAPACITY);
     }
 
     public void initialize() {
@@ -223,7 +236,8 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
     @SuppressWarnings("null")
     private void releaseConnection() {
         logger.debug("Bridge {} is disconnecting from the KNX bus", thingUID);
-        readDatapoints.clear();
+        readScheduler.clear();
+        updateReadProgress();
         busJob = nullify(busJob, j -> j.cancel(true));
         deviceInfoClient = null;
         managementProcedures = nullify(managementProcedures, mp -> mp.detach());
@@ -251,10 +265,25 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
         IndividualAddress source = event.getSourceAddr();
         byte[] asdu = event.getASDU();
         logger.trace("Received a {} telegram from '{}' to '{}' with value '{}'", task, source, destination, asdu);
-        for (GroupAddressListener listener : groupAddressListeners) {
-            if (listener.listensTo(destination)) {
-                knxScheduler.schedule(() -> action.apply(listener, source, destination, asdu), 0, TimeUnit.SECONDS);
-            }
+        Set<GroupAddressListener> listeners = groupAddressListeners.getListeners(destination);
+        if (listeners.isEmpty()) {
+            return;
+        }
+        try {
+            eventExecutor.execute(destination, () -> {
+                for (GroupAddressListener listener : listeners) {
+                    if (listener.listensTo(destination)) {
+                        try {
+                            action.apply(listener, source, destination, asdu);
+                        } catch (RuntimeException e) {
+                            logger.warn("A listener failed to process a {} telegram to '{}'", task, destination, e);
+                        }
+                    }
+                }
+            });
+        } catch (InterruptedException e) {
+            logger.debug("Interrupted while waiting to pass a {} telegram to '{}' to the listeners", task, destination);
+            Thread.currentThread().interrupt();
         }
     }
 
@@ -279,15 +308,15 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
         if (processCommunicator == null) {
             return;
         }
-        ReadDatapoint datapoint = readDatapoints.poll();
+        ReadDatapoint datapoint = readScheduler.poll(currentTimeMillis());
         if (datapoint != null) {
             datapoint.incrementRetries();
             try {
                 logger.trace("Sending a Group Read Request telegram for {}", datapoint.getDatapoint().getMainAddress());
                 processCommunicator.read(datapoint.getDatapoint());
+                readScheduler.readSucceeded(currentTimeMillis());
             } catch (KNXException e) {
-                if (datapoint.getRetries() < datapoint.getLimit()) {
-                    readDatapoints.add(datapoint);
+                if (readScheduler.readFailed(datapoint, currentTimeMillis())) {
                     logger.debug("Could not read value for datapoint {}: {}. Going to retry.",
                             datapoint.getDatapoint().getMainAddress(), e.getMessage());
                 } else {
@@ -298,12 +327,26 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
                 logger.debug("Interrupted sending KNX read request");
                 return;
             }
+            updateReadProgress();
+        }
+    }
+
+    private static long currentTimeMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime());
+    }
+
+    private void updateReadProgress() {
+        int progress = readScheduler.getProgress();
+        if (progress != reportedReadProgress) {
+            reportedReadProgress = progress;
+            statusUpdateCallback.updateReadProgress(progress);
         }
     }
 
     public void dispose() {
         cancelReconnectJob();
         disconnect(null);
+        eventExecutor.shutdown();
     }
 
     @Override
@@ -366,23 +409,20 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
     }
 
     @Override
-    public void readDatapoint(Datapoint datapoint) {
-        synchronized (this) {
-            ReadDatapoint retryDatapoint = new ReadDatapoint(datapoint, readRetriesLimit);
-            if (!readDatapoints.contains(retryDatapoint)) {
-                readDatapoints.add(retryDatapoint);
-            }
+    public void readDatapoint(Datapoint datapoint, boolean prioritized) {
+        if (readScheduler.add(new ReadDatapoint(datapoint, readRetriesLimit, prioritized))) {
+            updateReadProgress();
         }
     }
 
     @Override
     public final boolean registerGroupAddressListener(GroupAddressListener listener) {
-        return groupAddressListeners.add(listener);
+        return groupAddressListeners.register(listener);
     }
 
     @Override
     public final boolean unregisterGroupAddressListener(GroupAddressListener listener) {
-        return groupAddressListeners.remove(listener);
+        return groupAddressListeners.unregister(listener);
     }
 
     @Override
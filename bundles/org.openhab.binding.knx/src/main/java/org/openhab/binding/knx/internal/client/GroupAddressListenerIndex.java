@@ -0,0 +1,101 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.knx.internal.client;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.binding.knx.internal.handler.GroupAddressListener;
+
+import tuwien.auto.calimero.GroupAddress;
+
+/**
+ * Keeps the registered {@link GroupAddressListener}s indexed by their group addresses.
+ * <p>
+ * The listeners of a telegram are looked up by its destination, instead of asking every registered listener.
+ * Lookups do not block, registrations are serialized.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class GroupAddressListenerIndex {
+
+    private final Map<GroupAddress, Set<GroupAddressListener>> listenersByAddress = new ConcurrentHashMap<>();
+    private final Map<GroupAddressListener, Set<GroupAddress>> addressesByListener = new ConcurrentHashMap<>();
+
+    /**
+     * Adds the given listener for all of its current group addresses. A listener that is registered already
+     * is indexed again, in case its group addresses changed.
+     *
+     * @param listener the listener
+     * @return {@code true} if it wasn't registered before
+     */
+    synchronized boolean register(GroupAddressListener listener) {
+        Set<GroupAddress> addresses = new HashSet<>(listener.getGroupAddresses());
+        Set<GroupAddress> previousAddresses = addressesByListener.put(listener, addresses);
+        if (previousAddresses != null) {
+            removeFromIndex(listener, previousAddresses);
+        }
+        for (GroupAddress address : addresses) {
+            listenersByAddress.computeIfAbsent(address, a -> new CopyOnWriteArraySet<>()).add(listener);
+        }
+        return previousAddresses == null;
+    }
+
+    /**
+     * Removes the given listener.
+     *
+     * @param listener the listener
+     * @return {@code true} if it was registered
+     */
+    synchronized boolean unregister(GroupAddressListener listener) {
+        Set<GroupAddress> addresses = addressesByListener.remove(listener);
+        if (addresses == null) {
+            return false;
+        }
+        removeFromIndex(listener, addresses);
+        return true;
+    }
+
+    private void removeFromIndex(GroupAddressListener listener, Set<GroupAddress> addresses) {
+        for (GroupAddress address : addresses) {
+            Set<GroupAddressListener> listeners = listenersByAddress.get(address);
+            if (listeners != null) {
+                listeners.remove(listener);
+                if (listeners.isEmpty()) {
+                    listenersByAddress.remove(address);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the listeners that are interested in the given destination.
+     */
+    Set<GroupAddressListener> getListeners(GroupAddress destination) {
+        Set<GroupAddressListener> listeners = listenersByAddress.get(destination);
+        return listeners != null ? listeners : Collections.emptySet();
+    }
+
+    /**
+     * Returns the number of registered listeners.
+     */
+    int size() {
+        return addressesByListener.size();
+    }
+}
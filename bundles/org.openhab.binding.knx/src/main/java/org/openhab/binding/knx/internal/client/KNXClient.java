@@ -80,8 +80,9 @@ public interface KNXClient {
      * Schedule the given data point for asynchronous reading.
      *
      * @param datapoint the datapoint
+     * @param prioritized {@code true} if the data point should be read before all not prioritized ones
      */
-    void readDatapoint(Datapoint datapoint);
+    void readDatapoint(Datapoint datapoint, boolean prioritized);
 
     /**
      * Write a command to the KNX bus.
@@ -0,0 +1,138 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.knx.internal.client;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.smarthome.core.common.NamedThreadFactory;
+
+/**
+ * Runs tasks on a small pool of threads, one after another per key and in the order of submission. Tasks of
+ * different keys run in parallel, so a task that blocks only delays the tasks of its own key.
+ * <p>
+ * The number of pending tasks is limited. Submitting blocks while the limit is reached, so that slow tasks slow
+ * down the submitter instead of tasks getting lost.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class KeyedSerialExecutor<K> {
+
+    private final ThreadPoolExecutor executor;
+    private final int capacity;
+    private final Semaphore pendingPermits;
+    // pending tasks per key, a key is present while a runner for it is scheduled or running
+    private final Map<K, Queue<Runnable>> queues = new HashMap<>();
+    private volatile boolean shutdown;
+
+    /**
+     * @param name the name of the threads
+     * @param threads the maximum number of threads
+     * @param capacity the maximum number of pending tasks of all keys
+     */
+    KeyedSerialExecutor(String name, int threads, int capacity) {
+        this.capacity = capacity;
+        this.pendingPermits = new Semaphore(capacity);
+        executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                new NamedThreadFactory(name, true));
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Runs the task after all tasks submitted before with the same key. Blocks while the maximum number of pending
+     * tasks is reached. Tasks submitted after {@link #shutdown()} are ignored.
+     *
+     * @param key the key of the task
+     * @param task the task
+     * @throws InterruptedException if interrupted while waiting for a pending task to finish
+     */
+    void execute(K key, Runnable task) throws InterruptedException {
+        pendingPermits.acquire();
+        boolean schedule;
+        synchronized (queues) {
+            if (shutdown) {
+                pendingPermits.release();
+                return;
+            }
+            Queue<Runnable> queue = queues.get(key);
+            schedule = queue == null;
+            if (queue == null) {
+                queue = new ArrayDeque<>();
+                queues.put(key, queue);
+            }
+            queue.add(task);
+        }
+        if (schedule) {
+            schedule(key);
+        }
+    }
+
+    private void schedule(K key) {
+        try {
+            executor.execute(() -> runNext(key));
+        } catch (RejectedExecutionException e) {
+            // shut down
+        }
+    }
+
+    /**
+     * Runs the next task of the key and schedules the following one behind the tasks of the other keys.
+     */
+    private void runNext(K key) {
+        Runnable task;
+        synchronized (queues) {
+            Queue<Runnable> queue = queues.get(key);
+            task = queue != null ? queue.poll() : null;
+            if (task == null) {
+                return;
+            }
+        }
+        try {
+            task.run();
+        } finally {
+            pendingPermits.release();
+            boolean more;
+            synchronized (queues) {
+                Queue<Runnable> queue = queues.get(key);
+                more = queue != null && !queue.isEmpty();
+                if (queue != null && !more) {
+                    queues.remove(key);
+                }
+            }
+            if (more) {
+                schedule(key);
+            }
+        }
+    }
+
+    /**
+     * Discards the pending tasks, interrupts the running ones and releases blocked submitters.
+     */
+    void shutdown() {
+        synchronized (queues) {
+            shutdown = true;
+            queues.clear();
+        }
+        executor.shutdownNow();
+        pendingPermits.release(capacity);
+    }
+}
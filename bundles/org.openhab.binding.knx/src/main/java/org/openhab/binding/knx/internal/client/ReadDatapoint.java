@@ -24,11 +24,17 @@ public class ReadDatapoint {
     private final Datapoint datapoint;
     private int retries;
     private final int limit;
+    private final boolean prioritized;
 
     public ReadDatapoint(Datapoint datapoint, int limit) {
+        this(datapoint, limit, false);
+    }
+
+    public ReadDatapoint(Datapoint datapoint, int limit, boolean prioritized) {
         this.datapoint = datapoint;
         this.retries = 0;
         this.limit = limit;
+        this.prioritized = prioritized;
     }
 
     public Datapoint getDatapoint() {
@@ -47,6 +53,10 @@ public class ReadDatapoint {
         return limit;
     }
 
+    public boolean isPrioritized() {
+        return prioritized;
+    }
+
     @Override
     public int hashCode() {
         final int prime = 31;
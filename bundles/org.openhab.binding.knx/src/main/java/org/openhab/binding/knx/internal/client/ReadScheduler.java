@@ -0,0 +1,180 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.knx.internal.client;
+
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * Queues the datapoints to be read from the KNX bus and paces the read requests.
+ * <ul>
+ * <li>Queued datapoints are de-duplicated by their group address.
+ * <li>Prioritized datapoints are read before all others, in the order they have been queued.
+ * <li>The pause between two read requests starts with the configured reading pause. It is doubled for every failed
+ * read request and shortened again by successful ones. It is stretched further, the more foreign telegrams
+ * are observed on the bus.
+ * </ul>
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class ReadScheduler {
+
+    /** The maximum pause is this factor times the configured reading pause */
+    static final int MAX_PAUSE_FACTOR = 20;
+
+    /** Telegrams per second a KNX TP1 line can carry */
+    static final int BUS_CAPACITY_TELEGRAMS_PER_SECOND = 50;
+
+    private final long readingPause;
+
+    private final Set<ReadDatapoint> prioritized = new LinkedHashSet<>();
+    private final Set<ReadDatapoint> others = new LinkedHashSet<>();
+    private final AtomicInteger telegrams = new AtomicInteger();
+
+    private int backoff = 1;
+    private int completed = 0;
+    private long lastReadTime = 0;
+    private long nextReadTime = 0;
+
+    /**
+     * @param readingPause the minimum pause between two read requests in milliseconds
+     */
+    ReadScheduler(long readingPause) {
+        this.readingPause = Math.max(readingPause, 1);
+    }
+
+    /**
+     * Queues the given datapoint, if its group address is not queued already.
+     * A prioritized datapoint moves a queued datapoint of the same group address to the prioritized ones.
+     *
+     * @return {@code true} if the datapoint has been queued
+     */
+    synchronized boolean add(ReadDatapoint datapoint) {
+        if (prioritized.contains(datapoint)) {
+            return false;
+        }
+        if (datapoint.isPrioritized()) {
+            others.remove(datapoint);
+            return prioritized.add(datapoint);
+        }
+        return others.add(datapoint);
+    }
+
+    /**
+     * Returns the next datapoint to read, if the pause since the last read request has elapsed.
+     *
+     * @param now the current time in milliseconds
+     * @return the next datapoint or {@code null} if nothing is due
+     */
+    synchronized @Nullable ReadDatapoint poll(long now) {
+        if (now < nextReadTime) {
+            return null;
+        }
+        Set<ReadDatapoint> queue = !prioritized.isEmpty() ? prioritized : others;
+        Iterator<ReadDatapoint> iterator = queue.iterator();
+        if (!iterator.hasNext()) {
+            return null;
+        }
+        ReadDatapoint datapoint = iterator.next();
+        iterator.remove();
+        return datapoint;
+    }
+
+    /**
+     * Called after a datapoint has been read successfully.
+     *
+     * @param now the current time in milliseconds
+     */
+    synchronized void readSucceeded(long now) {
+        backoff = Math.max(1, backoff - 1);
+        completed++;
+        readFinished(now);
+    }
+
+    /**
+     * Called after a read request failed. The datapoint is queued again if it has retries left.
+     *
+     * @param datapoint the datapoint that could not be read
+     * @param now the current time in milliseconds
+     * @return {@code true} if the datapoint has been queued again
+     */
+    synchronized boolean readFailed(ReadDatapoint datapoint, long now) {
+        backoff = Math.min(MAX_PAUSE_FACTOR, backoff * 2);
+        boolean retry = datapoint.getRetries() < datapoint.getLimit();
+        if (retry) {
+            add(datapoint);
+        } else {
+            completed++;
+        }
+        readFinished(now);
+        return retry;
+    }
+
+    private void readFinished(long now) {
+        nextReadTime = now + getPause(now);
+        lastReadTime = now;
+        telegrams.set(0);
+        if (prioritized.isEmpty() && others.isEmpty()) {
+            completed = 0;
+        }
+    }
+
+    /**
+     * Returns the pause in milliseconds before the next read request.
+     */
+    synchronized long getPause(long now) {
+        long elapsed = Math.max(now - lastReadTime, 1);
+        double load = Math.min(0.95, telegrams.get() * 1000.0 / elapsed / BUS_CAPACITY_TELEGRAMS_PER_SECOND);
+        long pause = Math.round(readingPause * backoff / (1 - load));
+        return Math.min(pause, readingPause * MAX_PAUSE_FACTOR);
+    }
+
+    /**
+     * Called for every telegram on the bus that has not been requested by this scheduler.
+     */
+    void telegramReceived() {
+        telegrams.incrementAndGet();
+    }
+
+    /**
+     * Returns the number of queued datapoints.
+     */
+    synchronized int size() {
+        return prioritized.size() + others.size();
+    }
+
+    /**
+     * Returns the progress of reading the currently queued datapoints in percent.
+     * The counting starts over whenever the queue runs empty.
+     */
+    synchronized int getProgress() {
+        int total = completed + prioritized.size() + others.size();
+        return total == 0 ? 100 : completed * 100 / total;
+    }
+
+    /**
+     * Removes all queued datapoints.
+     */
+    synchronized void clear() {
+        prioritized.clear();
+        others.clear();
+        completed = 0;
+        backoff = 1;
+    }
+}
@@ -17,7 +17,8 @@ import org.eclipse.smarthome.core.thing.ThingStatus;
 import org.eclipse.smarthome.core.thing.ThingStatusDetail;
 
 /**
- * Callback interface which enables the KNXClient implementations to update the thing status.
+ * Callback interface which enables the KNXClient implementations to update the thing status
+ * and the read progress.
  *
  * @author Simon Kaufmann - initial contribution and API.
  *
@@ -38,4 +39,11 @@ public interface StatusUpdateCallback {
      * @param status
      */
     void updateStatus(ThingStatus status, ThingStatusDetail thingStatusDetail, String message);
+
+    /**
+     * Reports the progress of reading the queued datapoints from the bus
+     *
+     * @param progress the progress in percent
+     */
+    void updateReadProgress(int progress);
 }
@@ -24,6 +24,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.smarthome.core.library.types.DateTimeType;
 import org.eclipse.smarthome.core.library.types.DecimalType;
@@ -95,6 +96,26 @@ public class KNXCoreTypeMapper implements KNXTypeMapper {
     private static final String TIME_DAY_FORMAT = new String("EEE, HH:mm:ss");
     private static final String DATE_FORMAT = new String("yyyy-MM-dd");
 
+    /**
+     * Main and sub number of a datapoint type id like "14.001"
+     */
+    private static class DptNumbers {
+        final int mainNumber;
+        final int subNumber;
+
+        DptNumbers(int mainNumber, int subNumber) {
+            this.mainNumber = mainNumber;
+            this.subNumber = subNumber;
+        }
+    }
+
+    /**
+     * DPTXlators are stateful, so the translators for incoming telegrams are cached per thread and datapoint type.
+     * The main and sub numbers of the translator types are cached per datapoint type id.
+     */
+    private static final ThreadLocal<Map<String, DPTXlator>> TRANSLATORS = ThreadLocal.withInitial(HashMap::new);
+    private static final Map<String, DptNumbers> DPT_NUMBERS = new ConcurrentHashMap<>();
+
     /**
      * stores the openHAB type class for (supported) KNX datapoint types in a generic way.
      * dptTypeMap stores more specific type class and exceptions.
@@ -673,23 +694,20 @@ public class KNXCoreTypeMapper implements KNXTypeMapper {
     @Override
     public Type toType(Datapoint datapoint, byte[] data) {
         try {
-            DPTXlator translator = TranslatorTypes.createTranslator(datapoint.getMainNumber(), datapoint.getDPT());
+            DPTXlator translator = getTranslator(datapoint);
             translator.setData(data);
-            String value = translator.getValue();
+            // The String value is only created for the types that need it, see translatorValue()
+            String value = null;
 
             String id = translator.getType().getID();
             logger.trace("toType datapoint DPT = {}", datapoint.getDPT());
 
-            int mainNumber = getMainNumber(id);
-            if (mainNumber == -1) {
-                logger.debug("toType: couldn't identify mainnumber in dptID: {}.", id);
-                return null;
-            }
-            int subNumber = getSubNumber(id);
-            if (subNumber == -1) {
-                logger.debug("toType: couldn't identify sub number in dptID: {}.", id);
+            DptNumbers numbers = getDptNumbers(id);
+            if (numbers == null) {
                 return null;
             }
+            int mainNumber = numbers.mainNumber;
+            int subNumber = numbers.subNumber;
             /*
              * Following code section deals with specific mapping of values from KNX to openHAB types were the String
              * received from the DPTXlator is not sufficient to set the openHAB type or has bugs
@@ -730,31 +748,12 @@ public class KNXCoreTypeMapper implements KNXTypeMapper {
                             return translator3BitControlled.getControlBit() ? UpDownType.DOWN : UpDownType.UP;
                     }
                 case 14:
-                    /*
-                     * FIXME: Workaround for a bug in Calimero / Openhab DPTXlator4ByteFloat.makeString(): is using a
-                     * locale when
-                     * translating a Float to String. It could happen the a ',' is used as separator, such as
-                     * 3,14159E20.
-                     * Openhab's DecimalType expects this to be in US format and expects '.': 3.14159E20.
-                     * There is no issue with DPTXlator2ByteFloat since calimero is using a non-localized translation
-                     * there.
-                     */
-                    DPTXlator4ByteFloat translator4ByteFloat = (DPTXlator4ByteFloat) translator;
-                    Float f = translator4ByteFloat.getValueFloat();
-                    if (Math.abs(f) < 100000) {
-                        value = String.valueOf(f);
-                    } else {
-                        NumberFormat dcf = NumberFormat.getInstance(Locale.US);
-                        if (dcf instanceof DecimalFormat) {
-                            ((DecimalFormat) dcf).applyPattern("0.#####E0");
-                        }
-                        value = dcf.format(f);
-                    }
+                    // Decoded by its numeric value below, without a String round-trip
                     break;
                 case 18:
                     DPTXlatorSceneControl translatorSceneControl = (DPTXlatorSceneControl) translator;
                     int decimalValue = translatorSceneControl.getSceneNumber();
-                    if (value.startsWith("learn")) {
+                    if (translator.getValue().startsWith("learn")) {
                         decimalValue += 0x80;
                     }
                     value = String.valueOf(decimalValue);
@@ -823,6 +822,9 @@ public class KNXCoreTypeMapper implements KNXTypeMapper {
             if (typeClass.equals(DecimalType.class)) {
                 return new DecimalType(translator.getNumericValue());
             }
+            if (value == null) {
+                value = translatorValue(translator, mainNumber);
+            }
             if (typeClass.equals(StringType.class)) {
                 return StringType.valueOf(value);
             }
@@ -859,6 +861,69 @@ public class KNXCoreTypeMapper implements KNXTypeMapper {
         return null;
     }
 
+    /**
+     * Returns the translator of the current thread for the given datapoint. Translators are created on first use.
+     */
+    private DPTXlator getTranslator(Datapoint datapoint) throws KNXException {
+        Map<String, DPTXlator> translators = TRANSLATORS.get();
+        String key = datapoint.getMainNumber() + ":" + datapoint.getDPT();
+        DPTXlator translator = translators.get(key);
+        if (translator == null) {
+            translator = TranslatorTypes.createTranslator(datapoint.getMainNumber(), datapoint.getDPT());
+            translators.put(key, translator);
+        }
+        return translator;
+    }
+
+    /**
+     * Returns the main and sub number of the given datapoint type id, or {@code null} if they can't be identified.
+     */
+    private DptNumbers getDptNumbers(String id) {
+        DptNumbers numbers = DPT_NUMBERS.get(id);
+        if (numbers == null) {
+            int mainNumber = getMainNumber(id);
+            if (mainNumber == -1) {
+                logger.debug("toType: couldn't identify mainnumber in dptID: {}.", id);
+                return null;
+            }
+            int subNumber = getSubNumber(id);
+            if (subNumber == -1) {
+                logger.debug("toType: couldn't identify sub number in dptID: {}.", id);
+                return null;
+            }
+            numbers = new DptNumbers(mainNumber, subNumber);
+            DPT_NUMBERS.put(id, numbers);
+        }
+        return numbers;
+    }
+
+    /**
+     * Returns the String value of the given translator.
+     */
+    private String translatorValue(DPTXlator translator, int mainNumber) {
+        if (mainNumber == 14) {
+            /*
+             * FIXME: Workaround for a bug in Calimero / Openhab DPTXlator4ByteFloat.makeString(): is using a
+             * locale when
+             * translating a Float to String. It could happen the a ',' is used as separator, such as
+             * 3,14159E20.
+             * Openhab's DecimalType expects this to be in US format and expects '.': 3.14159E20.
+             * There is no issue with DPTXlator2ByteFloat since calimero is using a non-localized translation
+             * there.
+             */
+            Float f = ((DPTXlator4ByteFloat) translator).getValueFloat();
+            if (Math.abs(f) < 100000) {
+                return String.valueOf(f);
+            }
+            NumberFormat dcf = NumberFormat.getInstance(Locale.US);
+            if (dcf instanceof DecimalFormat) {
+                ((DecimalFormat) dcf).applyPattern("0.#####E0");
+            }
+            return dcf.format(f);
+        }
+        return translator.getValue();
+    }
+
     /**
      * Converts a datapoint type id into an openHAB type class
      *
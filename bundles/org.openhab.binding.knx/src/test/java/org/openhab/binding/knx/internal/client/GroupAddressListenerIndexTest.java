@@ -0,0 +1,116 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.knx.internal.client;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Test;
+import org.openhab.binding.knx.internal.handler.GroupAddressListener;
+
+import tuwien.auto.calimero.GroupAddress;
+import tuwien.auto.calimero.IndividualAddress;
+
+/**
+ *
+ * @author agent - Initial contribution
+ *
+ */
+public class GroupAddressListenerIndexTest {
+
+    private static class TestListener implements GroupAddressListener {
+        private final Set<GroupAddress> groupAddresses = new HashSet<>();
+
+        @Override
+        public boolean listensTo(GroupAddress destination) {
+            return groupAddresses.contains(destination);
+        }
+
+        @Override
+        public Set<GroupAddress> getGroupAddresses() {
+            return groupAddresses;
+        }
+
+        @Override
+        public void onGroupWrite(AbstractKNXClient client, IndividualAddress source, GroupAddress destination,
+                byte[] asdu) {
+        }
+
+        @Override
+        public void onGroupRead(AbstractKNXClient client, IndividualAddress source, GroupAddress destination,
+                byte[] asdu) {
+        }
+
+        @Override
+        public void onGroupReadResponse(AbstractKNXClient client, IndividualAddress source, GroupAddress destination,
+                byte[] asdu) {
+        }
+    }
+
+    private final GroupAddressListenerIndex index = new GroupAddressListenerIndex();
+
+    @Test
+    public void testRegisterAndUnregister() {
+        TestListener listener = new TestListener();
+        listener.groupAddresses.add(new GroupAddress(1, 0, 1));
+
+        assertTrue(index.register(listener));
+        assertTrue(index.getListeners(new GroupAddress(1, 0, 1)).contains(listener));
+        assertTrue(index.getListeners(new GroupAddress(1, 0, 2)).isEmpty());
+
+        // Registering again takes over changed group addresses
+        listener.groupAddresses.clear();
+        listener.groupAddresses.add(new GroupAddress(1, 0, 2));
+        assertFalse(index.register(listener));
+        assertTrue(index.getListeners(new GroupAddress(1, 0, 1)).isEmpty());
+        assertTrue(index.getListeners(new GroupAddress(1, 0, 2)).contains(listener));
+
+        assertTrue(index.unregister(listener));
+        assertFalse(index.unregister(listener));
+        assertTrue(index.getListeners(new GroupAddress(1, 0, 2)).isEmpty());
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    public void testReplayBusTrace() {
+        // 1500 things with 4 group addresses each, some of them shared between things
+        Random random = new Random(42);
+        List<TestListener> listeners = new ArrayList<>();
+        for (int i = 0; i < 1500; i++) {
+            TestListener listener = new TestListener();
+            for (int j = 0; j < 4; j++) {
+                listener.groupAddresses.add(new GroupAddress(random.nextInt(4000)));
+            }
+            listeners.add(listener);
+            index.register(listener);
+        }
+        assertEquals(1500, index.size());
+
+        // One second of a busy bus with 200 telegrams
+        for (int i = 0; i < 200; i++) {
+            GroupAddress destination = new GroupAddress(random.nextInt(4000));
+            Set<GroupAddressListener> expected = new HashSet<>();
+            for (TestListener listener : listeners) {
+                if (listener.listensTo(destination)) {
+                    expected.add(listener);
+                }
+            }
+            assertEquals(expected, new HashSet<>(index.getListeners(destination)));
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.knx.internal.client;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import tuwien.auto.calimero.GroupAddress;
+import tuwien.auto.calimero.datapoint.CommandDP;
+
+/**
+ *
+ * @author agent - Initial contribution
+ *
+ */
+public class ReadSchedulerTest {
+
+    private final ReadScheduler scheduler = new ReadScheduler(50);
+
+    private ReadDatapoint datapoint(int address, boolean prioritized) {
+        return new ReadDatapoint(new CommandDP(new GroupAddress(address), "test", 0, "1.001"), 3, prioritized);
+    }
+
+    @Test
+    public void testDeduplicationAndPriority() {
+        assertTrue(scheduler.add(datapoint(1, false)));
+        assertTrue(scheduler.add(datapoint(2, false)));
+        assertFalse(scheduler.add(datapoint(1, false)));
+        // A prioritized read of a queued group address moves it to the front
+        assertTrue(scheduler.add(datapoint(2, true)));
+        assertFalse(scheduler.add(datapoint(2, false)));
+        assertEquals(2, scheduler.size());
+
+        ReadDatapoint next = scheduler.poll(0);
+        assertNotNull(next);
+        assertEquals(new GroupAddress(2), next.getDatapoint().getMainAddress());
+        assertTrue(next.isPrioritized());
+        scheduler.readSucceeded(0);
+        assertEquals(50, scheduler.getProgress());
+
+        // The pause has not elapsed yet
+        assertNull(scheduler.poll(10));
+        next = scheduler.poll(50);
+        assertNotNull(next);
+        assertEquals(new GroupAddress(1), next.getDatapoint().getMainAddress());
+        scheduler.readSucceeded(50);
+        assertEquals(100, scheduler.getProgress());
+        assertNull(scheduler.poll(1000));
+    }
+
+    @Test
+    public void testBackoffOnFailures() {
+        ReadDatapoint datapoint = datapoint(1, true);
+        scheduler.add(datapoint);
+        assertEquals(50, scheduler.getPause(0));
+
+        datapoint = scheduler.poll(0);
+        assertNotNull(datapoint);
+        datapoint.incrementRetries();
+        assertTrue(scheduler.readFailed(datapoint, 0));
+        assertEquals(100, scheduler.getPause(0));
+        assertNull(scheduler.poll(99));
+
+        datapoint = scheduler.poll(100);
+        assertNotNull(datapoint);
+        datapoint.incrementRetries();
+        assertTrue(scheduler.readFailed(datapoint, 100));
+        datapoint = scheduler.poll(300);
+        assertNotNull(datapoint);
+        datapoint.incrementRetries();
+        // The retries limit is reached
+        assertFalse(scheduler.readFailed(datapoint, 300));
+        assertEquals(0, scheduler.size());
+        assertEquals(100, scheduler.getProgress());
+    }
+
+    @Test
+    public void testPauseStretchedOnBusyBus() {
+        scheduler.readSucceeded(0);
+        // 25 telegrams within one second: half of the bus capacity
+        for (int i = 0; i < 25; i++) {
+            scheduler.telegramReceived();
+        }
+        assertEquals(100, scheduler.getPause(1000));
+        // A congested bus stretches the pause up to the maximum
+        for (int i = 0; i < 1000; i++) {
+            scheduler.telegramReceived();
+        }
+        assertEquals(50 * ReadScheduler.MAX_PAUSE_FACTOR, scheduler.getPause(1000));
+    }
+}
@@ -15,8 +15,18 @@ package org.openhab.binding.knx.internal.dpt;
 import static org.junit.Assert.assertEquals;
 
 import org.eclipse.smarthome.core.library.types.DecimalType;
+import org.eclipse.smarthome.core.library.types.OnOffType;
+import org.eclipse.smarthome.core.library.types.PercentType;
+import org.eclipse.smarthome.core.library.types.StringType;
+import org.eclipse.smarthome.core.types.Type;
 import org.junit.Test;
 
+import tuwien.auto.calimero.GroupAddress;
+import tuwien.auto.calimero.KNXException;
+import tuwien.auto.calimero.datapoint.CommandDP;
+import tuwien.auto.calimero.dptxlator.DPTXlator;
+import tuwien.auto.calimero.dptxlator.TranslatorTypes;
+
 /**
  *
  * @author Simon Kaufmann - initial contribution and API
@@ -29,4 +39,30 @@ public class KNXCoreTypeMapperTest {
         assertEquals("3", new KNXCoreTypeMapper().toDPTValue(new DecimalType("3"), "17.001"));
         assertEquals("3", new KNXCoreTypeMapper().toDPTValue(new DecimalType("3.0"), "17.001"));
     }
+
+    @Test
+    public void testToType_cachedTranslators() throws KNXException {
+        KNXCoreTypeMapper mapper = new KNXCoreTypeMapper();
+
+        assertEquals(OnOffType.ON, toType(mapper, "1.001", "on"));
+        assertEquals(OnOffType.OFF, toType(mapper, "1.001", "off"));
+
+        assertEquals(new PercentType(50), toType(mapper, "5.001", "50"));
+        assertEquals(new PercentType(100), toType(mapper, "5.001", "100"));
+        assertEquals(new DecimalType(42), toType(mapper, "5.010", "42"));
+
+        assertEquals(new DecimalType(21.5), toType(mapper, "9.001", "21.5"));
+        assertEquals(new DecimalType(-3.5), toType(mapper, "9.001", "-3.5"));
+
+        assertEquals(new DecimalType(1.5f), toType(mapper, "14.019", "1.5"));
+        assertEquals(new DecimalType(230f), toType(mapper, "14.027", "230"));
+
+        assertEquals(new StringType("abc"), toType(mapper, "16.000", "abc"));
+    }
+
+    private Type toType(KNXCoreTypeMapper mapper, String dpt, String value) throws KNXException {
+        DPTXlator translator = TranslatorTypes.createTranslator(0, dpt);
+        translator.setValue(value);
+        return mapper.toType(new CommandDP(new GroupAddress("1/0/1"), "test", 0, dpt), translator.getData());
+    }
 }
@@ -48,6 +48,13 @@ public class ModbusBindingConstantsInternal {
     public static final String CHANNEL_LAST_READ_ERROR = "lastReadError";
     public static final String CHANNEL_LAST_WRITE_SUCCESS = "lastWriteSuccess";
     public static final String CHANNEL_LAST_WRITE_ERROR = "lastWriteError";
+    public static final String CHANNEL_REQUEST_COUNT = "requestCount";
+    public static final String CHANNEL_ERROR_COUNT = "errorCount";
+    public static final String CHANNEL_QUEUE_DEPTH = "queueDepth";
+    public static final String CHANNEL_AVERAGE_TRANSACTION_MILLIS = "averageTransactionMillis";
+    public static final String CHANNEL_AVERAGE_CONNECTION_WAIT_MILLIS = "averageConnectionWaitMillis";
+    public static final String CHANNEL_TRANSACTION_LATENCY_HISTOGRAM = "transactionLatencyHistogram";
+    public static final String CHANNEL_ERROR_COUNTS_BY_TYPE = "errorCountsByType";
 
     public static final String[] DATA_CHANNELS = { CHANNEL_SWITCH, CHANNEL_CONTACT, CHANNEL_DATETIME, CHANNEL_DIMMER,
             CHANNEL_NUMBER, CHANNEL_STRING, CHANNEL_ROLLERSHUTTER };
@@ -34,6 +34,7 @@ public class ModbusDataConfiguration {
     private boolean writeMultipleEvenWithSingleRegisterOrCoil;
     private int writeMaxTries = 3; // backwards compatibility and tests
     private long updateUnchangedValuesEveryMillis = 1000L;
+    private int unchangedDataRefreshPolls;
 
     public @Nullable String getReadStart() {
         return readStart;
@@ -114,4 +115,17 @@ public class ModbusDataConfiguration {
     public void setUpdateUnchangedValuesEveryMillis(long updateUnchangedValuesEveryMillis) {
         this.updateUnchangedValuesEveryMillis = updateUnchangedValuesEveryMillis;
     }
+
+    /**
+     * Gets the maximum number of consecutive polls with unchanged data that are not processed.
+     *
+     * Value of 0 (default) means that data is processed with every poll.
+     */
+    public int getUnchangedDataRefreshPolls() {
+        return unchangedDataRefreshPolls;
+    }
+
+    public void setUnchangedDataRefreshPolls(int unchangedDataRefreshPolls) {
+        this.unchangedDataRefreshPolls = unchangedDataRefreshPolls;
+    }
 }
@@ -12,17 +12,31 @@
  */
 package org.openhab.binding.modbus.internal.handler;
 
+import static org.openhab.binding.modbus.internal.ModbusBindingConstantsInternal.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.eclipse.smarthome.core.library.types.DecimalType;
+import org.eclipse.smarthome.core.library.types.StringType;
 import org.eclipse.smarthome.core.thing.Bridge;
 import org.eclipse.smarthome.core.thing.ChannelUID;
 import org.eclipse.smarthome.core.thing.ThingStatus;
 import org.eclipse.smarthome.core.thing.ThingStatusDetail;
 import org.eclipse.smarthome.core.thing.binding.BaseBridgeHandler;
 import org.eclipse.smarthome.core.types.Command;
+import org.eclipse.smarthome.core.types.RefreshType;
+import org.eclipse.smarthome.core.types.State;
 import org.openhab.binding.modbus.handler.ModbusEndpointThingHandler;
 import org.openhab.binding.modbus.internal.ModbusConfigurationException;
 import org.openhab.io.transport.modbus.ModbusCommunicationInterface;
+import org.openhab.io.transport.modbus.ModbusEndpointMetrics;
 import org.openhab.io.transport.modbus.ModbusManager;
 import org.openhab.io.transport.modbus.endpoint.EndpointPoolConfiguration;
 import org.openhab.io.transport.modbus.endpoint.ModbusSlaveEndpoint;
@@ -41,12 +55,18 @@ import org.slf4j.LoggerFactory;
 public abstract class AbstractModbusEndpointThingHandler<E extends ModbusSlaveEndpoint, C> extends BaseBridgeHandler
         implements ModbusEndpointThingHandler {
 
+    /**
+     * Interval for updating the metrics channels
+     */
+    private static final long METRICS_UPDATE_INTERVAL_SECONDS = 10;
+
     protected volatile @Nullable C config;
     protected volatile @Nullable E endpoint;
     protected ModbusManager modbusManager;
     protected volatile @Nullable EndpointPoolConfiguration poolConfiguration;
     private final Logger logger = LoggerFactory.getLogger(AbstractModbusEndpointThingHandler.class);
     private @NonNullByDefault({}) ModbusCommunicationInterface comms;
+    private volatile @Nullable ScheduledFuture<?> metricsUpdateJob;
 
     public AbstractModbusEndpointThingHandler(Bridge bridge, ModbusManager modbusManager) {
         super(bridge);
@@ -55,6 +75,9 @@ public abstract class AbstractModbusEndpointThingHandler<E extends ModbusSlaveEn
 
     @Override
     public void handleCommand(ChannelUID channelUID, Command command) {
+        if (command instanceof RefreshType) {
+            updateMetrics();
+        }
     }
 
     @Override
@@ -76,6 +99,8 @@ public abstract class AbstractModbusEndpointThingHandler<E extends ModbusSlaveEn
                 try {
                     comms = modbusManager.newModbusCommunicationInterface(endpoint, poolConfiguration);
                     updateStatus(ThingStatus.ONLINE);
+                    metricsUpdateJob = scheduler.scheduleWithFixedDelay(this::updateMetrics,
+                            METRICS_UPDATE_INTERVAL_SECONDS, METRICS_UPDATE_INTERVAL_SECONDS, TimeUnit.SECONDS);
                 } catch (IllegalArgumentException e) {
                     updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_ERROR,
                             formatConflictingParameterError());
@@ -92,6 +117,11 @@ public abstract class AbstractModbusEndpointThingHandler<E extends ModbusSlaveEn
 
     @Override
     public void dispose() {
+        ScheduledFuture<?> localMetricsUpdateJob = metricsUpdateJob;
+        if (localMetricsUpdateJob != null) {
+            localMetricsUpdateJob.cancel(false);
+            metricsUpdateJob = null;
+        }
         try {
             ModbusCommunicationInterface localComms = comms;
             if (localComms != null) {
@@ -104,6 +134,71 @@ public abstract class AbstractModbusEndpointThingHandler<E extends ModbusSlaveEn
         }
     }
 
+    /**
+     * Update the metrics channels with the current metrics of the endpoint
+     */
+    private void updateMetrics() {
+        E endpoint = this.endpoint;
+        if (endpoint == null) {
+            return;
+        }
+        ModbusEndpointMetrics metrics = modbusManager.getEndpointMetrics(endpoint);
+        if (metrics == null) {
+            return;
+        }
+        updateMetric(CHANNEL_REQUEST_COUNT, new DecimalType(metrics.getRequestCount()));
+        updateMetric(CHANNEL_ERROR_COUNT, new DecimalType(metrics.getErrorCount()));
+        updateMetric(CHANNEL_QUEUE_DEPTH, new DecimalType(metrics.getQueueDepth()));
+        updateMetric(CHANNEL_AVERAGE_TRANSACTION_MILLIS,
+                new DecimalType(BigDecimal.valueOf(metrics.getAverageTransactionMillis())));
+        updateMetric(CHANNEL_AVERAGE_CONNECTION_WAIT_MILLIS,
+                new DecimalType(BigDecimal.valueOf(metrics.getAverageConnectionBorrowWaitMillis())));
+        updateMetric(CHANNEL_TRANSACTION_LATENCY_HISTOGRAM,
+                new StringType(formatLatencyHistogram(metrics.getTransactionLatencyHistogram())));
+        updateMetric(CHANNEL_ERROR_COUNTS_BY_TYPE,
+                new StringType(formatErrorCounts(metrics.getErrorCountsByType())));
+    }
+
+    /**
+     * Format the latency histogram as text, e.g. "<=10ms: 12, <=25ms: 3, ..., >5000ms: 0"
+     */
+    private static String formatLatencyHistogram(long[] histogram) {
+        List<Long> limits = ModbusEndpointMetrics.TRANSACTION_LATENCY_BUCKET_LIMITS_MILLIS;
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < histogram.length; i++) {
+            if (i > 0) {
+                text.append(", ");
+            }
+            if (i < limits.size()) {
+                text.append("<=").append(limits.get(i));
+            } else {
+                text.append('>').append(limits.get(limits.size() - 1));
+            }
+            text.append("ms: ").append(histogram[i]);
+        }
+        return text.toString();
+    }
+
+    /**
+     * Format the error counts as text ordered by the error type, e.g. "ModbusSlaveIOExceptionImpl: 2"
+     */
+    private static String formatErrorCounts(Map<String, Long> errorCounts) {
+        StringBuilder text = new StringBuilder();
+        new TreeMap<>(errorCounts).forEach((type, count) -> {
+            if (text.length() > 0) {
+                text.append(", ");
+            }
+            text.append(type).append(": ").append(count);
+        });
+        return text.toString();
+    }
+
+    private void updateMetric(String channelId, State value) {
+        if (isLinked(channelId)) {
+            updateState(channelId, value);
+        }
+    }
+
     @Override
     public @Nullable ModbusCommunicationInterface getCommunicationInterface() {
         return comms;
@@ -138,6 +138,7 @@ public class ModbusDataThingHandler extends BaseThingHandler {
     private volatile @Nullable ModbusReadFunctionCode functionCode;
     private volatile @Nullable ModbusReadRequestBlueprint readRequest;
     private volatile long updateUnchangedValuesEveryMillis;
+    private volatile int unchangedDataRefreshPolls;
     private volatile @NonNullByDefault({}) ModbusCommunicationInterface comms;
     private volatile boolean isWriteEnabled;
     private volatile boolean isReadEnabled;
@@ -147,6 +148,12 @@ public class ModbusDataThingHandler extends BaseThingHandler {
     private volatile Map<String, ChannelUID> channelCache = new HashMap<>();
     private volatile Map<ChannelUID, Long> channelLastUpdated = new HashMap<>(NUMER_OF_CHANNELS_HINT);
     private volatile Map<ChannelUID, State> channelLastState = new HashMap<>(NUMER_OF_CHANNELS_HINT);
+    /**
+     * Raw polled data (registers or bit) corresponding to channelLastState, used to skip processing of unchanged data
+     */
+    private volatile long lastReadFingerprint;
+    private volatile boolean lastReadFingerprintValid;
+    private volatile int unchangedPolls;
 
     private volatile LocalDateTime lastStatusInfoUpdate = LocalDateTime.MIN;
     private volatile ThingStatusInfo statusInfo = new ThingStatusInfo(ThingStatus.UNKNOWN, ThingStatusDetail.NONE,
@@ -336,6 +343,7 @@ public class ModbusDataThingHandler extends BaseThingHandler {
             logger.trace("initialize() of thing {} '{}' starting", thing.getUID(), thing.getLabel());
             ModbusDataConfiguration localConfig = config = getConfigAs(ModbusDataConfiguration.class);
             updateUnchangedValuesEveryMillis = localConfig.getUpdateUnchangedValuesEveryMillis();
+            unchangedDataRefreshPolls = localConfig.getUnchangedDataRefreshPolls();
             Bridge bridge = getBridge();
             if (bridge == null) {
                 logger.debug("Thing {} '{}' has no bridge", getThing().getUID(), getThing().getLabel());
@@ -414,6 +422,8 @@ public class ModbusDataThingHandler extends BaseThingHandler {
         statusInfo = new ThingStatusInfo(ThingStatus.UNKNOWN, ThingStatusDetail.NONE, null);
         channelLastUpdated = new HashMap<>(NUMER_OF_CHANNELS_HINT);
         channelLastState = new HashMap<>(NUMER_OF_CHANNELS_HINT);
+        lastReadFingerprintValid = false;
+        unchangedPolls = 0;
     }
 
     @Override
@@ -423,6 +433,14 @@ public class ModbusDataThingHandler extends BaseThingHandler {
         this.initialize();
     }
 
+    @Override
+    public synchronized void channelLinked(ChannelUID channelUID) {
+        // Newly linked channel has no previous state, ensure that next poll is processed fully
+        lastReadFingerprintValid = false;
+        unchangedPolls = 0;
+        super.channelLinked(channelUID);
+    }
+
     private boolean hasConfigurationError() {
         ThingStatusInfo statusInfo = getThing().getStatusInfo();
         return statusInfo.getStatus() == ThingStatus.OFFLINE
@@ -702,10 +720,25 @@ public class ModbusDataThingHandler extends BaseThingHandler {
             int itemsPerRegister = 16 / readValueType.getBits();
             extractIndex = (readIndex.get() - pollStart) * itemsPerRegister + subIndex;
         }
+        int firstRegister = readIndex.get() - pollStart;
+        int registerCount = Math.max(1, readValueType.getBits() / 16);
+        boolean fingerprintAvailable = firstRegister + registerCount <= registers.size();
+        if (fingerprintAvailable) {
+            // At most four registers (64 bits) per value, the fingerprint is the raw data itself
+            long fingerprint = 0;
+            for (int i = 0; i < registerCount; i++) {
+                fingerprint = (fingerprint << 16) | registers.getUnsignedRegisterValue(firstRegister + i);
+            }
+            if (skipUnchangedData(fingerprint)) {
+                return;
+            }
+            lastReadFingerprint = fingerprint;
+        }
         numericState = ModbusBitUtilities.extractStateFromRegisters(registers, extractIndex, readValueType)
                 .map(state -> (State) state).orElse(UnDefType.UNDEF);
         boolean boolValue = !numericState.equals(DecimalType.ZERO);
         Map<ChannelUID, State> values = processUpdatedValue(numericState, boolValue);
+        lastReadFingerprintValid = fingerprintAvailable;
         logger.debug(
                 "Thing {} channels updated: {}. readValueType={}, readIndex={}, readSubIndex(or 0)={}, extractIndex={} -> numeric value {} and boolValue={}. Registers {} for request {}",
                 thing.getUID(), values, readValueType, readIndex, readSubIndex.orElse(0), extractIndex, numericState,
@@ -719,8 +752,13 @@ public class ModbusDataThingHandler extends BaseThingHandler {
             return;
         }
         boolean boolValue = bits.getBit(readIndex.get() - pollStart);
+        if (skipUnchangedData(boolValue ? 1 : 0)) {
+            return;
+        }
+        lastReadFingerprint = boolValue ? 1 : 0;
         DecimalType numericState = boolValue ? new DecimalType(BigDecimal.ONE) : DecimalType.ZERO;
         Map<ChannelUID, State> values = processUpdatedValue(numericState, boolValue);
+        lastReadFingerprintValid = true;
         logger.debug(
                 "Thing {} channels updated: {}. readValueType={}, readIndex={} -> numeric value {} and boolValue={}. Bits {} for request {}",
                 thing.getUID(), values, readValueType, readIndex, numericState, boolValue, bits, request);
@@ -744,6 +782,7 @@ public class ModbusDataThingHandler extends BaseThingHandler {
                     getThing().getUID(), getThing().getLabel(), error.getClass().getName(), error.toString(),
                     error.getMessage(), error);
         }
+        lastReadFingerprintValid = false;
         Map<ChannelUID, State> states = new HashMap<>();
         ChannelUID lastReadErrorUID = getChannelUID(ModbusBindingConstantsInternal.CHANNEL_LAST_READ_ERROR);
         if (isLinked(lastReadErrorUID)) {
@@ -812,6 +851,35 @@ public class ModbusDataThingHandler extends BaseThingHandler {
         }
     }
 
+    /**
+     * Re-use channel states of the previous poll in case the polled data of this thing is unchanged.
+     *
+     * Extraction and transformation of the value is skipped, and the previous states are updated to the channels
+     * according to updateUnchangedValuesEveryMillis, as if they were re-calculated. Skipping is enabled only with
+     * positive unchangedDataRefreshPolls, and at most that many consecutive polls are skipped.
+     *
+     * @param fingerprint raw polled data of this thing
+     * @return whether the data was unchanged and processing can be skipped
+     */
+    private boolean skipUnchangedData(long fingerprint) {
+        if (unchangedDataRefreshPolls <= 0 || !lastReadFingerprintValid || lastReadFingerprint != fingerprint
+                || unchangedPolls >= unchangedDataRefreshPolls) {
+            // Processing is needed, fingerprint is valid again once the new channel states are calculated
+            lastReadFingerprintValid = false;
+            unchangedPolls = 0;
+            return false;
+        }
+        unchangedPolls++;
+        Map<ChannelUID, State> states = new HashMap<>(channelLastState);
+        ChannelUID lastReadSuccessUID = getChannelUID(ModbusBindingConstantsInternal.CHANNEL_LAST_READ_SUCCESS);
+        if (isLinked(lastReadSuccessUID)) {
+            states.put(lastReadSuccessUID, new DateTimeType());
+        }
+        updateExpiredChannels(states);
+        logger.trace("Thing {} data unchanged, re-using previous channel states {}", thing.getUID(), states);
+        return true;
+    }
+
     /**
      * Update linked channels
      *
@@ -59,6 +59,8 @@ public class ModbusTcpThingHandler
         poolConfiguration.setInterConnectDelayMillis(config.getTimeBetweenReconnectMillis());
         poolConfiguration.setInterTransactionDelayMillis(config.getTimeBetweenTransactionsMillis());
         poolConfiguration.setReconnectAfterMillis(config.getReconnectAfterMillis());
+        poolConfiguration.setCoalescePolls(config.isCoalescePolls());
+        poolConfiguration.setMaxInFlightTransactions(config.getMaxInFlightTransactions());
     }
 
     @SuppressWarnings("null") // since Optional.map is always called with NonNull argument
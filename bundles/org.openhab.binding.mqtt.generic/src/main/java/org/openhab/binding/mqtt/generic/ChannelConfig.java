@@ -37,6 +37,10 @@ public class ChannelConfig {
      * Instead a postCommand() call is performed.
      */
     public boolean postCommand = false;
+    /**
+     * If true, a received value that results in the current channel state does not update the channel state again.
+     */
+    public boolean suppressUnchanged = false;
     public @Nullable Integer qos;
     public boolean retained = false;
     /** If true, the state topic will not update a state, but trigger a channel instead. */
@@ -69,6 +69,11 @@ public class ChannelConfigBuilder {
         return this;
     }
 
+    public ChannelConfigBuilder withSuppressUnchanged(boolean suppressUnchanged) {
+        config.suppressUnchanged = suppressUnchanged;
+        return this;
+    }
+
     public ChannelConfigBuilder makeTrigger(boolean trigger) {
         config.trigger = trigger;
         return this;
@@ -27,6 +27,7 @@ import org.eclipse.jdt.annotation.Nullable;
 import org.eclipse.smarthome.core.library.types.StringType;
 import org.eclipse.smarthome.core.thing.ChannelUID;
 import org.eclipse.smarthome.core.types.Command;
+import org.eclipse.smarthome.core.types.State;
 import org.eclipse.smarthome.core.types.TypeParser;
 import org.eclipse.smarthome.io.transport.mqtt.MqttBrokerConnection;
 import org.eclipse.smarthome.io.transport.mqtt.MqttMessageSubscriber;
@@ -152,6 +153,15 @@ public class ChannelState implements MqttMessageSubscriber {
             return;
         }
 
+        // Fast path: Simple payloads without transformations are parsed without decoding them to a string first
+        if (transformationsIn.isEmpty() && !config.trigger) {
+            Command command = cachedValue.parseCommand(payload);
+            if (command != null) {
+                processCommand(channelStateUpdateListener, command);
+                return;
+            }
+        }
+
         // String value: Apply transformations
         String strValue = new String(payload, StandardCharsets.UTF_8);
         for (ChannelStateTransformation t : transformationsIn) {
@@ -180,6 +190,10 @@ public class ChannelState implements MqttMessageSubscriber {
             return;
         }
 
+        processCommand(channelStateUpdateListener, command);
+    }
+
+    private void processCommand(ChannelStateUpdateListener channelStateUpdateListener, Command command) {
         Command postOnlyCommand = cachedValue.isPostOnly(command);
         if (postOnlyCommand != null) {
             channelStateUpdateListener.postChannelCommand(channelUID, postOnlyCommand);
@@ -187,11 +201,12 @@ public class ChannelState implements MqttMessageSubscriber {
             return;
         }
 
-        // Map the string to an ESH command, update the cached value and post the command to the framework
+        // Update the cached value and post the command to the framework
+        State oldState = cachedValue.getChannelState();
         try {
             cachedValue.update(command);
         } catch (IllegalArgumentException | IllegalStateException e) {
-            logger.warn("Command '{}' not supported by type '{}': {}", strValue, cachedValue.getClass().getSimpleName(),
+            logger.warn("Command '{}' not supported by type '{}': {}", command, cachedValue.getClass().getSimpleName(),
                     e.getMessage());
             receivedOrTimeout();
             return;
@@ -199,6 +214,8 @@ public class ChannelState implements MqttMessageSubscriber {
 
         if (config.postCommand) {
             channelStateUpdateListener.postChannelCommand(channelUID, (Command) cachedValue.getChannelState());
+        } else if (config.suppressUnchanged && oldState.equals(cachedValue.getChannelState())) {
+            logger.trace("State of channel {} unchanged, not updating it", channelUID);
         } else {
             channelStateUpdateListener.updateChannelState(channelUID, cachedValue.getChannelState());
         }
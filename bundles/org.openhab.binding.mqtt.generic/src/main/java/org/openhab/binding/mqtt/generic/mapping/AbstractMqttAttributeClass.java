@@ -18,6 +18,7 @@ import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.stream.Collectors;
@@ -287,7 +288,8 @@ public abstract class AbstractMqttAttributeClass implements SubscribeFieldToMQTT
 
     /**
      * One of the observed MQTT topics got a new value. Apply this to the given field now
-     * and propagate the changed value event.
+     * and propagate the changed value event. A value equal to the current field value is not propagated,
+     * once all mandatory fields have been received.
      */
     @Override
     public void fieldChanged(Field field, Object value) {
@@ -303,6 +305,11 @@ public abstract class AbstractMqttAttributeClass implements SubscribeFieldToMQTT
         // Set field. It is not a reason to fail the future exceptionally if a field could not be set.
         // But at least issue a warning to the log.
         try {
+            // Retained attribute topics are often republished: Only propagate actual changes
+            if (complete && Objects.deepEquals(field.get(getFieldsOf()), value)) {
+                logger.trace("Attribute {} unchanged", field.getName());
+                return;
+            }
             field.set(getFieldsOf(), value);
             final boolean newComplete = !subscriptions.stream().anyMatch(s -> s.isMandatory() && !s.hasReceivedValue());
             attributeChangedListener.attributeChanged(field.getName(), value, connection, scheduler, newComplete);
@@ -13,11 +13,14 @@
 package org.openhab.binding.mqtt.generic.tools;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 
@@ -25,47 +28,95 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 
 /**
- * Collects objects over time until a specified delay passed by.
+ * Collects objects over time until a specified delay passed by without new objects.
  * Then call the user back with a list of accumulated objects and start over again.
  *
+ * <p>
+ * A constant stream of objects does not postpone the delivery indefinitely: The accumulated objects are delivered
+ * at the latest after a maximum latency, counted from the first object of the batch, or as soon as the maximum batch
+ * size is reached.
+ * </p>
+ *
+ * <p>
+ * Adding objects is lock-free and does not reschedule the timer. A single timer is armed for each batch, which
+ * re-arms itself as long as the quiet period has not passed yet.
+ * </p>
+ *
  * @author David Graeff - Initial contribution
  *
  * @param <T> Any object
  */
 @NonNullByDefault
 public class DelayedBatchProcessing<T> implements Consumer<T> {
-    private final int delay;
+    /** The default maximum latency, as a multiple of the delay */
+    public static final int DEFAULT_MAX_LATENCY_FACTOR = 10;
+
+    private final long delayNanos;
+    private final long maxLatencyNanos;
+    private final int maxBatchSize;
     private final Consumer<List<T>> consumer;
-    private final List<T> queue = Collections.synchronizedList(new ArrayList<>());
+    private final Queue<T> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queueSize = new AtomicInteger();
     private final ScheduledExecutorService executor;
+    private final AtomicBoolean armed = new AtomicBoolean();
+    private volatile long batchStartNanos;
+    private volatile long lastAcceptNanos;
     protected final AtomicReference<@Nullable ScheduledFuture<?>> futureRef = new AtomicReference<>();
 
     /**
-     * Creates a {@link DelayedBatchProcessing}.
+     * Creates a {@link DelayedBatchProcessing} with a maximum latency of {@link #DEFAULT_MAX_LATENCY_FACTOR} times the
+     * delay and no maximum batch size.
      *
      * @param delay A delay in milliseconds
      * @param consumer A consumer of the list of collected objects
      * @param executor A scheduled executor service
      */
     public DelayedBatchProcessing(int delay, Consumer<List<T>> consumer, ScheduledExecutorService executor) {
-        this.delay = delay;
-        this.consumer = consumer;
-        this.executor = executor;
+        this(delay, delay * DEFAULT_MAX_LATENCY_FACTOR, Integer.MAX_VALUE, consumer, executor);
+    }
+
+    /**
+     * Creates a {@link DelayedBatchProcessing}.
+     *
+     * @param delay A delay in milliseconds. Objects are delivered after this quiet period without new objects.
+     * @param maxLatency A maximum latency in milliseconds. Objects are delivered at the latest after this time.
+     * @param maxBatchSize A maximum number of objects delivered in one batch
+     * @param consumer A consumer of the list of collected objects
+     * @param executor A scheduled executor service
+     */
+    public DelayedBatchProcessing(int delay, int maxLatency, int maxBatchSize, Consumer<List<T>> consumer,
+            ScheduledExecutorService executor) {
         if (delay <= 0) {
             throw new IllegalArgumentException("Delay need to be greater than 0!");
         }
+        if (maxLatency < delay) {
+            throw new IllegalArgumentException("Maximum latency need to be at least the delay!");
+        }
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException("Maximum batch size need to be greater than 0!");
+        }
+        this.delayNanos = TimeUnit.MILLISECONDS.toNanos(delay);
+        this.maxLatencyNanos = TimeUnit.MILLISECONDS.toNanos(maxLatency);
+        this.maxBatchSize = maxBatchSize;
+        this.consumer = consumer;
+        this.executor = executor;
     }
 
     /**
      * Add new object to the batch process list. Every time a new object is received,
-     * the delay timer is rescheduled.
+     * the quiet period starts again, up to the maximum latency.
      *
      * @param t An object
      */
     @Override
     public void accept(T t) {
         queue.add(t);
-        cancel(futureRef.getAndSet(executor.schedule(this::run, delay, TimeUnit.MILLISECONDS)));
+        lastAcceptNanos = System.nanoTime();
+        if (queueSize.incrementAndGet() >= maxBatchSize) {
+            executor.execute(this::processFullBatch);
+        } else {
+            arm();
+        }
     }
 
     /**
@@ -74,40 +125,94 @@ public class DelayedBatchProcessing<T> implements Consumer<T> {
      * @return A list of accumulated objects
      */
     public List<T> join() {
-        cancel(futureRef.getAndSet(null));
-        List<T> lqueue = new ArrayList<>();
-        synchronized (queue) {
-            lqueue.addAll(queue);
-            queue.clear();
-        }
-        return lqueue;
+        disarm();
+        return drain(Integer.MAX_VALUE);
     }
 
     /**
      * Return true if there is a delayed processing going on.
      */
     public boolean isArmed() {
-        ScheduledFuture<?> scheduledFuture = this.futureRef.get();
-        return scheduledFuture != null && !scheduledFuture.isDone();
+        return armed.get();
     }
 
     /**
      * Deliver queued items now to the target consumer.
      */
     public void forceProcessNow() {
+        disarm();
+        run();
+    }
+
+    private void arm() {
+        if (armed.compareAndSet(false, true)) {
+            batchStartNanos = System.nanoTime();
+            futureRef.set(executor.schedule(this::check, delayNanos, TimeUnit.NANOSECONDS));
+        }
+    }
+
+    private void disarm() {
+        armed.set(false);
         cancel(futureRef.getAndSet(null));
+    }
+
+    /**
+     * Timer callback: Deliver the batch if the quiet period or the maximum latency has passed, otherwise wait for
+     * whichever comes first.
+     */
+    private void check() {
+        if (!armed.get()) {
+            // Disarmed in the meantime
+            return;
+        }
+        if (queue.isEmpty()) {
+            // Delivered in the meantime because the batch was full
+            armed.set(false);
+            if (!queue.isEmpty()) {
+                // Object added concurrently, which did not arm the timer
+                arm();
+            }
+            return;
+        }
+        long now = System.nanoTime();
+        long deadline = Math.min(lastAcceptNanos + delayNanos, batchStartNanos + maxLatencyNanos);
+        if (deadline - now > 0) {
+            futureRef.set(executor.schedule(this::check, deadline - now, TimeUnit.NANOSECONDS));
+            return;
+        }
+        // Disarm before draining, objects added from now on belong to the next batch
+        armed.set(false);
         run();
     }
 
-    private void run() {
+    private synchronized void processFullBatch() {
+        while (queueSize.get() >= maxBatchSize) {
+            List<T> lqueue = drain(maxBatchSize);
+            if (lqueue.isEmpty()) {
+                break;
+            }
+            consumer.accept(lqueue);
+        }
+    }
+
+    private List<T> drain(int limit) {
         List<T> lqueue = new ArrayList<>();
-        synchronized (queue) {
-            lqueue.addAll(queue);
-            queue.clear();
+        T t;
+        while (lqueue.size() < limit && (t = queue.poll()) != null) {
+            queueSize.decrementAndGet();
+            lqueue.add(t);
         }
+        return lqueue;
+    }
 
-        if (!lqueue.isEmpty()) {
+    // Synchronized, so that batches are delivered one after another in the order of the objects
+    private synchronized void run() {
+        List<T> lqueue;
+        while (!(lqueue = drain(maxBatchSize)).isEmpty()) {
             consumer.accept(lqueue);
+            if (lqueue.size() < maxBatchSize) {
+                break;
+            }
         }
     }
 
@@ -87,6 +87,12 @@ public class NumberValue extends Value {
         return state.format(formatPattern);
     }
 
+    @Override
+    public @Nullable Command parseCommand(byte[] payload) {
+        BigDecimal value = parseDecimal(payload);
+        return value == null ? null : new DecimalType(value);
+    }
+
     @Override
     public void update(Command command) throws IllegalArgumentException {
         DecimalType oldvalue = (state == UnDefType.UNDEF) ? new DecimalType() : (DecimalType) state;
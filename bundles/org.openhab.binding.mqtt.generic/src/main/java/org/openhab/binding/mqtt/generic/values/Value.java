@@ -14,6 +14,7 @@ package org.openhab.binding.mqtt.generic.values;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.math.BigDecimal;
 import java.net.URLConnection;
 import java.util.List;
 
@@ -135,6 +136,58 @@ public abstract class Value {
         return null;
     }
 
+    /**
+     * Parses a MQTT payload directly into a command, without decoding it into a string first.
+     *
+     * This is a fast path for frequent simple payloads, used if no transformations are configured. Values may
+     * recognize payloads which parse into the same command as the string payload parsed with the
+     * {@link #getSupportedCommandTypes()}. Returns null for all other payloads, which are then parsed the regular way.
+     *
+     * @param payload The MQTT payload
+     * @return The command or null if the payload is not recognized.
+     */
+    public @Nullable Command parseCommand(byte[] payload) {
+        return null;
+    }
+
+    /**
+     * Parses a plain decimal number ("-12", "21.5") from an ASCII payload.
+     *
+     * Numbers with an exponent, whitespace or a unit are not recognized.
+     *
+     * @param payload The MQTT payload
+     * @return The number or null if the payload is not a plain decimal number.
+     */
+    protected static @Nullable BigDecimal parseDecimal(byte[] payload) {
+        int length = payload.length;
+        int start = length > 0 && payload[0] == '-' ? 1 : 0;
+        if (start == length || length > 64) {
+            return null;
+        }
+        int pointIndex = -1;
+        for (int i = start; i < length; i++) {
+            byte b = payload[i];
+            if (b == '.' && pointIndex < 0 && i > start && i < length - 1) {
+                pointIndex = i;
+            } else if (b < '0' || b > '9') {
+                return null;
+            }
+        }
+        if (pointIndex < 0 && length - start <= 18) {
+            // Fits into a long
+            long value = 0;
+            for (int i = start; i < length; i++) {
+                value = value * 10 + (payload[i] - '0');
+            }
+            return BigDecimal.valueOf(start == 0 ? value : -value);
+        }
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = (char) payload[i];
+        }
+        return new BigDecimal(chars);
+    }
+
     /**
      * Updates the internal value state with the given binary payload.
      *
@@ -297,4 +297,22 @@ public class ChannelStateTests {
         assertThat(value.getChannelState(), is(instanceOf(RawType.class)));
         assertThat(((RawType) value.getChannelState()).getMimeType(), is("image/jpeg"));
     }
+
+    @Test
+    public void receiveUnchangedTest() {
+        NumberValue value = new NumberValue(null, null, null, null);
+        ChannelConfig suppressConfig = ChannelConfigBuilder.create("state", "command").withSuppressUnchanged(true)
+                .build();
+        ChannelState c = spy(new ChannelState(suppressConfig, channelUID, value, channelStateUpdateListener));
+        c.start(connection, mock(ScheduledExecutorService.class), 100);
+
+        c.processMessage("state", "15".getBytes());
+        c.processMessage("state", "15".getBytes());
+        c.processMessage("state", "15.0".getBytes());
+        verify(channelStateUpdateListener, times(1)).updateChannelState(eq(channelUID), any());
+
+        c.processMessage("state", "16".getBytes());
+        assertThat(value.getChannelState().toString(), is("16"));
+        verify(channelStateUpdateListener, times(2)).updateChannelState(eq(channelUID), any());
+    }
 }
@@ -203,4 +203,28 @@ public class MqttTopicClassMapperTests {
 
         assertThat(future.isDone(), is(true));
     }
+
+    @SuppressWarnings({ "null", "unused" })
+    @Test
+    public void unchangedValueNotPropagated() {
+        final Attributes attributes = spy(new Attributes());
+
+        doAnswer(this::createSubscriberAnswer).when(attributes).createSubscriber(any(), any(), anyString(),
+                anyBoolean());
+
+        attributes.subscribeAndReceive(connection, executor, "homie/device123", fieldChangedObserver, 10);
+
+        SubscribeFieldToMQTTtopic f = attributes.subscriptions.stream()
+                .filter(s -> s.field.getName().equals("aString")).findFirst().get();
+        f.processMessage(f.topic, "string".getBytes());
+        verify(fieldChangedObserver, times(1)).attributeChanged(any(), any(), any(), any(), anyBoolean());
+
+        // A republished, unchanged value
+        f.processMessage(f.topic, "string".getBytes());
+        verify(fieldChangedObserver, times(1)).attributeChanged(any(), any(), any(), any(), anyBoolean());
+
+        f.processMessage(f.topic, "changed".getBytes());
+        verify(fieldChangedObserver, times(2)).attributeChanged(any(), any(), any(), any(), anyBoolean());
+        assertThat(attributes.aString, is("changed"));
+    }
 }
@@ -0,0 +1,101 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.mqtt.generic.tools;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the {@link DelayedBatchProcessing} class.
+ *
+ * @author agent - Initial contribution
+ */
+public class DelayedBatchProcessingTests {
+    private ScheduledExecutorService scheduler;
+    private final List<List<Integer>> batches = Collections.synchronizedList(new ArrayList<>());
+
+    @Before
+    public void setUp() {
+        scheduler = new ScheduledThreadPoolExecutor(1);
+    }
+
+    @After
+    public void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    private void waitForBatches(int count) throws InterruptedException {
+        for (int i = 0; i < 100 && batches.size() < count; i++) {
+            Thread.sleep(20);
+        }
+    }
+
+    @Test
+    public void deliveredAfterDelay() throws InterruptedException {
+        DelayedBatchProcessing<Integer> subject = new DelayedBatchProcessing<>(50, batches::add, scheduler);
+        subject.accept(1);
+        subject.accept(2);
+        subject.accept(3);
+        assertTrue(subject.isArmed());
+
+        waitForBatches(1);
+        assertThat(batches, is(Arrays.asList(Arrays.asList(1, 2, 3))));
+        assertFalse(subject.isArmed());
+    }
+
+    @Test
+    public void deliveredAfterMaxLatency() throws InterruptedException {
+        DelayedBatchProcessing<Integer> subject = new DelayedBatchProcessing<>(100, 300, Integer.MAX_VALUE,
+                batches::add, scheduler);
+        // A constant stream of objects, faster than the delay
+        for (int i = 0; i < 50 && batches.isEmpty(); i++) {
+            subject.accept(i);
+            Thread.sleep(20);
+        }
+        assertFalse("Batch expected to be delivered while objects are still added", batches.isEmpty());
+    }
+
+    @Test
+    public void deliveredAtMaxBatchSize() throws InterruptedException {
+        DelayedBatchProcessing<Integer> subject = new DelayedBatchProcessing<>(50, 500, 3, batches::add, scheduler);
+        for (int i = 1; i <= 7; i++) {
+            subject.accept(i);
+        }
+
+        waitForBatches(3);
+        assertThat(batches, is(Arrays.asList(Arrays.asList(1, 2, 3), Arrays.asList(4, 5, 6), Arrays.asList(7))));
+    }
+
+    @Test
+    public void join() {
+        DelayedBatchProcessing<Integer> subject = new DelayedBatchProcessing<>(50, 500, 3, batches::add, scheduler);
+        subject.accept(1);
+        subject.accept(2);
+
+        assertThat(subject.join(), is(Arrays.asList(1, 2)));
+        assertFalse(subject.isArmed());
+        subject.forceProcessNow();
+        assertTrue(batches.isEmpty());
+    }
+}
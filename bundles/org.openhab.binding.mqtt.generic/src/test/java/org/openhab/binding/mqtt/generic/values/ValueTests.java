@@ -16,6 +16,7 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.*;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 
 import org.eclipse.smarthome.core.library.types.DecimalType;
 import org.eclipse.smarthome.core.library.types.HSBType;
@@ -314,4 +315,40 @@ public class ValueTests {
                 null);
         v.update(new DecimalType(9.0));
     }
+
+    private void assertFastPathEquivalent(Value fastValue, Value regularValue, String payload) {
+        Command command = fastValue.parseCommand(payload.getBytes(StandardCharsets.UTF_8));
+        assertNotNull("Payload '" + payload + "' expected to be parsed by the fast path", command);
+        fastValue.update(command);
+        regularValue.update(p(regularValue, payload));
+        assertThat(fastValue.getChannelState(), is(regularValue.getChannelState()));
+    }
+
+    @Test
+    public void parseCommandFastPath() {
+        for (String payload : new String[] { "0", "15", "-15", "007", "5.5", "-0.25" }) {
+            assertFastPathEquivalent(new NumberValue(null, null, null, null),
+                    new NumberValue(null, null, null, null), payload);
+        }
+        for (String payload : new String[] { "0", "50", "100", "12.5", "007" }) {
+            assertFastPathEquivalent(new PercentageValue(null, null, null, null, null),
+                    new PercentageValue(null, null, null, null, null), payload);
+        }
+        for (String payload : new String[] { "ON", "OFF", "fancyON", "fancyOFF" }) {
+            assertFastPathEquivalent(new OnOffValue("fancyON", "fancyOFF"), new OnOffValue("fancyON", "fancyOFF"),
+                    payload);
+        }
+        // inverted custom states do not take precedence over the standard states
+        assertFastPathEquivalent(new OnOffValue("OFF", "ON"), new OnOffValue("OFF", "ON"), "ON");
+    }
+
+    @Test
+    public void parseCommandFallback() {
+        NumberValue numberValue = new NumberValue(null, null, null, null);
+        for (String payload : new String[] { "", "-", "1e3", " 1", "1.", ".5", "1.2.3", "21 °C", "INCREASE" }) {
+            assertNull(numberValue.parseCommand(payload.getBytes(StandardCharsets.UTF_8)));
+        }
+        assertNull(new OnOffValue().parseCommand("on".getBytes(StandardCharsets.UTF_8)));
+        assertNull(new TextValue().parseCommand("ON".getBytes(StandardCharsets.UTF_8)));
+    }
 }
@@ -186,6 +186,13 @@ public abstract class AbstractComponent<C extends BaseChannelConfiguration> {
         return channels.get(channelID);
     }
 
+    /**
+     * Return the HomeAssistant topic ID of this component.
+     */
+    public HaID getHaID() {
+        return haID;
+    }
+
     /**
      * @return Returns the configuration hash value for easy comparison.
      */
@@ -14,8 +14,10 @@ package org.openhab.binding.mqtt.homeassistant.internal;
 
 import java.lang.ref.WeakReference;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -58,6 +60,8 @@ public class DiscoverComponents implements MqttMessageSubscriber {
     protected @NonNullByDefault({}) ComponentDiscovered discoveredListener;
     private int discoverTime;
     private Set<String> topics = new HashSet<>();
+    // Configuration hashes of the known components by config topic, see {@link AbstractComponent#getConfigHash()}
+    private final Map<String, Integer> knownConfigHashes = new ConcurrentHashMap<>();
 
     /**
      * Implement this to get notified of new components
@@ -93,6 +97,14 @@ public class DiscoverComponents implements MqttMessageSubscriber {
         HaID haID = new HaID(topic);
         String config = new String(payload);
 
+        // Retained configurations are received again on every start: Only parse changed configurations
+        Integer knownConfigHash = knownConfigHashes.get(topic);
+        if (knownConfigHash != null && knownConfigHash == config.hashCode()) {
+            logger.trace("Configuration of HomeAssistant thing {} component {} unchanged", haID.objectID,
+                    haID.component);
+            return;
+        }
+
         AbstractComponent<?> component = null;
 
         if (config.length() > 0) {
@@ -111,6 +123,16 @@ public class DiscoverComponents implements MqttMessageSubscriber {
         }
     }
 
+    /**
+     * Remember the configuration of a known component. A received configuration equal to the known one is not
+     * parsed and reported again.
+     *
+     * @param component A component restored or discovered before
+     */
+    public void addKnownComponent(AbstractComponent<?> component) {
+        knownConfigHashes.put(component.getHaID().getTopic("config"), component.getConfigHash());
+    }
+
     /**
      * Start a components discovery.
      *
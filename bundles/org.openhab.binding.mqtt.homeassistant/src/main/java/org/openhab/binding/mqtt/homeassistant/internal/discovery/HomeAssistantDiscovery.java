@@ -14,6 +14,7 @@ package org.openhab.binding.mqtt.homeassistant.internal.discovery;
 
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -22,6 +23,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
@@ -70,6 +72,22 @@ public class HomeAssistantDiscovery extends AbstractMQTTDiscovery {
     private @Nullable ScheduledFuture<?> future;
     private final Gson gson;
 
+    /**
+     * Parsed configuration, together with the payload it was parsed from
+     */
+    private static class ParsedConfig {
+        final byte[] payload;
+        final BaseChannelConfiguration config;
+
+        ParsedConfig(byte[] payload, BaseChannelConfiguration config) {
+            this.payload = payload;
+            this.config = config;
+        }
+    }
+
+    // Retained configurations are received on every discovery scan: Only parse changed configurations
+    private final Map<String, ParsedConfig> parsedConfigPerTopic = new ConcurrentHashMap<>();
+
     public static final Map<String, String> HA_COMP_TO_NAME = new TreeMap<>();
     {
         HA_COMP_TO_NAME.put("alarm_control_panel", "Alarm Control Panel");
@@ -147,8 +165,14 @@ public class HomeAssistantDiscovery extends AbstractMQTTDiscovery {
         }
         this.future = scheduler.schedule(this::publishResults, 2, TimeUnit.SECONDS);
 
-        BaseChannelConfiguration config = BaseChannelConfiguration
-                .fromString(new String(payload, StandardCharsets.UTF_8), gson);
+        BaseChannelConfiguration config;
+        ParsedConfig parsedConfig = parsedConfigPerTopic.get(topic);
+        if (parsedConfig != null && Arrays.equals(parsedConfig.payload, payload)) {
+            config = parsedConfig.config;
+        } else {
+            config = BaseChannelConfiguration.fromString(new String(payload, StandardCharsets.UTF_8), gson);
+            parsedConfigPerTopic.put(topic, new ParsedConfig(payload, config));
+        }
 
         // We will of course find multiple of the same unique Thing IDs, for each different component another one.
         // Therefore the components are assembled into a list and given to the DiscoveryResult label for the user to
@@ -209,6 +233,7 @@ public class HomeAssistantDiscovery extends AbstractMQTTDiscovery {
         if (!topic.endsWith("/config")) {
             return;
         }
+        parsedConfigPerTopic.remove(topic);
         if (thingIDPerTopic.containsKey(topic)) {
             ThingUID thingUID = thingIDPerTopic.remove(topic);
             final String thingID = thingUID.getId();
@@ -159,6 +159,7 @@ public class HomeAssistantThingHandler extends AbstractMQTTThingHandler
             if (component != null) {
                 haComponents.put(component.uid().getId(), component);
                 component.addChannelTypes(channelTypeProvider);
+                discoverComponents.addKnownComponent(component);
             } else {
                 logger.warn("Could not restore component {}", thing);
             }
@@ -280,6 +281,7 @@ public class HomeAssistantThingHandler extends AbstractMQTTThingHandler
                 discovered.addChannelTypes(channelTypeProvider);
                 // Add component to the component map
                 haComponents.put(discovered.uid().getId(), discovered);
+                discoverComponents.addKnownComponent(discovered);
                 // Start component / Subscribe to channel topics
                 discovered.start(connection, scheduler, 0).exceptionally(e -> {
                     logger.warn("Failed to start component {}", discovered.uid(), e);
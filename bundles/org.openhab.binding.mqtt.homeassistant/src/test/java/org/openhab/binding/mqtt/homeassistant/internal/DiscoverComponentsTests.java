@@ -0,0 +1,86 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.mqtt.homeassistant.internal;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ScheduledExecutorService;
+
+import org.eclipse.smarthome.core.thing.ThingUID;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.openhab.binding.mqtt.generic.AvailabilityTracker;
+import org.openhab.binding.mqtt.generic.ChannelStateUpdateListener;
+import org.openhab.binding.mqtt.generic.TransformationServiceProvider;
+import org.openhab.binding.mqtt.homeassistant.internal.DiscoverComponents.ComponentDiscovered;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+/**
+ * Tests the {@link DiscoverComponents} class.
+ *
+ * @author agent - Initial contribution
+ */
+public class DiscoverComponentsTests {
+    private static final String TOPIC = "homeassistant/switch/node/object/config";
+    private static final String CONFIG = "{\"name\":\"A\",\"state_topic\":\"node/state\",\"command_topic\":\"node/set\"}";
+
+    @Mock
+    private ScheduledExecutorService scheduler;
+
+    @Mock
+    private ChannelStateUpdateListener channelStateUpdateListener;
+
+    @Mock
+    private AvailabilityTracker availabilityTracker;
+
+    @Mock
+    private TransformationServiceProvider transformationServiceProvider;
+
+    @Mock
+    private ComponentDiscovered discoveredListener;
+
+    private DiscoverComponents subject;
+
+    @Before
+    public void setUp() {
+        MockitoAnnotations.initMocks(this);
+        Gson gson = new GsonBuilder().registerTypeAdapterFactory(new ChannelConfigurationTypeAdapterFactory())
+                .create();
+        subject = new DiscoverComponents(new ThingUID("mqtt:homeassistant:broker:object"), scheduler,
+                channelStateUpdateListener, availabilityTracker, gson, transformationServiceProvider);
+        subject.discoveredListener = discoveredListener;
+    }
+
+    @Test
+    public void knownConfigurationIsNotReportedAgain() {
+        subject.processMessage(TOPIC, CONFIG.getBytes(StandardCharsets.UTF_8));
+        ArgumentCaptor<AbstractComponent<?>> captor = ArgumentCaptor.forClass(AbstractComponent.class);
+        verify(discoveredListener).componentDiscovered(any(), captor.capture());
+
+        subject.addKnownComponent(captor.getValue());
+        subject.processMessage(TOPIC, CONFIG.getBytes(StandardCharsets.UTF_8));
+        verify(discoveredListener, times(1)).componentDiscovered(any(), any());
+
+        // A changed configuration is parsed and reported
+        String changedConfig = CONFIG.replace("\"A\"", "\"B\"");
+        subject.processMessage(TOPIC, changedConfig.getBytes(StandardCharsets.UTF_8));
+        verify(discoveredListener, times(2)).componentDiscovered(any(), any());
+    }
+}
@@ -13,6 +13,7 @@
 package org.openhab.binding.mqtt.homie.internal.handler;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ScheduledFuture;
 import java.util.function.Consumer;
@@ -209,6 +210,7 @@ public class HomieThingHandler extends AbstractMQTTThingHandler implements Devic
     /**
      * Callback of {@link DelayedBatchProcessing}.
      * Add all newly discovered nodes and properties to the Thing and start subscribe to each channel state topic.
+     * The Thing is only updated if the channels actually changed. Already subscribed channel states are kept.
      */
     @Override
     public void accept(@Nullable List<Object> t) {
@@ -217,7 +219,9 @@ public class HomieThingHandler extends AbstractMQTTThingHandler implements Devic
         }
         List<Channel> channels = device.nodes().stream().flatMap(n -> n.properties.stream()).map(Property::getChannel)
                 .collect(Collectors.toList());
-        updateThing(editThing().withChannels(channels).build());
+        if (channelsChanged(thing.getChannels(), channels)) {
+            updateThing(editThing().withChannels(channels).build());
+        }
         updateProperty(MqttBindingConstants.HOMIE_PROPERTY_VERSION, device.attributes.homie);
         final MqttBrokerConnection connection = this.connection;
         if (connection != null) {
@@ -227,6 +231,29 @@ public class HomieThingHandler extends AbstractMQTTThingHandler implements Devic
         }
     }
 
+    /**
+     * Compares the current Thing channels with the channels of the Homie device tree.
+     * {@link Channel} does not implement equals, so all fields derived from the Homie property attributes are compared.
+     */
+    private static boolean channelsChanged(List<Channel> channels, List<Channel> newChannels) {
+        if (channels.size() != newChannels.size()) {
+            return true;
+        }
+        for (int i = 0; i < channels.size(); ++i) {
+            Channel channel = channels.get(i);
+            Channel newChannel = newChannels.get(i);
+            if (!channel.getUID().equals(newChannel.getUID())
+                    || !Objects.equals(channel.getChannelTypeUID(), newChannel.getChannelTypeUID())
+                    || !Objects.equals(channel.getAcceptedItemType(), newChannel.getAcceptedItemType())
+                    || channel.getKind() != newChannel.getKind()
+                    || !Objects.equals(channel.getLabel(), newChannel.getLabel())
+                    || !channel.getConfiguration().equals(newChannel.getConfiguration())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Removes all retained topics related to the device
      */
@@ -17,6 +17,7 @@ import java.math.MathContext;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.stream.Collectors;
@@ -68,6 +69,8 @@ public class Property implements AttributeChanged {
     public final ChannelTypeUID channelTypeUID;
     private ChannelType type;
     private Channel channel;
+    // The attribute values the current channel has been created from
+    private @Nullable Map<String, Object> channelAttributes;
     private final String topic;
     private final DeviceCallback callback;
     protected boolean initialized = false;
@@ -122,9 +125,22 @@ public class Property implements AttributeChanged {
     /**
      * As soon as subscribing succeeded and corresponding MQTT values have been received, the ChannelType and
      * ChannelState are determined.
+     *
+     * If the attributes did not change since the channel has been created, the existing channel and
+     * its state subscription are kept and the handler is not notified.
      */
     public void attributesReceived() {
+        final ChannelState oldChannelState = this.channelState;
+        if (oldChannelState != null) {
+            if (attributes.asMap().equals(channelAttributes)) {
+                logger.trace("Attributes of property {} unchanged", channelUID);
+                return;
+            }
+            // The channel state is recreated below: Remove the subscription of the replaced one
+            oldChannelState.stop();
+        }
         createChannelFromAttribute();
+        channelAttributes = attributes.asMap();
         callback.propertyAddedOrChanged(this);
     }
 
@@ -369,4 +369,50 @@ public class HomieThingHandlerTests {
         assertThat(properties.get(MqttBindingConstants.HOMIE_PROPERTY_VERSION), is("3.0"));
         assertThat(properties.size(), is(1));
     }
+
+    @SuppressWarnings("null")
+    @Test(timeout = 10000)
+    public void unchangedPropertiesKeepChannelsAndSubscriptions() {
+        thingHandler.device.initialize("homie", "device", new ArrayList<>());
+        doReturn(true).when(thingHandler.device).isInitialized();
+        thingHandler.device.attributes.homie = "3.0";
+        ThingHandlerHelper.setConnection(thingHandler, connection);
+
+        // A device with 200 properties
+        Node node = thingHandler.device.createNode("node", new NodeAttributes());
+        node.attributes.name = "testnode";
+        for (int i = 0; i < 200; ++i) {
+            Property property = node.createProperty("property" + i, new PropertyAttributes());
+            property.attributes.name = "testprop" + i;
+            property.attributes.datatype = DataTypeEnum.string_;
+            property.attributesReceived();
+            node.properties.put(property.propertyID, property);
+        }
+        thingHandler.device.nodes.put(node.nodeID, node);
+
+        thingHandler.accept(null);
+        assertThat(thingHandler.getThing().getChannels().size(), is(200));
+        verify(callback, atLeastOnce()).thingUpdated(any());
+        verify(connection, times(200)).subscribe(anyString(), any());
+        clearInvocations(callback);
+
+        // The device republishes all property attributes unchanged
+        node.properties.stream().forEach(Property::attributesReceived);
+        thingHandler.accept(null);
+
+        verify(callback, never()).thingUpdated(any());
+        verify(connection, times(200)).subscribe(anyString(), any());
+        verify(connection, never()).unsubscribe(anyString(), any());
+
+        // A single changed property only renews its own subscription
+        Property changed = node.properties.get("property0");
+        changed.attributes.name = "changed";
+        changed.attributesReceived();
+        thingHandler.accept(null);
+
+        verify(callback, times(1)).thingUpdated(any());
+        verify(connection, times(201)).subscribe(anyString(), any());
+        verify(connection, times(1)).unsubscribe(anyString(), any());
+        assertThat(thingHandler.getThing().getChannels().get(0).getLabel(), is("changed"));
+    }
 }
@@ -12,10 +12,17 @@
  */
 package org.openhab.binding.mqtt.handler;
 
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeoutException;
 
@@ -28,10 +35,11 @@ import org.eclipse.smarthome.core.types.Command;
 import org.eclipse.smarthome.io.transport.mqtt.MqttBrokerConnection;
 import org.eclipse.smarthome.io.transport.mqtt.MqttConnectionObserver;
 import org.eclipse.smarthome.io.transport.mqtt.MqttConnectionState;
+import org.eclipse.smarthome.io.transport.mqtt.MqttMessageSubscriber;
 import org.eclipse.smarthome.io.transport.mqtt.MqttService;
 import org.openhab.binding.mqtt.action.MQTTActions;
 import org.openhab.binding.mqtt.discovery.MQTTTopicDiscoveryParticipant;
-import org.openhab.binding.mqtt.discovery.TopicSubscribe;
+import org.openhab.binding.mqtt.internal.TopicFilterTrie;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -40,6 +48,17 @@ import org.slf4j.LoggerFactory;
  * and puts the Thing on or offline. It also handles adding/removing notifications of the
  * {@link MqttService} and provides a basic dispose() implementation.
  *
+ * Discovery participants register topic filters with {@link #registerDiscoveryListener}. Instead of one broker
+ * subscription per participant and filter, the handler subscribes only to the filters which are not covered by
+ * another registered filter. Received messages are matched once against a {@link TopicFilterTrie} of all registered
+ * filters and dispatched to the participants of the matching filters. This keeps the burst of retained messages
+ * after connecting to a broker with many retained topics cheap.
+ *
+ * The latest message of every topic received for discovery is kept. Whenever a participant registers, the kept
+ * messages matching its filter are replayed to this participant only, so that it sees all topics already present
+ * without subscribing again and without the other participants receiving the retained messages again. A message
+ * identical to the kept one, like a retained message sent again after reconnecting, is not dispatched again.
+ *
  * @author David Graeff - Initial contribution
  */
 @NonNullByDefault
@@ -48,7 +67,44 @@ public abstract class AbstractBrokerHandler extends BaseBridgeHandler implements
     private final Logger logger = LoggerFactory.getLogger(AbstractBrokerHandler.class);
 
     final Map<ChannelUID, PublishTriggerChannel> channelStateByChannelUID = new HashMap<>();
-    private final Map<String, @Nullable Map<MQTTTopicDiscoveryParticipant, @Nullable TopicSubscribe>> discoveryTopics = new HashMap<>();
+
+    /**
+     * Registered discovery topic filter, with its participants and the broker subscription delivering its messages
+     */
+    private static class DiscoveryTopic {
+        final String topic;
+        final Set<MQTTTopicDiscoveryParticipant> listeners = new LinkedHashSet<>();
+        String subscriptionTopic;
+
+        DiscoveryTopic(String topic) {
+            this.topic = topic;
+            this.subscriptionTopic = topic;
+        }
+    }
+
+    /**
+     * Broker subscription for discovery, dispatching the messages to the participants of all discovery topics
+     * delivered by it
+     */
+    private class DiscoverySubscription implements MqttMessageSubscriber {
+        final String topic;
+
+        DiscoverySubscription(String topic) {
+            this.topic = topic;
+        }
+
+        @Override
+        public void processMessage(String topic, byte[] payload) {
+            dispatchDiscoveryMessage(this, topic, payload);
+        }
+    }
+
+    // All access to discovery topics and subscriptions is guarded by discoveryTopics
+    private final Map<String, DiscoveryTopic> discoveryTopics = new HashMap<>();
+    private final TopicFilterTrie<DiscoveryTopic> discoveryTopicTrie = new TopicFilterTrie<>();
+    private final Map<String, DiscoverySubscription> discoverySubscriptions = new HashMap<>();
+    // Latest non-empty payload per topic received by the discovery subscriptions
+    private final Map<String, byte[]> discoveryMessages = new HashMap<>();
 
     protected @Nullable MqttBrokerConnection connection;
     protected CompletableFuture<MqttBrokerConnection> connectionFuture = new CompletableFuture<>();
@@ -116,22 +172,7 @@ public abstract class AbstractBrokerHandler extends BaseBridgeHandler implements
         });
         connectionFuture.complete(connection);
 
-        discoveryTopics.forEach((topic, listenerMap) -> {
-            listenerMap.replaceAll((listener, oldTopicSubscribe) -> {
-                TopicSubscribe topicSubscribe = new TopicSubscribe(connection, topic, listener, thing.getUID());
-                topicSubscribe.start().handle((result, ex) -> {
-                    if (ex != null) {
-                        logger.warn("Failed to subscribe {} to discovery topic {} on broker {}", listener, topic,
-                                thing.getUID());
-                    } else {
-                        logger.trace("Subscribed {} to discovery topic {} on broker {}", listener, topic,
-                                thing.getUID());
-                    }
-                    return null;
-                });
-                return topicSubscribe;
-            });
-        });
+        updateDiscoverySubscriptions();
     }
 
     @Override
@@ -163,11 +204,11 @@ public abstract class AbstractBrokerHandler extends BaseBridgeHandler implements
         channelStateByChannelUID.clear();
 
         // keep topics, but stop subscriptions
-        discoveryTopics.forEach((topic, listenerMap) -> {
-            listenerMap.forEach((listener, topicSubscribe) -> {
-                topicSubscribe.stop();
-            });
-        });
+        synchronized (discoveryTopics) {
+            discoverySubscriptions.values().forEach(this::unsubscribeDiscovery);
+            discoverySubscriptions.clear();
+            discoveryMessages.clear();
+        }
 
         if (connection != null) {
             connection.removeConnectionObserver(this);
@@ -187,27 +228,36 @@ public abstract class AbstractBrokerHandler extends BaseBridgeHandler implements
      * @param topic the topic (wildcards supported)
      */
     public final void registerDiscoveryListener(MQTTTopicDiscoveryParticipant listener, String topic) {
-        Map<MQTTTopicDiscoveryParticipant, @Nullable TopicSubscribe> topicListeners = discoveryTopics
-                .computeIfAbsent(topic, t -> new HashMap<>());
-        topicListeners.compute(listener, (k, v) -> {
-            if (v != null) {
+        List<Map.Entry<String, byte[]>> replay = new ArrayList<>();
+        synchronized (discoveryTopics) {
+            DiscoveryTopic discoveryTopic = discoveryTopics.get(topic);
+            if (discoveryTopic == null) {
+                discoveryTopic = new DiscoveryTopic(topic);
+                discoveryTopics.put(topic, discoveryTopic);
+                discoveryTopicTrie.add(topic, discoveryTopic);
+            }
+            if (!discoveryTopic.listeners.add(listener)) {
                 logger.warn("Duplicate subscription for {} to discovery topic {} on broker {}. Check discovery logic!",
                         listener, topic, thing.getUID());
-                v.stop();
+            } else {
+                logger.trace("Registered {} to discovery topic {} on broker {}", listener, topic, thing.getUID());
             }
-
-            TopicSubscribe topicSubscribe = new TopicSubscribe(connection, topic, listener, thing.getUID());
-            topicSubscribe.start().handle((result, ex) -> {
-                if (ex != null) {
-                    logger.warn("Failed to subscribe {} to discovery topic {} on broker {}", listener, topic,
-                            thing.getUID());
-                } else {
-                    logger.trace("Subscribed {} to discovery topic {} on broker {}", listener, topic, thing.getUID());
+            updateDiscoverySubscriptions();
+            // the participant needs the messages already received for its topic as well
+            discoveryMessages.forEach((messageTopic, payload) -> {
+                if (TopicFilterTrie.covers(topic, messageTopic)) {
+                    replay.add(new SimpleImmutableEntry<>(messageTopic, payload));
                 }
-                return null;
             });
-            return topicSubscribe;
-        });
+        }
+        final MqttBrokerConnection connection = this.connection;
+        if (connection == null) {
+            return;
+        }
+        // notify outside of the lock, participants may (un)register topics
+        for (Map.Entry<String, byte[]> message : replay) {
+            listener.receivedMessage(thing.getUID(), connection, message.getKey(), message.getValue());
+        }
     }
 
     /**
@@ -217,27 +267,155 @@ public abstract class AbstractBrokerHandler extends BaseBridgeHandler implements
      * @param topic the topic (as specified during registration)
      */
     public final void unregisterDiscoveryListener(MQTTTopicDiscoveryParticipant listener, String topic) {
-        Map<MQTTTopicDiscoveryParticipant, @Nullable TopicSubscribe> topicListeners = discoveryTopics.compute(topic,
-                (k, v) -> {
-                    if (v == null) {
-                        logger.warn(
-                                "Tried to unsubscribe {} from  discovery topic {} on broker {} but topic not registered at all. Check discovery logic!",
-                                listener, topic, thing.getUID());
-                        return null;
+        synchronized (discoveryTopics) {
+            DiscoveryTopic discoveryTopic = discoveryTopics.get(topic);
+            if (discoveryTopic == null) {
+                logger.warn(
+                        "Tried to unsubscribe {} from  discovery topic {} on broker {} but topic not registered at all. Check discovery logic!",
+                        listener, topic, thing.getUID());
+                return;
+            }
+            if (!discoveryTopic.listeners.remove(listener)) {
+                logger.warn(
+                        "Tried to unsubscribe {} from  discovery topic {} on broker {} but topic not registered for listener. Check discovery logic!",
+                        listener, topic, thing.getUID());
+                return;
+            }
+            logger.trace("Unsubscribed {} from discovery topic {} on broker {}", listener, topic, thing.getUID());
+            if (discoveryTopic.listeners.isEmpty()) {
+                discoveryTopics.remove(topic);
+                discoveryTopicTrie.remove(topic, discoveryTopic);
+                discoveryMessages.keySet().removeIf(messageTopic -> !isDiscoveryTopic(messageTopic));
+                updateDiscoverySubscriptions();
+            }
+        }
+    }
+
+    /**
+     * Subscribe to the discovery topics not covered by other discovery topics, and unsubscribe from the topics not
+     * needed anymore. Each discovery topic is assigned to exactly one subscription covering it, so that messages
+     * matching several overlapping subscriptions are still dispatched only once per discovery topic.
+     */
+    private void updateDiscoverySubscriptions() {
+        synchronized (discoveryTopics) {
+            // sorted for deterministic assignment of topics to subscriptions
+            Set<String> subscriptionTopics = new TreeSet<>();
+            for (String topic : discoveryTopics.keySet()) {
+                if (discoveryTopics.keySet().stream().noneMatch(other -> isCoveredBy(topic, other))) {
+                    subscriptionTopics.add(topic);
+                }
+            }
+            for (DiscoveryTopic discoveryTopic : discoveryTopics.values()) {
+                for (String subscriptionTopic : subscriptionTopics) {
+                    if (TopicFilterTrie.covers(subscriptionTopic, discoveryTopic.topic)) {
+                        discoveryTopic.subscriptionTopic = subscriptionTopic;
+                        break;
                     }
-                    v.compute(listener, (l, w) -> {
-                        if (w == null) {
-                            logger.warn(
-                                    "Tried to unsubscribe {} from  discovery topic {} on broker {} but topic not registered for listener. Check discovery logic!",
-                                    listener, topic, thing.getUID());
-                        } else {
-                            w.stop();
-                            logger.trace("Unsubscribed {} from discovery topic {} on broker {}", listener, topic,
-                                    thing.getUID());
-                        }
-                        return null;
-                    });
-                    return v.isEmpty() ? null : v;
-                });
+                }
+            }
+
+            if (connection == null) {
+                // subscribed when initialized
+                return;
+            }
+            // subscribe new topics first, so that no messages are missed in between
+            for (String subscriptionTopic : subscriptionTopics) {
+                if (!discoverySubscriptions.containsKey(subscriptionTopic)) {
+                    DiscoverySubscription subscription = new DiscoverySubscription(subscriptionTopic);
+                    discoverySubscriptions.put(subscriptionTopic, subscription);
+                    subscribeDiscovery(subscription);
+                }
+            }
+            discoverySubscriptions.values().removeIf(subscription -> {
+                if (subscriptionTopics.contains(subscription.topic)) {
+                    return false;
+                }
+                unsubscribeDiscovery(subscription);
+                return true;
+            });
+        }
+    }
+
+    /**
+     * Check whether the message topic matches any registered discovery topic. Must be called with the lock held.
+     */
+    private boolean isDiscoveryTopic(String messageTopic) {
+        boolean[] matched = { false };
+        discoveryTopicTrie.match(messageTopic, discoveryTopic -> matched[0] = true);
+        return matched[0];
+    }
+
+    /**
+     * Check whether the topic is covered by another topic. Of two different topics covering each other, the one
+     * sorted first is considered covering.
+     */
+    private static boolean isCoveredBy(String topic, String other) {
+        if (other.equals(topic) || !TopicFilterTrie.covers(other, topic)) {
+            return false;
+        }
+        return !TopicFilterTrie.covers(topic, other) || other.compareTo(topic) < 0;
+    }
+
+    private void subscribeDiscovery(DiscoverySubscription subscription) {
+        final MqttBrokerConnection connection = this.connection;
+        if (connection == null) {
+            return;
+        }
+        connection.subscribe(subscription.topic, subscription).handle((result, ex) -> {
+            if (ex != null) {
+                logger.warn("Failed to subscribe to discovery topic {} on broker {}", subscription.topic,
+                        thing.getUID());
+            } else {
+                logger.trace("Subscribed to discovery topic {} on broker {}", subscription.topic, thing.getUID());
+            }
+            return null;
+        });
+    }
+
+    private void unsubscribeDiscovery(DiscoverySubscription subscription) {
+        final MqttBrokerConnection connection = this.connection;
+        if (connection != null) {
+            connection.unsubscribe(subscription.topic, subscription);
+        }
+    }
+
+    /**
+     * Dispatch a message received by a discovery subscription to the participants of the discovery topics matching
+     * the message topic and assigned to the subscription. A message identical to the latest one of its topic has
+     * already been dispatched and is dropped.
+     */
+    private void dispatchDiscoveryMessage(DiscoverySubscription subscription, String topic, byte[] payload) {
+        final MqttBrokerConnection connection = this.connection;
+        if (connection == null) {
+            return;
+        }
+        List<MQTTTopicDiscoveryParticipant> listeners = new ArrayList<>();
+        synchronized (discoveryTopics) {
+            if (discoverySubscriptions.get(subscription.topic) != subscription) {
+                // replaced or stopped subscription
+                return;
+            }
+            if (payload.length > 0) {
+                if (Arrays.equals(discoveryMessages.put(topic, payload), payload)) {
+                    // e.g. a retained message sent again for a new subscription
+                    return;
+                }
+            } else {
+                discoveryMessages.remove(topic);
+            }
+            discoveryTopicTrie.match(topic, discoveryTopic -> {
+                if (discoveryTopic.subscriptionTopic.equals(subscription.topic)) {
+                    listeners.addAll(discoveryTopic.listeners);
+                }
+            });
+        }
+        // notify outside of the lock, participants may (un)register topics
+        for (MQTTTopicDiscoveryParticipant listener : listeners) {
+            if (payload.length > 0) {
+                listener.receivedMessage(thing.getUID(), connection, topic, payload);
+            } else {
+                listener.topicVanished(thing.getUID(), connection, topic);
+            }
+        }
     }
 }
@@ -0,0 +1,182 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.mqtt.internal;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * A trie of MQTT topic filters, supporting the single level (+) and multi level (#) wildcards.
+ *
+ * Values are registered with a topic filter. {@link #match(String, Consumer)} finds the values of all filters
+ * matching a topic with a single walk of the topic levels, independent of the number of registered filters.
+ *
+ * As required by the MQTT specification, wildcards in the first level do not match topics starting with '$'.
+ *
+ * This class is not thread-safe.
+ *
+ * @author agent - Initial contribution
+ *
+ * @param <T> type of the registered values
+ */
+@NonNullByDefault
+public class TopicFilterTrie<T> {
+    private static final String SINGLE_LEVEL_WILDCARD = "+";
+    private static final String MULTI_LEVEL_WILDCARD = "#";
+
+    private static class Node<T> {
+        final Map<String, Node<T>> children = new HashMap<>();
+        final List<T> values = new ArrayList<>();
+
+        boolean isEmpty() {
+            return children.isEmpty() && values.isEmpty();
+        }
+    }
+
+    private final Node<T> root = new Node<>();
+    private int size;
+
+    /**
+     * Register a value with a topic filter
+     *
+     * @param topicFilter the topic filter, wildcards supported
+     * @param value the value returned for topics matching the filter
+     */
+    public void add(String topicFilter, T value) {
+        Node<T> node = root;
+        for (String level : topicFilter.split("/", -1)) {
+            node = node.children.computeIfAbsent(level, l -> new Node<>());
+        }
+        node.values.add(value);
+        size++;
+    }
+
+    /**
+     * Unregister a value from a topic filter
+     *
+     * @param topicFilter the topic filter, as given when registering the value
+     * @param value the registered value
+     * @return true if the value was registered with the filter
+     */
+    public boolean remove(String topicFilter, T value) {
+        if (remove(root, topicFilter.split("/", -1), 0, value)) {
+            size--;
+            return true;
+        }
+        return false;
+    }
+
+    private boolean remove(Node<T> node, String[] levels, int index, T value) {
+        if (index == levels.length) {
+            return node.values.remove(value);
+        }
+        Node<T> child = node.children.get(levels[index]);
+        if (child == null || !remove(child, levels, index + 1, value)) {
+            return false;
+        }
+        if (child.isEmpty()) {
+            node.children.remove(levels[index]);
+        }
+        return true;
+    }
+
+    /**
+     * Find the values registered with filters matching the topic
+     *
+     * @param topic the topic, without wildcards
+     * @param consumer called with each value of each matching filter
+     */
+    public void match(String topic, Consumer<T> consumer) {
+        match(root, topic.split("/", -1), 0, consumer);
+    }
+
+    private void match(Node<T> node, String[] levels, int index, Consumer<T> consumer) {
+        boolean wildcardsAllowed = index > 0 || !levels[0].startsWith("$");
+        if (wildcardsAllowed) {
+            // "a/#" matches "a" as well as everything below it
+            Node<T> multiLevel = node.children.get(MULTI_LEVEL_WILDCARD);
+            if (multiLevel != null) {
+                multiLevel.values.forEach(consumer);
+            }
+        }
+        if (index == levels.length) {
+            node.values.forEach(consumer);
+            return;
+        }
+        Node<T> child = node.children.get(levels[index]);
+        if (child != null) {
+            match(child, levels, index + 1, consumer);
+        }
+        if (wildcardsAllowed) {
+            Node<T> singleLevel = node.children.get(SINGLE_LEVEL_WILDCARD);
+            if (singleLevel != null) {
+                match(singleLevel, levels, index + 1, consumer);
+            }
+        }
+    }
+
+    /**
+     * Number of registered values
+     */
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Check whether every topic matching a topic filter also matches another topic filter
+     *
+     * @param topicFilter the potentially broader filter
+     * @param otherTopicFilter the potentially narrower filter
+     * @return true if all topics matched by <code>otherTopicFilter</code> are matched by <code>topicFilter</code>
+     */
+    public static boolean covers(String topicFilter, String otherTopicFilter) {
+        String[] levels = topicFilter.split("/", -1);
+        String[] otherLevels = otherTopicFilter.split("/", -1);
+        for (int i = 0; i < levels.length; i++) {
+            String level = levels[i];
+            boolean wildcardsAllowed = i > 0 || !otherLevels[0].startsWith("$");
+            if (MULTI_LEVEL_WILDCARD.equals(level)) {
+                return wildcardsAllowed;
+            }
+            if (i >= otherLevels.length) {
+                return false;
+            }
+            String otherLevel = otherLevels[i];
+            if (MULTI_LEVEL_WILDCARD.equals(otherLevel)) {
+                return false;
+            }
+            if (SINGLE_LEVEL_WILDCARD.equals(level)) {
+                if (!wildcardsAllowed) {
+                    return false;
+                }
+            } else if (!level.equals(otherLevel)) {
+                return false;
+            }
+        }
+        return levels.length == otherLevels.length;
+    }
+
+    @Override
+    public String toString() {
+        return "TopicFilterTrie [size=" + size + "]";
+    }
+}
@@ -12,7 +12,7 @@
  */
 package org.openhab.binding.mqtt.internal;
 
-import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.*;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -59,6 +59,9 @@ public class MQTTTopicDiscoveryServiceTest {
     @Mock
     MQTTTopicDiscoveryParticipant listener;
 
+    @Mock
+    MQTTTopicDiscoveryParticipant otherListener;
+
     private MqttBrokerConnectionEx connection;
 
     private BrokerHandler handler;
@@ -151,4 +154,110 @@ public class MQTTTopicDiscoveryServiceTest {
                 .forEach(s -> s.processMessage("topic", bytes));
         verify(listener).topicVanished(eq(thing.getUID()), eq(connection), eq("topic"));
     }
+
+    @Test
+    public void overlappingTopicsShareSubscription() {
+        handler.initialize();
+        BrokerHandlerEx.verifyCreateBrokerConnection(handler, 1);
+
+        subject.createdHandler(handler);
+        subject.subscribe(listener, "homeassistant/+/+/config");
+        subject.subscribe(otherListener, "homeassistant/#");
+
+        // Only the broader topic is subscribed at the broker
+        assertNull(connection.getSubscribers().get("homeassistant/+/+/config"));
+
+        // Simulate receiving
+        final byte[] bytes = "TEST".getBytes();
+        connection.getSubscribers().get("homeassistant/#")
+                .forEach(s -> s.processMessage("homeassistant/switch/node/config", bytes));
+        connection.getSubscribers().get("homeassistant/#")
+                .forEach(s -> s.processMessage("homeassistant/switch/node/state", bytes));
+        verify(listener).receivedMessage(eq(thing.getUID()), eq(connection), eq("homeassistant/switch/node/config"),
+                eq(bytes));
+        verify(listener, never()).receivedMessage(eq(thing.getUID()), eq(connection),
+                eq("homeassistant/switch/node/state"), eq(bytes));
+        verify(otherListener).receivedMessage(eq(thing.getUID()), eq(connection),
+                eq("homeassistant/switch/node/config"), eq(bytes));
+        verify(otherListener).receivedMessage(eq(thing.getUID()), eq(connection), eq("homeassistant/switch/node/state"),
+                eq(bytes));
+
+        // The narrower topic is subscribed again when the broader topic is gone
+        subject.unsubscribe(otherListener);
+        assertNull(connection.getSubscribers().get("homeassistant/#"));
+        assertNotNull(connection.getSubscribers().get("homeassistant/+/+/config"));
+    }
+
+    @Test
+    public void coveredTopicReplaysMessagesToNewParticipantOnly() {
+        handler.initialize();
+        BrokerHandlerEx.verifyCreateBrokerConnection(handler, 1);
+
+        subject.createdHandler(handler);
+        subject.subscribe(otherListener, "homeassistant/#");
+
+        final byte[] bytes = "TEST".getBytes();
+        connection.getSubscribers().get("homeassistant/#")
+                .forEach(s -> s.processMessage("homeassistant/switch/node/config", bytes));
+        connection.getSubscribers().get("homeassistant/#")
+                .forEach(s -> s.processMessage("homeassistant/switch/node/state", bytes));
+
+        subject.subscribe(listener, "homeassistant/+/+/config");
+
+        // Not subscribed again, the messages already received are replayed to the new participant only
+        verify(connection, times(1)).subscribe(eq("homeassistant/#"), any());
+        verify(listener).receivedMessage(eq(thing.getUID()), eq(connection), eq("homeassistant/switch/node/config"),
+                eq(bytes));
+        verify(listener, never()).receivedMessage(eq(thing.getUID()), eq(connection),
+                eq("homeassistant/switch/node/state"), eq(bytes));
+        verify(otherListener, times(1)).receivedMessage(eq(thing.getUID()), eq(connection),
+                eq("homeassistant/switch/node/config"), eq(bytes));
+    }
+
+    @Test
+    public void identicalMessageIsNotDispatchedAgain() {
+        handler.initialize();
+        BrokerHandlerEx.verifyCreateBrokerConnection(handler, 1);
+
+        handler.registerDiscoveryListener(listener, "topic");
+
+        // e.g. the retained message sent again after reconnecting
+        connection.getSubscribers().get("topic").forEach(s -> s.processMessage("topic", "TEST".getBytes()));
+        connection.getSubscribers().get("topic").forEach(s -> s.processMessage("topic", "TEST".getBytes()));
+        verify(listener, times(1)).receivedMessage(eq(thing.getUID()), eq(connection), eq("topic"), any());
+
+        // changed and vanished topics are still dispatched
+        final byte[] changed = "CHANGED".getBytes();
+        connection.getSubscribers().get("topic").forEach(s -> s.processMessage("topic", changed));
+        verify(listener).receivedMessage(eq(thing.getUID()), eq(connection), eq("topic"), eq(changed));
+        connection.getSubscribers().get("topic").forEach(s -> s.processMessage("topic", new byte[0]));
+        verify(listener).topicVanished(eq(thing.getUID()), eq(connection), eq("topic"));
+    }
+
+    @Test
+    public void duplicateRegistrationReplaysMessages() {
+        handler.initialize();
+        BrokerHandlerEx.verifyCreateBrokerConnection(handler, 1);
+
+        handler.registerDiscoveryListener(listener, "topic");
+        final byte[] bytes = "TEST".getBytes();
+        connection.getSubscribers().get("topic").forEach(s -> s.processMessage("topic", bytes));
+
+        handler.registerDiscoveryListener(listener, "topic");
+        verify(connection, times(1)).subscribe(eq("topic"), any());
+        verify(listener, times(2)).receivedMessage(eq(thing.getUID()), eq(connection), eq("topic"), eq(bytes));
+    }
+
+    @Test
+    public void messagesOfUnregisteredTopicsAreNotReplayed() {
+        handler.initialize();
+        BrokerHandlerEx.verifyCreateBrokerConnection(handler, 1);
+
+        handler.registerDiscoveryListener(otherListener, "topic");
+        connection.getSubscribers().get("topic").forEach(s -> s.processMessage("topic", "TEST".getBytes()));
+        handler.unregisterDiscoveryListener(otherListener, "topic");
+
+        handler.registerDiscoveryListener(listener, "topic");
+        verify(listener, never()).receivedMessage(any(), any(), any(), any());
+    }
 }
@@ -0,0 +1,124 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.mqtt.internal;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests cases for {@link TopicFilterTrie}.
+ *
+ * @author agent - Initial contribution
+ */
+public class TopicFilterTrieTest {
+    private TopicFilterTrie<String> trie;
+
+    @Before
+    public void setUp() {
+        trie = new TopicFilterTrie<>();
+        for (String filter : Arrays.asList("homeassistant/#", "homie/+/$homie", "a/b/c", "a/+/c", "#", "$SYS/#")) {
+            trie.add(filter, filter);
+        }
+    }
+
+    private List<String> match(String topic) {
+        List<String> matches = new ArrayList<>();
+        trie.match(topic, matches::add);
+        Collections.sort(matches);
+        return matches;
+    }
+
+    @Test
+    public void match() {
+        assertThat(match("homeassistant"), is(Arrays.asList("#", "homeassistant/#")));
+        assertThat(match("homeassistant/switch/x/config"), is(Arrays.asList("#", "homeassistant/#")));
+        assertThat(match("homie/device/$homie"), is(Arrays.asList("#", "homie/+/$homie")));
+        assertThat(match("homie/device/$name"), is(Arrays.asList("#")));
+        assertThat(match("a/b/c"), is(Arrays.asList("#", "a/+/c", "a/b/c")));
+        assertThat(match("a/x/c"), is(Arrays.asList("#", "a/+/c")));
+        assertThat(match("a/x/c/d"), is(Arrays.asList("#")));
+    }
+
+    @Test
+    public void wildcardsDoNotMatchDollarTopics() {
+        assertThat(match("$SYS/broker/uptime"), is(Arrays.asList("$SYS/#")));
+    }
+
+    @Test
+    public void remove() {
+        assertTrue(trie.remove("a/+/c", "a/+/c"));
+        assertFalse(trie.remove("a/+/c", "a/+/c"));
+        assertFalse(trie.remove("a/+", "a/+/c"));
+        assertThat(trie.size(), is(5));
+        assertThat(match("a/x/c"), is(Arrays.asList("#")));
+        assertThat(match("a/b/c"), is(Arrays.asList("#", "a/b/c")));
+    }
+
+    @Test
+    public void covers() {
+        assertTrue(TopicFilterTrie.covers("#", "homeassistant/#"));
+        assertTrue(TopicFilterTrie.covers("homeassistant/#", "homeassistant"));
+        assertTrue(TopicFilterTrie.covers("homeassistant/#", "homeassistant/+/x"));
+        assertTrue(TopicFilterTrie.covers("a/+/c", "a/b/c"));
+        assertTrue(TopicFilterTrie.covers("a/+/c", "a/+/c"));
+        assertFalse(TopicFilterTrie.covers("a/b/c", "a/+/c"));
+        assertFalse(TopicFilterTrie.covers("a/+", "a/#"));
+        assertFalse(TopicFilterTrie.covers("a/+", "a/b/c"));
+        assertFalse(TopicFilterTrie.covers("homeassistant/#", "homie/#"));
+        assertFalse(TopicFilterTrie.covers("#", "$SYS/#"));
+        assertFalse(TopicFilterTrie.covers("+/#", "$SYS/#"));
+    }
+
+    /**
+     * Simulates the burst of retained messages after connecting to a broker with many retained topics
+     */
+    @Test
+    public void manyRetainedMessages() {
+        TopicFilterTrie<String> trie = new TopicFilterTrie<>();
+        trie.add("homeassistant/+/+/config", "homeassistant");
+        trie.add("homeassistant/+/+/+/config", "homeassistant");
+        trie.add("homie/+/$homie", "homie");
+
+        Map<String, Integer> counts = new HashMap<>();
+        for (int i = 0; i < 100000; i++) {
+            String topic;
+            switch (i % 4) {
+                case 0:
+                    topic = "homeassistant/sensor/node" + i + "/config";
+                    break;
+                case 1:
+                    topic = "homeassistant/sensor/node" + i + "/state";
+                    break;
+                case 2:
+                    topic = "homie/device" + i + "/$homie";
+                    break;
+                default:
+                    topic = "homie/device" + i + "/node/property";
+                    break;
+            }
+            trie.match(topic, value -> counts.merge(value, 1, Integer::sum));
+        }
+        assertThat(counts.get("homeassistant"), is(25000));
+        assertThat(counts.get("homie"), is(25000));
+    }
+}
@@ -61,6 +61,7 @@ public class NetworkHandlerFactory extends BaseThingHandlerFactory {
     @Deactivate
     protected void deactivate(ComponentContext componentContext) {
         super.deactivate(componentContext);
+        PresenceDetectionExecutor.getInstance().shutdown();
     }
 
     @Modified
@@ -69,6 +70,7 @@ public class NetworkHandlerFactory extends BaseThingHandlerFactory {
         // configuration, the values are automatically available in all handlers. Because they all
         // share the same instance.
         configuration.update(new Configuration(config).as(NetworkBindingConfiguration.class));
+        PresenceDetectionExecutor.getInstance().setMaxConcurrentChecks(configuration.maxConcurrentChecks.intValue());
         logger.debug("Updated binding configuration to {}", configuration);
     }
 
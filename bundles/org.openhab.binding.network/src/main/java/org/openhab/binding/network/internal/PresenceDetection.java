@@ -18,12 +18,18 @@ import java.net.InetAddress;
 import java.net.SocketException;
 import java.net.UnknownHostException;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.function.Consumer;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -53,6 +59,7 @@ public class PresenceDetection implements IPRequestReceivedCallback {
     public static final int DESTINATION_TTL = 300 * 1000; // in ms, 300 s
 
     NetworkUtils networkUtils = new NetworkUtils();
+    Executor executor = PresenceDetectionExecutor.getInstance();
     private final Logger logger = LoggerFactory.getLogger(PresenceDetection.class);
 
     /// Configuration variables
@@ -79,7 +86,7 @@ public class PresenceDetection implements IPRequestReceivedCallback {
     ExpiringCacheAsync<PresenceDetectionValue> cache;
     private final PresenceDetectionListener updateListener;
     private @Nullable ScheduledFuture<?> refreshJob;
-    protected @Nullable ExecutorService executorService;
+    protected @Nullable List<DetectionCheck> ongoingChecks;
     private String dhcpState = "off";
     Integer currentCheck = 0;
     int detectionChecks;
@@ -279,14 +286,74 @@ public class PresenceDetection implements IPRequestReceivedCallback {
         cache.getValue(callback);
     }
 
-    public ExecutorService getThreadsFor(int threadCount) {
-        return Executors.newFixedThreadPool(threadCount);
+    /**
+     * Sets the executor of the checks, instead of the {@link PresenceDetectionExecutor} shared by all presence
+     * detections of the things.
+     */
+    public void setExecutor(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * A single check of a presence detection, executed by the shared {@link PresenceDetectionExecutor}.
+     */
+    class DetectionCheck extends FutureTask<@Nullable Void> {
+        private final CountDownLatch started = new CountDownLatch(1);
+        private volatile long startTime;
+
+        DetectionCheck(List<DetectionCheck> checks, Runnable check) {
+            super(() -> {
+                check.run();
+                checkIfFinished(checks);
+            }, null);
+        }
+
+        @Override
+        public void run() {
+            startTime = System.nanoTime();
+            started.countDown();
+            super.run();
+        }
+
+        /**
+         * Returns true if the check finished or had the full timeout to do so. A check that has not been started yet,
+         * or did not run for the full timeout, cannot tell whether the host is unreachable.
+         *
+         * @param timeoutInMS The timeout of the check after it has been started
+         */
+        boolean isConclusive(long timeoutInMS) {
+            if (isDone() && !isCancelled()) {
+                return true;
+            }
+            return started.getCount() == 0
+                    && System.nanoTime() - startTime >= TimeUnit.MILLISECONDS.toNanos(timeoutInMS);
+        }
+
+        /**
+         * Waits for the check to finish, but not longer than the given timeout after it has been started
+         * and not beyond the given deadline. The time the check is queued in the executor is not part of the timeout.
+         *
+         * @param timeoutInMS The timeout of the check after it has been started
+         * @param deadline The {@link System#nanoTime()} after which the check is not waited for
+         */
+        void await(long timeoutInMS, long deadline) throws InterruptedException {
+            if (!started.await(Math.max(deadline - System.nanoTime(), 0), TimeUnit.NANOSECONDS)) {
+                return;
+            }
+            long remaining = Math.min(startTime + TimeUnit.MILLISECONDS.toNanos(timeoutInMS), deadline)
+                    - System.nanoTime();
+            try {
+                get(Math.max(remaining, 0), TimeUnit.NANOSECONDS);
+            } catch (ExecutionException | CancellationException | TimeoutException ignored) {
+                // The check failed or did not finish in time, it is cancelled by the caller
+            }
+        }
     }
 
     /**
      * Perform a presence detection with ICMP-, ARP ping and
-     * TCP connection attempts simultaneously. A fixed thread pool will be created with as many
-     * thread as necessary to perform all tests at once.
+     * TCP connection attempts simultaneously. All checks are executed by the
+     * {@link PresenceDetectionExecutor} that is shared by all presence detections.
      *
      * This is a NO-OP, if there is already an ongoing detection or if the cached value
      * is not expired yet.
@@ -300,7 +367,7 @@ public class PresenceDetection implements IPRequestReceivedCallback {
      * @return Return true if a presence detection is performed and false otherwise.
      */
     public boolean performPresenceDetection(boolean waitForDetectionToFinish) {
-        if (executorService != null) {
+        if (ongoingChecks != null) {
             logger.debug(
                     "There is already an ongoing presence discovery for {} and a new one was issued by the scheduler! TCP Port {}",
                     hostname, tcpPorts);
@@ -327,46 +394,32 @@ public class PresenceDetection implements IPRequestReceivedCallback {
             return false;
         }
 
-        final ExecutorService executorService = getThreadsFor(detectionChecks);
-        this.executorService = executorService;
+        final List<DetectionCheck> checks = new CopyOnWriteArrayList<>();
+        this.ongoingChecks = checks;
 
         for (Integer tcpPort : tcpPorts) {
-            executorService.execute(() -> {
-                Thread.currentThread().setName("presenceDetectionTCP_" + hostname + " " + String.valueOf(tcpPort));
-                performServicePing(tcpPort);
-                checkIfFinished();
-            });
+            execute(checks, () -> performServicePing(tcpPort));
         }
 
-        // ARP ping for IPv4 addresses. Use single executor for Windows tool and
-        // each own executor for each network interface for other tools
+        // ARP ping for IPv4 addresses. Use single check for Windows tool and
+        // each own check for each network interface for other tools
         if (arpPingMethod == ArpPingUtilEnum.ELI_FULKERSON_ARP_PING_FOR_WINDOWS) {
-            executorService.execute(() -> {
-                Thread.currentThread().setName("presenceDetectionARP_" + hostname + " ");
-                // arp-ping.exe tool capable of handling multiple interfaces by itself
-                performARPping("");
-                checkIfFinished();
-            });
+            // arp-ping.exe tool capable of handling multiple interfaces by itself
+            execute(checks, () -> performARPping(""));
         } else if (interfaceNames != null) {
             for (final String interfaceName : interfaceNames) {
-                executorService.execute(() -> {
-                    Thread.currentThread().setName("presenceDetectionARP_" + hostname + " " + interfaceName);
-                    performARPping(interfaceName);
-                    checkIfFinished();
-                });
+                execute(checks, () -> performARPping(interfaceName));
             }
         }
 
         // ICMP ping
         if (pingMethod != null) {
-            executorService.execute(() -> {
+            execute(checks, () -> {
                 if (pingMethod != IpPingMethodEnum.JAVA_PING) {
-                    Thread.currentThread().setName("presenceDetectionICMP_" + hostname);
                     performSystemPing();
                 } else {
                     performJavaPing();
                 }
-                checkIfFinished();
             });
         }
 
@@ -377,28 +430,45 @@ public class PresenceDetection implements IPRequestReceivedCallback {
         return true;
     }
 
+    private void execute(List<DetectionCheck> checks, Runnable check) {
+        DetectionCheck detectionCheck = new DetectionCheck(checks, check);
+        checks.add(detectionCheck);
+        executor.execute(detectionCheck);
+    }
+
     /**
      * Calls updateListener.finalDetectionResult() with a final result value.
      * Safe to be called from different threads. After a call to this method,
-     * the presence detection process is finished and all threads are forcefully
-     * shut down.
+     * the presence detection process is finished.
+     *
+     * @param conclusive Whether all checks finished or had their full timeout. Otherwise the device is not reported as
+     *            unreachable, if it hasn't been seen.
      */
-    private synchronized void submitFinalResult() {
+    private synchronized void submitFinalResult(boolean conclusive) {
         // Do nothing if we are not in a detection process
-        ExecutorService service = executorService;
-        if (service == null) {
+        List<DetectionCheck> checks = ongoingChecks;
+        if (checks == null) {
             return;
         }
         // Finish the detection process
-        service.shutdownNow();
-        executorService = null;
+        ongoingChecks = null;
         detectionChecks = 0;
+        logger.trace("Presence detection for {} finished, {}", hostname, executor);
 
         PresenceDetectionValue v;
 
         // The cache will be expired by now if cache_time < timeoutInMS. But the device might be actually reachable.
         // Therefore use lastSeenInMS here and not cache.isExpired() to determine if we got a ping response.
         if (lastSeenInMS + timeoutInMS + 100 < System.currentTimeMillis()) {
+            if (!conclusive) {
+                // Checks did not get a thread in time, e.g. while many hosts are checked at once. Keep the last
+                // result instead of reporting the device as unreachable, the next refresh checks again.
+                logger.debug("Presence detection for {} skipped, not all checks could run in time", hostname);
+                if (executor instanceof PresenceDetectionExecutor) {
+                    ((PresenceDetectionExecutor) executor).detectionSkipped();
+                }
+                return;
+            }
             // We haven't seen the device in the detection process
             v = new PresenceDetectionValue(hostname, -1);
         } else {
@@ -419,32 +489,58 @@ public class PresenceDetection implements IPRequestReceivedCallback {
      * If the counter equals the total checks,the final result is submitted. This will
      * happen way before the "timeoutInMS", if all checks were successful.
      * Thread safe.
+     *
+     * @param checks The checks of the presence detection the finished check belongs to
      */
-    private synchronized void checkIfFinished() {
+    private synchronized void checkIfFinished(List<DetectionCheck> checks) {
+        // Ignore checks that finish after their presence detection has been finished already
+        if (checks != ongoingChecks) {
+            return;
+        }
         currentCheck += 1;
         if (currentCheck < detectionChecks) {
             return;
         }
-        submitFinalResult();
+        submitFinalResult(true);
     }
 
     /**
-     * Waits for the presence detection threads to finish. Returns immediately
+     * Waits for the presence detection checks to finish. Returns immediately
      * if no presence detection is performed right now.
      */
     public void waitForPresenceDetection() {
-        ExecutorService service = executorService;
-        if (service == null) {
+        List<DetectionCheck> checks = ongoingChecks;
+        if (checks == null) {
             return;
         }
+        // All checks share one deadline of the check timeout, so that checks queued behind each other do not add up
+        // their waiting times. Checks that did not get their full timeout do not count as a failed detection.
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutInMS + 100);
         try {
             // We may get interrupted here by cancelRefreshJob().
-            service.awaitTermination(timeoutInMS + 100, TimeUnit.MILLISECONDS);
-            submitFinalResult();
+            for (DetectionCheck check : checks) {
+                check.await(timeoutInMS + 100, deadline);
+            }
+            boolean conclusive = checks.stream().allMatch(check -> check.isConclusive(timeoutInMS));
+            cancel(checks);
+            submitFinalResult(conclusive);
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt(); // Reset interrupt flag
-            service.shutdownNow();
-            executorService = null;
+            cancel(checks);
+            synchronized (this) {
+                if (ongoingChecks == checks) {
+                    ongoingChecks = null;
+                }
+            }
+        }
+    }
+
+    /**
+     * Cancels the checks that are still queued or running, e.g. because they did not finish in time.
+     */
+    private void cancel(List<DetectionCheck> checks) {
+        for (DetectionCheck check : checks) {
+            check.cancel(true);
         }
     }
 
@@ -602,8 +698,10 @@ public class PresenceDetection implements IPRequestReceivedCallback {
         if (future != null && !future.isDone()) {
             future.cancel(true);
         }
-        refreshJob = scheduledExecutorService.scheduleWithFixedDelay(() -> performPresenceDetection(true), 0,
-                refreshIntervalInMS, TimeUnit.MILLISECONDS);
+        // Stagger the refreshes of all presence detections, instead of checking all hosts at once
+        long initialDelay = PresenceDetectionExecutor.getInstance().nextRefreshDelay(refreshIntervalInMS);
+        refreshJob = scheduledExecutorService.scheduleWithFixedDelay(() -> performPresenceDetection(true),
+                initialDelay, refreshIntervalInMS, TimeUnit.MILLISECONDS);
     }
 
     /**
@@ -0,0 +1,217 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.network.internal;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.smarthome.core.common.NamedThreadFactory;
+
+/**
+ * The {@link PresenceDetectionExecutor} runs the checks of all presence detections of the binding
+ * in one bounded thread pool, instead of a thread pool per presence detection. Checks that exceed
+ * the pool size are queued. The network discovery uses an instance of its own, so that a scan does
+ * not delay the checks of the things.
+ *
+ * It also staggers the automatic refreshes of the presence detections and keeps metrics about
+ * the concurrently running checks, their execution time and the skipped presence detections.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class PresenceDetectionExecutor implements Executor {
+    static final int MAX_CONCURRENT_CHECKS = 32;
+    // The first automatic refreshes of the presence detections are this far apart
+    static final long STAGGER_STEP_IN_MS = 100;
+
+    private static final PresenceDetectionExecutor INSTANCE = new PresenceDetectionExecutor(MAX_CONCURRENT_CHECKS);
+
+    private int maxConcurrentChecks;
+    private ThreadPoolExecutor pool;
+
+    private final AtomicLong refreshes = new AtomicLong();
+    private final AtomicInteger runningChecks = new AtomicInteger();
+    private final AtomicInteger maxRunningChecks = new AtomicInteger();
+    private final AtomicLong completedChecks = new AtomicLong();
+    private final AtomicLong checkTimeInNS = new AtomicLong();
+    private final AtomicLong maxCheckTimeInNS = new AtomicLong();
+    private final AtomicLong skippedDetections = new AtomicLong();
+
+    public PresenceDetectionExecutor(int maxConcurrentChecks) {
+        this.maxConcurrentChecks = maxConcurrentChecks;
+        this.pool = createPool();
+    }
+
+    private ThreadPoolExecutor createPool() {
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(maxConcurrentChecks, maxConcurrentChecks, 60,
+                TimeUnit.SECONDS, new LinkedBlockingQueue<>(), new NamedThreadFactory("network-presence"));
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
+
+    /**
+     * Return the thread pool, a new one is created if it has been shut down before.
+     */
+    private synchronized ThreadPoolExecutor getPool() {
+        if (pool.isShutdown()) {
+            pool = createPool();
+        }
+        return pool;
+    }
+
+    /**
+     * Changes the number of checks that are run at the same time. Queued checks start as soon as threads are
+     * available, running checks are not interrupted.
+     *
+     * @param maxConcurrentChecks The maximum number of concurrently running checks, at least 1
+     */
+    public synchronized void setMaxConcurrentChecks(int maxConcurrentChecks) {
+        int size = Math.max(1, maxConcurrentChecks);
+        if (size == this.maxConcurrentChecks) {
+            return;
+        }
+        // The core pool size must never exceed the maximum pool size
+        if (size > this.maxConcurrentChecks) {
+            pool.setMaximumPoolSize(size);
+            pool.setCorePoolSize(size);
+        } else {
+            pool.setCorePoolSize(size);
+            pool.setMaximumPoolSize(size);
+        }
+        this.maxConcurrentChecks = size;
+    }
+
+    /**
+     * Return the maximum number of concurrently running checks.
+     */
+    public synchronized int getMaxConcurrentChecks() {
+        return maxConcurrentChecks;
+    }
+
+    /**
+     * Stops the running checks and discards the queued ones. Checks that are submitted afterwards are executed
+     * by a new thread pool.
+     */
+    public synchronized void shutdown() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * Return the executor shared by all presence detections.
+     */
+    public static PresenceDetectionExecutor getInstance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public void execute(Runnable check) {
+        getPool().execute(() -> {
+            maxRunningChecks.accumulateAndGet(runningChecks.incrementAndGet(), Math::max);
+            long start = System.nanoTime();
+            try {
+                check.run();
+            } finally {
+                long checkTime = System.nanoTime() - start;
+                runningChecks.decrementAndGet();
+                completedChecks.incrementAndGet();
+                checkTimeInNS.addAndGet(checkTime);
+                maxCheckTimeInNS.accumulateAndGet(checkTime, Math::max);
+            }
+        });
+    }
+
+    /**
+     * Return the delay of the first automatic refresh of a presence detection. Consecutive calls
+     * spread the refreshes over the refresh interval, so that not all hosts are checked at once.
+     *
+     * @param refreshIntervalInMS The refresh interval of the presence detection
+     */
+    public long nextRefreshDelay(long refreshIntervalInMS) {
+        if (refreshIntervalInMS <= 0) {
+            return 0;
+        }
+        return (refreshes.getAndIncrement() * STAGGER_STEP_IN_MS) % refreshIntervalInMS;
+    }
+
+    /**
+     * Return the number of checks that are running right now.
+     */
+    public int getRunningChecks() {
+        return runningChecks.get();
+    }
+
+    /**
+     * Return the highest number of checks that have been running at the same time.
+     */
+    public int getMaxRunningChecks() {
+        return maxRunningChecks.get();
+    }
+
+    /**
+     * Return the number of checks that are waiting for a free thread.
+     */
+    public int getQueuedChecks() {
+        ThreadPoolExecutor pool;
+        synchronized (this) {
+            pool = this.pool;
+        }
+        return pool.getQueue().size();
+    }
+
+    public long getCompletedChecks() {
+        return completedChecks.get();
+    }
+
+    /**
+     * Return the average execution time of the completed checks in milliseconds.
+     */
+    public double getAverageCheckTimeInMS() {
+        long completed = completedChecks.get();
+        return completed == 0 ? 0 : checkTimeInNS.get() / 1e6 / completed;
+    }
+
+    /**
+     * Return the longest execution time of a completed check in milliseconds.
+     */
+    public double getMaxCheckTimeInMS() {
+        return maxCheckTimeInNS.get() / 1e6;
+    }
+
+    /**
+     * Counts a presence detection without result, because not all of its checks could run in time.
+     */
+    void detectionSkipped() {
+        skippedDetections.incrementAndGet();
+    }
+
+    /**
+     * Return the number of presence detections without result, because not all of their checks could run in time.
+     */
+    public long getSkippedDetections() {
+        return skippedDetections.get();
+    }
+
+    @Override
+    public String toString() {
+        return "PresenceDetectionExecutor{" + "runningChecks=" + getRunningChecks() + ", maxRunningChecks="
+                + getMaxRunningChecks() + ", queuedChecks=" + getQueuedChecks() + ", completedChecks="
+                + getCompletedChecks() + ", averageCheckTimeInMS=" + getAverageCheckTimeInMS()
+                + ", maxCheckTimeInMS=" + getMaxCheckTimeInMS() + ", skippedDetections=" + getSkippedDetections()
+                + '}';
+    }
+}
@@ -0,0 +1,65 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.network.internal.console;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.smarthome.io.console.Console;
+import org.eclipse.smarthome.io.console.extensions.AbstractConsoleCommandExtension;
+import org.eclipse.smarthome.io.console.extensions.ConsoleCommandExtension;
+import org.openhab.binding.network.internal.PresenceDetectionExecutor;
+import org.osgi.service.component.annotations.Component;
+
+/**
+ * The {@link NetworkCommandExtension} shows the metrics of the presence detection checks of the things
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+@Component(service = ConsoleCommandExtension.class)
+public class NetworkCommandExtension extends AbstractConsoleCommandExtension {
+
+    private static final String CHECKS = "checks";
+
+    public NetworkCommandExtension() {
+        super("network", "Show the presence detection checks of the network binding.");
+    }
+
+    @Override
+    public void execute(String[] args, Console console) {
+        if (args.length == 1 && CHECKS.equals(args[0])) {
+            printChecks(console, PresenceDetectionExecutor.getInstance());
+        } else {
+            printUsage(console);
+        }
+    }
+
+    @Override
+    public List<String> getUsages() {
+        return Collections.singletonList(buildCommandUsage(CHECKS,
+                "show the running, queued and completed checks, their execution times and the skipped detections"));
+    }
+
+    private void printChecks(Console console, PresenceDetectionExecutor executor) {
+        console.println("Maximum concurrent checks: " + executor.getMaxConcurrentChecks());
+        console.println("Running checks: " + executor.getRunningChecks() + " (at most " + executor.getMaxRunningChecks()
+                + ")");
+        console.println("Queued checks: " + executor.getQueuedChecks());
+        console.println("Completed checks: " + executor.getCompletedChecks());
+        console.println(String.format("Check time: %.1f ms average, %.1f ms maximum",
+                executor.getAverageCheckTimeInMS(), executor.getMaxCheckTimeInMS()));
+        console.println("Skipped presence detections: " + executor.getSkippedDetections());
+    }
+}
@@ -34,6 +34,7 @@ import org.eclipse.smarthome.config.discovery.DiscoveryService;
 import org.eclipse.smarthome.core.thing.ThingUID;
 import org.openhab.binding.network.internal.NetworkBindingConfiguration;
 import org.openhab.binding.network.internal.PresenceDetection;
+import org.openhab.binding.network.internal.PresenceDetectionExecutor;
 import org.openhab.binding.network.internal.PresenceDetectionListener;
 import org.openhab.binding.network.internal.PresenceDetectionValue;
 import org.openhab.binding.network.internal.utils.NetworkUtils;
@@ -67,6 +68,8 @@ public class NetworkDiscoveryService extends AbstractDiscoveryService implements
             .unmodifiableSet(Stream.of(80, 548, 554, 1025).collect(Collectors.toSet()));
     private Integer scannedIPcount = 0;
     private @Nullable ExecutorService executorService = null;
+    // The checks of a scan run apart from the checks of the things, so that a scan does not delay them
+    private @Nullable PresenceDetectionExecutor checkExecutor = null;
     private final NetworkBindingConfiguration configuration = new NetworkBindingConfiguration();
     private final NetworkUtils networkUtils = new NetworkUtils();
 
@@ -99,6 +102,10 @@ public class NetworkDiscoveryService extends AbstractDiscoveryService implements
         if (executorService != null) {
             executorService.shutdown();
         }
+        final PresenceDetectionExecutor checks = checkExecutor;
+        if (checks != null) {
+            checks.shutdown();
+        }
         super.deactivate();
     }
 
@@ -131,6 +138,11 @@ public class NetworkDiscoveryService extends AbstractDiscoveryService implements
         if (service == null) {
             return;
         }
+        PresenceDetectionExecutor checks = checkExecutor;
+        if (checks == null) {
+            checks = new PresenceDetectionExecutor(configuration.maxConcurrentChecks.intValue());
+            checkExecutor = checks;
+        }
         removeOlderResults(getTimestampOfLastScan(), null);
         logger.trace("Starting Network Device Discovery");
 
@@ -139,6 +151,7 @@ public class NetworkDiscoveryService extends AbstractDiscoveryService implements
 
         for (String ip : networkIPs) {
             final PresenceDetection s = new PresenceDetection(this, 2000);
+            s.setExecutor(checks);
             s.setHostname(ip);
             s.setIOSDevice(true);
             s.setUseDhcpSniffing(false);
@@ -178,6 +191,11 @@ public class NetworkDiscoveryService extends AbstractDiscoveryService implements
         }
         service.shutdown();
         executorService = null;
+        final PresenceDetectionExecutor checks = checkExecutor;
+        if (checks != null) {
+            checks.shutdown();
+            checkExecutor = null;
+        }
     }
 
     public static ThingUID createServiceUID(String ip, int tcpPort) {
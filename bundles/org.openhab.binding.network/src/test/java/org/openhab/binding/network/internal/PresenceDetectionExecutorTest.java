@@ -0,0 +1,134 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.network.internal;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ * Tests cases for {@see PresenceDetectionExecutor}
+ *
+ * @author agent - Initial contribution
+ */
+public class PresenceDetectionExecutorTest {
+    PresenceDetectionExecutor subject = new PresenceDetectionExecutor(2);
+
+    @Test
+    public void staggeredRefreshes() {
+        assertThat(subject.nextRefreshDelay(250), is(0L));
+        assertThat(subject.nextRefreshDelay(250), is(100L));
+        assertThat(subject.nextRefreshDelay(250), is(200L));
+        // Wraps around at the refresh interval
+        assertThat(subject.nextRefreshDelay(250), is(50L));
+        assertThat(subject.nextRefreshDelay(0), is(0L));
+    }
+
+    @Test
+    public void boundedConcurrentChecks() throws InterruptedException {
+        CountDownLatch running = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch finished = new CountDownLatch(5);
+        for (int i = 0; i < 5; i++) {
+            subject.execute(() -> {
+                running.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException ignored) {
+                }
+                finished.countDown();
+            });
+        }
+        // Only two checks are running, the others wait for a free thread
+        assertThat(subject.getQueuedChecks(), is(3));
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+        assertThat(subject.getRunningChecks(), is(2));
+        release.countDown();
+        assertTrue(finished.await(5, TimeUnit.SECONDS));
+
+        assertThat(subject.getMaxRunningChecks(), is(2));
+        // The metrics are updated after a check returned
+        long deadline = System.currentTimeMillis() + 5000;
+        while (subject.getCompletedChecks() < 5 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(subject.getCompletedChecks(), is(5L));
+        assertThat(subject.getRunningChecks(), is(0));
+        assertTrue(subject.getMaxCheckTimeInMS() >= subject.getAverageCheckTimeInMS());
+    }
+
+    @Test
+    public void changedMaxConcurrentChecks() throws InterruptedException {
+        subject.setMaxConcurrentChecks(3);
+        assertThat(subject.getMaxConcurrentChecks(), is(3));
+
+        CountDownLatch running = new CountDownLatch(3);
+        CountDownLatch release = new CountDownLatch(1);
+        for (int i = 0; i < 4; i++) {
+            subject.execute(() -> {
+                running.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException ignored) {
+                }
+            });
+        }
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+        assertThat(subject.getQueuedChecks(), is(1));
+        release.countDown();
+
+        subject.setMaxConcurrentChecks(0);
+        assertThat(subject.getMaxConcurrentChecks(), is(1));
+        subject.shutdown();
+    }
+
+    @Test
+    public void skippedDetections() {
+        subject.detectionSkipped();
+        assertThat(subject.getSkippedDetections(), is(1L));
+    }
+
+    @Test
+    public void shutdownDiscardsQueuedChecks() throws InterruptedException {
+        CountDownLatch running = new CountDownLatch(2);
+        CountDownLatch interrupted = new CountDownLatch(2);
+        CountDownLatch queuedRun = new CountDownLatch(1);
+        for (int i = 0; i < 2; i++) {
+            subject.execute(() -> {
+                running.countDown();
+                try {
+                    new CountDownLatch(1).await();
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                }
+            });
+        }
+        subject.execute(queuedRun::countDown);
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+
+        subject.shutdown();
+        // Running checks are interrupted, queued checks are not executed anymore
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+        assertFalse(queuedRun.await(100, TimeUnit.MILLISECONDS));
+
+        // Checks that are submitted after a shutdown are executed by a new thread pool
+        CountDownLatch executed = new CountDownLatch(1);
+        subject.execute(executed::countDown);
+        assertTrue(executed.await(5, TimeUnit.SECONDS));
+        subject.shutdown();
+    }
+}
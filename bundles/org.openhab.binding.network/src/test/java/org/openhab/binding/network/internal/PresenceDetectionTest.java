@@ -91,11 +91,11 @@ public class PresenceDetectionTest {
         subject.waitForPresenceDetection();
     }
 
-    // Depending on the amount of test methods an according amount of threads is spawned.
-    // We will check if they spawn and return in time.
+    // Depending on the amount of test methods an according amount of checks is executed.
+    // We will check if they are executed and return in time.
     @Test
     public void threadCountTest() {
-        assertNull(subject.executorService);
+        assertNull(subject.ongoingChecks);
 
         doNothing().when(subject).performARPping(any());
         doNothing().when(subject).performJavaPing();
@@ -106,11 +106,11 @@ public class PresenceDetectionTest {
 
         // Thread count: ARP + ICMP + 1*TCP
         assertThat(subject.detectionChecks, is(3));
-        assertNotNull(subject.executorService);
+        assertNotNull(subject.ongoingChecks);
 
         subject.waitForPresenceDetection();
         assertThat(subject.detectionChecks, is(0));
-        assertNull(subject.executorService);
+        assertNull(subject.ongoingChecks);
     }
 
     @Test
@@ -144,14 +144,14 @@ public class PresenceDetectionTest {
                 .nativeARPPing(eq(ArpPingUtilEnum.IPUTILS_ARPING), anyString(), anyString(), any(), anyInt());
         doReturn(Optional.of(new PingResult(true, 10))).when(networkUtils).servicePing(anyString(), anyInt(), anyInt());
 
-        doReturn(executorService).when(subject).getThreadsFor(anyInt());
+        subject.executor = executorService;
 
         // We expect no valid value
         assertTrue(subject.cache.isExpired());
         // Get value will issue a PresenceDetection internally.
         subject.getValue(callback);
         verify(subject).performPresenceDetection(eq(false));
-        assertNotNull(subject.executorService);
+        assertNotNull(subject.ongoingChecks);
         // There should be no straight callback yet
         verify(callback, times(0)).accept(any());
 
@@ -178,6 +178,41 @@ public class PresenceDetectionTest {
         verify(callback, times(2)).accept(any());
     }
 
+    @Test
+    public void checksThatNeverStartedDoNotReportUnreachable() {
+        subject.executor = executorService;
+
+        assertTrue(subject.performPresenceDetection(false));
+        // The checks stay queued in the executor
+        long start = System.nanoTime();
+        subject.waitForPresenceDetection();
+
+        // The wait is bounded by the check timeout
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(2));
+        assertNull(subject.ongoingChecks);
+        verify(listener, never()).finalDetectionResult(any());
+    }
+
+    @Test
+    public void finishedChecksReportUnreachable() {
+        doNothing().when(subject).performARPping(any());
+        doNothing().when(subject).performSystemPing();
+        doNothing().when(subject).performServicePing(anyInt());
+        subject.executor = executorService;
+
+        assertTrue(subject.performPresenceDetection(false));
+        ArgumentCaptor<Runnable> capture = ArgumentCaptor.forClass(Runnable.class);
+        verify(executorService, times(3)).execute(capture.capture());
+        for (Runnable r : capture.getAllValues()) {
+            r.run();
+        }
+        subject.waitForPresenceDetection();
+
+        ArgumentCaptor<PresenceDetectionValue> value = ArgumentCaptor.forClass(PresenceDetectionValue.class);
+        verify(listener).finalDetectionResult(value.capture());
+        assertFalse(value.getValue().isReachable());
+    }
+
     @Test
     public void reuseValueTests() throws InterruptedException, IOException {
         final long START_TIME = 1000L;
@@ -22,6 +22,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.BiPredicate;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -83,6 +84,39 @@ public class SonosXMLParser {
         desc
     }
 
+    /**
+     * The idle XML reader of each thread. A reader is taken out while it is parsing, so that a handler which parses
+     * nested XML gets a reader of its own.
+     */
+    private static final ThreadLocal<@Nullable XMLReader> READERS = new ThreadLocal<>();
+
+    private static final DefaultHandler NO_HANDLER = new DefaultHandler();
+
+    /**
+     * Parses the given input with the given handler, reusing the idle XML reader of the current thread.
+     *
+     * @param handler the content handler
+     * @param input the input to parse
+     * @throws IOException
+     * @throws SAXException
+     */
+    private static void parse(DefaultHandler handler, InputSource input) throws IOException, SAXException {
+        XMLReader reader = READERS.get();
+        if (reader == null) {
+            reader = XMLReaderFactory.createXMLReader();
+        } else {
+            READERS.remove();
+        }
+        try {
+            reader.setContentHandler(handler);
+            reader.parse(input);
+        } finally {
+            // do not keep the handler and its results reachable from the idle reader
+            reader.setContentHandler(NO_HANDLER);
+            READERS.set(reader);
+        }
+    }
+
     /**
      * @param xml
      * @return a list of alarms from the given xml string.
@@ -92,9 +126,7 @@ public class SonosXMLParser {
     public static List<SonosAlarm> getAlarmsFromStringResult(String xml) {
         AlarmHandler handler = new AlarmHandler();
         try {
-            XMLReader reader = XMLReaderFactory.createXMLReader();
-            reader.setContentHandler(handler);
-            reader.parse(new InputSource(new StringReader(xml)));
+            parse(handler, new InputSource(new StringReader(xml)));
         } catch (IOException e) {
             LOGGER.error("Could not parse Alarms from string '{}'", xml);
         } catch (SAXException s) {
@@ -112,9 +144,7 @@ public class SonosXMLParser {
     public static List<SonosEntry> getEntriesFromString(String xml) {
         EntryHandler handler = new EntryHandler();
         try {
-            XMLReader reader = XMLReaderFactory.createXMLReader();
-            reader.setContentHandler(handler);
-            reader.parse(new InputSource(new StringReader(xml)));
+            parse(handler, new InputSource(new StringReader(xml)));
         } catch (IOException e) {
             LOGGER.error("Could not parse Entries from string '{}'", xml);
         } catch (SAXException s) {
@@ -133,11 +163,9 @@ public class SonosXMLParser {
      * @throws SAXException
      */
     public static @Nullable SonosResourceMetaData getResourceMetaData(String xml) throws SAXException {
-        XMLReader reader = XMLReaderFactory.createXMLReader();
         ResourceMetaDataHandler handler = new ResourceMetaDataHandler();
-        reader.setContentHandler(handler);
         try {
-            reader.parse(new InputSource(new StringReader(xml)));
+            parse(handler, new InputSource(new StringReader(xml)));
         } catch (IOException e) {
             LOGGER.error("Could not parse Resource MetaData from String '{}'", xml);
         } catch (SAXException s) {
@@ -156,9 +184,7 @@ public class SonosXMLParser {
     public static List<SonosZoneGroup> getZoneGroupFromXML(String xml) {
         ZoneGroupHandler handler = new ZoneGroupHandler();
         try {
-            XMLReader reader = XMLReaderFactory.createXMLReader();
-            reader.setContentHandler(handler);
-            reader.parse(new InputSource(new StringReader(xml)));
+            parse(handler, new InputSource(new StringReader(xml)));
         } catch (IOException e) {
             // This should never happen - we're not performing I/O!
             LOGGER.error("Could not parse ZoneGroup from string '{}'", xml);
@@ -172,9 +198,7 @@ public class SonosXMLParser {
     public static List<String> getRadioTimeFromXML(String xml) {
         OpmlHandler handler = new OpmlHandler();
         try {
-            XMLReader reader = XMLReaderFactory.createXMLReader();
-            reader.setContentHandler(handler);
-            reader.parse(new InputSource(new StringReader(xml)));
+            parse(handler, new InputSource(new StringReader(xml)));
         } catch (IOException e) {
             // This should never happen - we're not performing I/O!
             LOGGER.error("Could not parse RadioTime from string '{}'", xml);
@@ -186,11 +210,19 @@ public class SonosXMLParser {
     }
 
     public static Map<String, @Nullable String> getRenderingControlFromXML(String xml) {
-        RenderingControlEventHandler handler = new RenderingControlEventHandler();
+        return getRenderingControlFromXML(xml, (variable, value) -> true);
+    }
+
+    /**
+     * @param xml
+     * @param filter decides for every parsed variable and value whether it is returned, e.g. only changed values
+     * @return the accepted variables and their values from the given LastChange xml
+     */
+    public static Map<String, @Nullable String> getRenderingControlFromXML(String xml,
+            BiPredicate<String, String> filter) {
+        RenderingControlEventHandler handler = new RenderingControlEventHandler(filter);
         try {
-            XMLReader reader = XMLReaderFactory.createXMLReader();
-            reader.setContentHandler(handler);
-            reader.parse(new InputSource(new StringReader(xml)));
+            parse(handler, new InputSource(new StringReader(xml)));
         } catch (IOException e) {
             // This should never happen - we're not performing I/O!
             LOGGER.error("Could not parse Rendering Control from string '{}'", xml);
@@ -201,11 +233,18 @@ public class SonosXMLParser {
     }
 
     public static Map<String, @Nullable String> getAVTransportFromXML(String xml) {
-        AVTransportEventHandler handler = new AVTransportEventHandler();
+        return getAVTransportFromXML(xml, (variable, value) -> true);
+    }
+
+    /**
+     * @param xml
+     * @param filter decides for every parsed variable and value whether it is returned, e.g. only changed values
+     * @return the accepted variables and their values from the given LastChange xml
+     */
+    public static Map<String, @Nullable String> getAVTransportFromXML(String xml, BiPredicate<String, String> filter) {
+        AVTransportEventHandler handler = new AVTransportEventHandler(filter);
         try {
-            XMLReader reader = XMLReaderFactory.createXMLReader();
-            reader.setContentHandler(handler);
-            reader.parse(new InputSource(new StringReader(xml)));
+            parse(handler, new InputSource(new StringReader(xml)));
         } catch (IOException e) {
             // This should never happen - we're not performing I/O!
             LOGGER.error("Could not parse AV Transport from string '{}'", xml);
@@ -218,9 +257,7 @@ public class SonosXMLParser {
     public static SonosMetaData getMetaDataFromXML(String xml) {
         MetaDataHandler handler = new MetaDataHandler();
         try {
-            XMLReader reader = XMLReaderFactory.createXMLReader();
-            reader.setContentHandler(handler);
-            reader.parse(new InputSource(new StringReader(xml)));
+            parse(handler, new InputSource(new StringReader(xml)));
         } catch (IOException e) {
             // This should never happen - we're not performing I/O!
             LOGGER.error("Could not parse MetaData from string '{}'", xml);
@@ -234,9 +271,7 @@ public class SonosXMLParser {
     public static List<SonosMusicService> getMusicServicesFromXML(String xml) {
         MusicServiceHandler handler = new MusicServiceHandler();
         try {
-            XMLReader reader = XMLReaderFactory.createXMLReader();
-            reader.setContentHandler(handler);
-            reader.parse(new InputSource(new StringReader(xml)));
+            parse(handler, new InputSource(new StringReader(xml)));
         } catch (IOException e) {
             // This should never happen - we're not performing I/O!
             LOGGER.error("Could not parse music services from string '{}'", xml);
@@ -705,6 +740,11 @@ public class SonosXMLParser {
          */
 
         private final Map<String, @Nullable String> changes = new HashMap<>();
+        private final BiPredicate<String, String> filter;
+
+        public AVTransportEventHandler(BiPredicate<String, String> filter) {
+            this.filter = filter;
+        }
 
         @Override
         public void startElement(@Nullable String uri, @Nullable String localName, @Nullable String qName,
@@ -718,7 +758,7 @@ public class SonosXMLParser {
                 LOGGER.info("{} is not defined in EventType. ", localName);
             } else {
                 String val = attributes == null ? null : attributes.getValue("val");
-                if (val != null) {
+                if (val != null && filter.test(localName, val)) {
                     changes.put(localName, val);
                 }
             }
@@ -836,9 +876,15 @@ public class SonosXMLParser {
 
         private final Map<String, @Nullable String> changes = new HashMap<>();
 
+        private final BiPredicate<String, String> filter;
+
         private boolean getPresetName = false;
         private @Nullable String presetName;
 
+        public RenderingControlEventHandler(BiPredicate<String, String> filter) {
+            this.filter = filter;
+        }
+
         @Override
         public void startElement(@Nullable String uri, @Nullable String localName, @Nullable String qName,
                 @Nullable Attributes attributes) throws SAXException {
@@ -854,14 +900,17 @@ public class SonosXMLParser {
                     channel = attributes == null ? null : attributes.getValue("channel");
                     val = attributes == null ? null : attributes.getValue("val");
                     if (channel != null && val != null) {
-                        changes.put(qName + channel, val);
+                        String variable = qName + channel;
+                        if (filter.test(variable, val)) {
+                            changes.put(variable, val);
+                        }
                     }
                     break;
                 case "Bass":
                 case "Treble":
                 case "OutputFixed":
                     val = attributes == null ? null : attributes.getValue("val");
-                    if (val != null) {
+                    if (val != null && filter.test(qName, val)) {
                         changes.put(qName, val);
                     }
                     break;
@@ -886,7 +935,7 @@ public class SonosXMLParser {
             if (getPresetName) {
                 getPresetName = false;
                 String preset = presetName;
-                if (qName != null && preset != null) {
+                if (qName != null && preset != null && filter.test(qName, preset)) {
                     changes.put(qName, preset);
                 }
             }
@@ -919,10 +968,8 @@ public class SonosXMLParser {
     public static @Nullable String getRoomName(String descriptorXML) {
         RoomNameHandler roomNameHandler = new RoomNameHandler();
         try {
-            XMLReader reader = XMLReaderFactory.createXMLReader();
-            reader.setContentHandler(roomNameHandler);
             URL url = new URL(descriptorXML);
-            reader.parse(new InputSource(url.openStream()));
+            parse(roomNameHandler, new InputSource(url.openStream()));
         } catch (IOException | SAXException e) {
             LOGGER.error("Could not parse Sonos room name from string '{}'", descriptorXML);
         }
@@ -958,10 +1005,8 @@ public class SonosXMLParser {
     public static @Nullable String parseModelDescription(URL descriptorURL) {
         ModelNameHandler modelNameHandler = new ModelNameHandler();
         try {
-            XMLReader reader = XMLReaderFactory.createXMLReader();
-            reader.setContentHandler(modelNameHandler);
             URL url = new URL(descriptorURL.toString());
-            reader.parse(new InputSource(url.openStream()));
+            parse(modelNameHandler, new InputSource(url.openStream()));
         } catch (IOException | SAXException e) {
             LOGGER.error("Could not parse Sonos model name from string '{}'", descriptorURL.toString());
         }
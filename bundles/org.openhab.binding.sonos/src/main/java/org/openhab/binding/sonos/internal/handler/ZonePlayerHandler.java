@@ -405,7 +405,12 @@ public class ZonePlayerHandler extends BaseThingHandler implements UpnpIOPartici
 
             // pre-process some variables, eg XML processing
             if (service.equals("AVTransport") && variable.equals("LastChange")) {
-                Map<String, @Nullable String> parsedValues = SonosXMLParser.getAVTransportFromXML(value);
+                // Only the changed variables are processed, a LastChange event carries the full transport state
+                Map<String, @Nullable String> parsedValues = SonosXMLParser.getAVTransportFromXML(value,
+                        this::hasTransportValueChanged);
+                if (parsedValues.isEmpty()) {
+                    return;
+                }
                 for (String parsedValue : parsedValues.keySet()) {
                     // Update the transport state after the update of the media information
                     // to not break the notification mechanism
@@ -427,7 +432,8 @@ public class ZonePlayerHandler extends BaseThingHandler implements UpnpIOPartici
             }
 
             if (service.equals("RenderingControl") && variable.equals("LastChange")) {
-                Map<String, @Nullable String> parsedValues = SonosXMLParser.getRenderingControlFromXML(value);
+                Map<String, @Nullable String> parsedValues = SonosXMLParser.getRenderingControlFromXML(value,
+                        (parsedVariable, parsedValue) -> hasValueChanged(parsedValue, stateMap.get(parsedVariable)));
                 for (String parsedValue : parsedValues.keySet()) {
                     onValueReceived(parsedValue, parsedValues.get(parsedValue), "RenderingControl");
                 }
@@ -844,6 +850,24 @@ public class ZonePlayerHandler extends BaseThingHandler implements UpnpIOPartici
         return oldValue != null ? !oldValue.equals(value) : value != null;
     }
 
+    /**
+     * AVTransportURI and AVTransportURIMetaData are also translated to CurrentURI and CurrentURIMetaData,
+     * which may have been updated separately by the action GetMediaInfo.
+     */
+    private boolean hasTransportValueChanged(String variable, String value) {
+        if (hasValueChanged(value, stateMap.get(variable))) {
+            return true;
+        }
+        switch (variable) {
+            case "AVTransportURI":
+                return hasValueChanged(value, stateMap.get("CurrentURI"));
+            case "AVTransportURIMetaData":
+                return hasValueChanged(value, stateMap.get("CurrentURIMetaData"));
+            default:
+                return false;
+        }
+    }
+
     /**
      * Similar to the AVTransport eventing, the Queue events its state variables
      * as sub values within a synthesized LastChange state variable.
@@ -53,4 +53,15 @@ public interface Homekit {
      * clear all pairings with HomeKit clients
      */
     void clearHomekitPairings();
+
+    /**
+     * returns the number of characteristic change notifications sent to HomeKit clients.
+     */
+    long getNotifiedChanges();
+
+    /**
+     * returns the number of item changes not sent to HomeKit clients on their own, because they were collected
+     * within the notification delay together with other changes of the same characteristic.
+     */
+    long getCoalescedChanges();
 }
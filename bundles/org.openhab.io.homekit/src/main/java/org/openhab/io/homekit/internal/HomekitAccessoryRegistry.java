@@ -99,6 +99,28 @@ class HomekitAccessoryRegistry {
         }
     }
 
+    /**
+     * Replaces the accessory of an item by an equivalent accessory, e.g. one referring to new item instances.
+     *
+     * @param itemName name of the item
+     * @param accessory the new accessory
+     */
+    public synchronized void replace(String itemName, HomekitAccessory accessory) {
+        final @Nullable HomekitAccessory oldAccessory = createdAccessories.put(itemName, accessory);
+        logger.trace("Replaced accessory {} for taggedItem {} by {}", oldAccessory, itemName, accessory);
+        final HomekitRoot bridge = this.bridge;
+        if (bridge != null) {
+            if (oldAccessory != null) {
+                bridge.removeAccessory(oldAccessory);
+            }
+            bridge.addAccessory(accessory);
+        }
+    }
+
+    public synchronized @Nullable HomekitAccessory get(String itemName) {
+        return createdAccessories.get(itemName);
+    }
+
     public Map<String, HomekitAccessory> getAllAccessories() {
         return this.createdAccessories;
     }
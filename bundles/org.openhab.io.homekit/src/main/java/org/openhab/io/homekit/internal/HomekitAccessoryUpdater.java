@@ -12,10 +12,16 @@
  */
 package org.openhab.io.homekit.internal;
 
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.smarthome.core.common.ThreadPoolManager;
 import org.eclipse.smarthome.core.items.GenericItem;
 import org.eclipse.smarthome.core.items.Item;
 import org.eclipse.smarthome.core.items.StateChangeListener;
@@ -31,11 +37,38 @@ import io.github.hapjava.characteristics.HomekitCharacteristicChangeCallback;
  * HomeKit library takes care of insuring only a single subscription exists for
  * each accessory.
  *
+ * Item changes are notified immediately by default. With a notification delay set, changes within the delay are
+ * collected and notified together, and multiple changes of the same characteristic result in a single notification.
+ * HomeKit reads the current value when notifying the clients, so intermediate values are dropped.
+ *
  * @author Andy Lintner - Initial contribution
  */
 public class HomekitAccessoryUpdater {
     private final Logger logger = LoggerFactory.getLogger(HomekitAccessoryUpdater.class);
     private final ConcurrentMap<ItemKey, Subscription> subscriptionsByName = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler;
+    private final Set<HomekitCharacteristicChangeCallback> pendingCallbacks = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean notificationScheduled = new AtomicBoolean();
+    private final LongAdder notifiedChanges = new LongAdder();
+    private final LongAdder coalescedChanges = new LongAdder();
+    private volatile int notificationDelay;
+
+    public HomekitAccessoryUpdater() {
+        this(ThreadPoolManager.getScheduledPool(ThreadPoolManager.THREAD_POOL_NAME_COMMON));
+    }
+
+    public HomekitAccessoryUpdater(ScheduledExecutorService scheduler) {
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Sets the time window in which item changes are collected before HomeKit clients are notified.
+     *
+     * @param notificationDelay delay in milliseconds, 0 to notify every change immediately
+     */
+    public void setNotificationDelay(int notificationDelay) {
+        this.notificationDelay = notificationDelay;
+    }
 
     public void subscribe(GenericItem item, HomekitCharacteristicChangeCallback callback) {
         subscribe(item, null, callback);
@@ -54,10 +87,10 @@ public class HomekitAccessoryUpdater {
         subscriptionsByName.compute(itemKey, (k, v) -> {
             if (v != null) {
                 logger.debug("Received duplicate subscription for {} / {}", item, key);
-                unsubscribe(item, key);
+                removeSubscription(item, v);
             }
             logger.trace("Adding subscription for {} / {}", item, key);
-            Subscription subscription = (changedItem, oldState, newState) -> callback.changed();
+            Subscription subscription = new Subscription(callback);
             item.addStateChangeListener(subscription);
             return subscription;
         });
@@ -73,20 +106,85 @@ public class HomekitAccessoryUpdater {
         }
         subscriptionsByName.computeIfPresent(new ItemKey(item, key), (k, v) -> {
             logger.trace("Removing existing subscription for {} / {}", item, key);
-            item.removeStateChangeListener(v);
+            removeSubscription(item, v);
             return null;
         });
     }
 
-    @FunctionalInterface
+    private void removeSubscription(GenericItem item, Subscription subscription) {
+        item.removeStateChangeListener(subscription);
+        // the accessory may be gone, do not notify its pending changes
+        pendingCallbacks.remove(subscription.callback);
+    }
+
+    private void characteristicChanged(HomekitCharacteristicChangeCallback callback) {
+        int notificationDelay = this.notificationDelay;
+        if (notificationDelay <= 0) {
+            notifyChange(callback);
+            notifiedChanges.increment();
+            return;
+        }
+        if (!pendingCallbacks.add(callback)) {
+            coalescedChanges.increment();
+        }
+        if (notificationScheduled.compareAndSet(false, true)) {
+            scheduler.schedule(this::notifyPendingChanges, notificationDelay, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void notifyPendingChanges() {
+        // Changes arriving from now on schedule a new notification run
+        notificationScheduled.set(false);
+        int count = 0;
+        for (HomekitCharacteristicChangeCallback callback : pendingCallbacks) {
+            if (pendingCallbacks.remove(callback)) {
+                notifyChange(callback);
+                count++;
+            }
+        }
+        notifiedChanges.add(count);
+        logger.trace("Notified HomeKit about {} characteristic changes, {} item changes coalesced so far", count,
+                coalescedChanges.sum());
+    }
+
+    private void notifyChange(HomekitCharacteristicChangeCallback callback) {
+        try {
+            callback.changed();
+        } catch (RuntimeException e) {
+            logger.warn("Could not notify HomeKit about a characteristic change", e);
+        }
+    }
+
+    /**
+     * Returns the number of characteristic change notifications sent to HomeKit.
+     */
+    public long getNotifiedChanges() {
+        return notifiedChanges.sum();
+    }
+
+    /**
+     * Returns the number of item changes that did not cause a notification of their own, because the
+     * characteristic change was already pending.
+     */
+    public long getCoalescedChanges() {
+        return coalescedChanges.sum();
+    }
+
     @NonNullByDefault
-    private interface Subscription extends StateChangeListener {
+    private class Subscription implements StateChangeListener {
+        private final HomekitCharacteristicChangeCallback callback;
+
+        Subscription(HomekitCharacteristicChangeCallback callback) {
+            this.callback = callback;
+        }
 
         @Override
-        void stateChanged(Item item, State oldState, State newState);
+        public void stateChanged(Item item, State oldState, State newState) {
+            characteristicChanged(callback);
+        }
 
         @Override
-        default void stateUpdated(Item item, State state) {
+        public void stateUpdated(Item item, State state) {
             // Do nothing on non-change update
         }
     }
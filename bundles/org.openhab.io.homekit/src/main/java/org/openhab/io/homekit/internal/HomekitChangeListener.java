@@ -14,7 +14,9 @@ package org.openhab.io.homekit.internal;
 
 import java.time.Clock;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -22,8 +24,10 @@ import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 import org.eclipse.smarthome.core.common.ThreadPoolManager;
 import org.eclipse.smarthome.core.items.GroupItem;
 import org.eclipse.smarthome.core.items.Item;
@@ -78,6 +82,7 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
             StorageService storageService) {
         this.itemRegistry = itemRegistry;
         this.settings = settings;
+        updater.setNotificationDelay(settings.notificationDelay);
         this.metadataRegistry = metadataRegistry;
         storage = storageService.getStorage(HomekitAuthInfoImpl.STORAGE_KEY);
         this.applyUpdatesDebouncer = new Debouncer("update-homekit-devices", scheduler, Duration.ofMillis(1000),
@@ -116,6 +121,17 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
         clearAccessories();
     }
 
+    /**
+     * Mark an item or accessory group as dirty by its name only, so that after a debounce period the accessory update
+     * is applied again. Used for accessories whose registration changed while they were rebuilt.
+     *
+     * @param itemName The name of the item that has been changed or removed.
+     */
+    private synchronized void markDirty(String itemName) {
+        pendingUpdates.add(itemName);
+        applyUpdatesDebouncer.call();
+    }
+
     /**
      * Mark an item as dirty, plus any accessory groups to which it pertains, so that after a debounce period the
      * accessory update can be applied.
@@ -157,16 +173,90 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
         storage.put(ACCESSORY_COUNT, "" + lastAccessoryCount);
     }
 
-    private synchronized void applyUpdates() {
+    /**
+     * Applies the pending item updates. Only the accessories of changed items are rebuilt and compared to the
+     * existing ones, outside of the lock. A rebuilt accessory that is equivalent to the existing one (same structure
+     * and same item instances) is discarded and the existing accessory is kept. An accessory with the same structure
+     * but new item instances replaces the existing accessory in place. A new configuration revision is only published
+     * if the structure of an accessory changed. The registry is only modified while holding the lock, like when the
+     * bridge is set or unset.
+     */
+    private void applyUpdates() {
+        final Set<String> updates;
+        synchronized (this) {
+            updates = new HashSet<>(pendingUpdates);
+            pendingUpdates.clear();
+        }
+        if (updates.isEmpty()) {
+            return;
+        }
         logger.trace("apply updates");
-        for (final String name : pendingUpdates) {
-            accessoryRegistry.remove(name);
-            logger.trace(" add items {}", name);
-            getItemOptional(name).ifPresent(this::createRootAccessories);
+        final long startTime = System.nanoTime();
+        final List<AccessoryUpdate> changes = new ArrayList<>();
+        for (final String name : updates) {
+            final @Nullable HomekitAccessory oldAccessory = accessoryRegistry.get(name);
+            final List<HomekitAccessory> newAccessories = getItemOptional(name).map(this::buildRootAccessories)
+                    .orElse(Collections.emptyList());
+            if (oldAccessory == null && newAccessories.isEmpty()) {
+                continue; // Not a HomeKit accessory
+            }
+            boolean sameStructure = false;
+            if (oldAccessory != null && newAccessories.size() == 1) {
+                final HomekitAccessory newAccessory = newAccessories.get(0);
+                if (HomekitAccessoryFactory.isEquivalent(oldAccessory, newAccessory, true)) {
+                    logger.trace("Accessory {} unchanged", name);
+                    continue;
+                }
+                sameStructure = HomekitAccessoryFactory.isEquivalent(oldAccessory, newAccessory, false);
+            }
+            changes.add(new AccessoryUpdate(name, oldAccessory, newAccessories, sameStructure));
         }
-        if (!pendingUpdates.isEmpty()) {
-            makeNewConfigurationRevision();
-            pendingUpdates.clear();
+
+        boolean structureChanged = false;
+        int rebuilt = 0;
+        synchronized (this) {
+            for (AccessoryUpdate change : changes) {
+                if (accessoryRegistry.get(change.name) != change.oldAccessory) {
+                    // changed while rebuilding, compare again later
+                    markDirty(change.name);
+                    continue;
+                }
+                if (change.sameStructure) {
+                    logger.trace(" replace items {}", change.name);
+                    accessoryRegistry.replace(change.name, change.newAccessories.get(0));
+                } else {
+                    structureChanged = true;
+                    accessoryRegistry.remove(change.name);
+                    logger.trace(" add items {}", change.name);
+                    change.newAccessories
+                            .forEach(accessory -> accessoryRegistry.addRootAccessory(change.name, accessory));
+                }
+                rebuilt++;
+            }
+            if (structureChanged) {
+                makeNewConfigurationRevision();
+            }
+        }
+        logger.debug("Applied {} HomeKit item updates in {} ms: {} accessories rebuilt, structure changed: {}",
+                updates.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime), rebuilt,
+                structureChanged);
+    }
+
+    /**
+     * Rebuilt accessories of an item, to be applied to the registry
+     */
+    private static class AccessoryUpdate {
+        final String name;
+        final @Nullable HomekitAccessory oldAccessory;
+        final List<HomekitAccessory> newAccessories;
+        final boolean sameStructure;
+
+        AccessoryUpdate(String name, @Nullable HomekitAccessory oldAccessory, List<HomekitAccessory> newAccessories,
+                boolean sameStructure) {
+            this.name = name;
+            this.oldAccessory = oldAccessory;
+            this.newAccessories = newAccessories;
+            this.sameStructure = sameStructure;
         }
     }
 
@@ -195,10 +285,16 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
 
     public void setUpdater(HomekitAccessoryUpdater updater) {
         this.updater = updater;
+        updater.setNotificationDelay(settings.notificationDelay);
+    }
+
+    public HomekitAccessoryUpdater getUpdater() {
+        return updater;
     }
 
     public void updateSettings(HomekitSettings settings) {
         this.settings = settings;
+        updater.setNotificationDelay(settings.notificationDelay);
     }
 
     public void stop() {
@@ -239,6 +335,17 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
      * @param item openHAB item
      */
     private void createRootAccessories(Item item) {
+        buildRootAccessories(item).forEach(accessory -> accessoryRegistry.addRootAccessory(item.getName(), accessory));
+    }
+
+    /**
+     * Creates the HomeKit root accessories for the given openHAB item, without registering them.
+     *
+     * @param item openHAB item
+     * @return the accessories, empty if the item is not a HomeKit root accessory
+     */
+    private List<HomekitAccessory> buildRootAccessories(Item item) {
+        final List<HomekitAccessory> accessories = new ArrayList<>();
         final List<Entry<HomekitAccessoryType, HomekitCharacteristicType>> accessoryTypes = HomekitAccessoryFactory
                 .getAccessoryTypes(item, metadataRegistry);
         final List<GroupItem> groups = HomekitAccessoryFactory.getAccessoryGroups(item, itemRegistry, metadataRegistry);
@@ -246,17 +353,16 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
                 && (groups.isEmpty() || groups.stream().noneMatch(g -> g.getBaseItem() == null))) {
             logger.trace("Item {} is a HomeKit accessory of types {}", item.getName(), accessoryTypes);
             final HomekitOHItemProxy itemProxy = new HomekitOHItemProxy(item);
-            accessoryTypes.forEach(rootAccessory -> createRootAccessory(new HomekitTaggedItem(itemProxy,
-                    rootAccessory.getKey(), HomekitAccessoryFactory.getItemConfiguration(item, metadataRegistry))));
-        }
-    }
-
-    private void createRootAccessory(HomekitTaggedItem taggedItem) {
-        try {
-            accessoryRegistry.addRootAccessory(taggedItem.getName(),
-                    HomekitAccessoryFactory.create(taggedItem, metadataRegistry, updater, settings));
-        } catch (HomekitException e) {
-            logger.warn("Could not add device {}: {}", taggedItem.getItem().getUID(), e.getMessage());
+            accessoryTypes.forEach(rootAccessory -> {
+                final HomekitTaggedItem taggedItem = new HomekitTaggedItem(itemProxy, rootAccessory.getKey(),
+                        HomekitAccessoryFactory.getItemConfiguration(item, metadataRegistry));
+                try {
+                    accessories.add(HomekitAccessoryFactory.create(taggedItem, metadataRegistry, updater, settings));
+                } catch (HomekitException e) {
+                    logger.warn("Could not add device {}: {}", taggedItem.getItem().getUID(), e.getMessage());
+                }
+            });
         }
+        return accessories;
     }
 }
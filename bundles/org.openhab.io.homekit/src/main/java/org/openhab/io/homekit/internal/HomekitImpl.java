@@ -210,4 +210,14 @@ public class HomekitImpl implements Homekit {
             logger.warn("Could not clear HomeKit pairings", e);
         }
     }
+
+    @Override
+    public long getNotifiedChanges() {
+        return changeListener.getUpdater().getNotifiedChanges();
+    }
+
+    @Override
+    public long getCoalescedChanges() {
+        return changeListener.getUpdater().getCoalescedChanges();
+    }
 }
@@ -19,6 +19,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 
@@ -269,6 +270,36 @@ abstract class AbstractHomekitAccessoryImpl implements HomekitAccessory {
         characteristics.add(characteristic);
     }
 
+    /**
+     * Compares the HomeKit structure of this accessory with another accessory: The implementation, the accessory id
+     * and the characteristic types together with the names and configurations of their items.
+     *
+     * @param other another accessory
+     * @param sameItemInstances if true, the items also have to be the same instances. An item edit creates a new
+     *            instance, and an accessory needs to refer to the current instances to report item states.
+     * @return true if the accessories are equivalent
+     */
+    @NonNullByDefault
+    boolean isEquivalent(AbstractHomekitAccessoryImpl other, boolean sameItemInstances) {
+        if (getClass() != other.getClass() || getId() != other.getId()
+                || !isEquivalent(accessory, other.accessory, sameItemInstances)
+                || characteristics.size() != other.characteristics.size()) {
+            return false;
+        }
+        return characteristics.stream().allMatch(characteristic -> other.characteristics.stream()
+                .anyMatch(otherCharacteristic -> isEquivalent(characteristic, otherCharacteristic, sameItemInstances)));
+    }
+
+    @NonNullByDefault
+    private static boolean isEquivalent(HomekitTaggedItem taggedItem, HomekitTaggedItem other,
+            boolean sameItemInstances) {
+        return taggedItem.getAccessoryType() == other.getAccessoryType()
+                && taggedItem.getCharacteristicType() == other.getCharacteristicType()
+                && taggedItem.getName().equals(other.getName())
+                && Objects.equals(taggedItem.getConfiguration(), other.getConfiguration())
+                && (!sameItemInstances || taggedItem.getItem() == other.getItem());
+    }
+
     @NonNullByDefault
     private <T extends Quantity<T>> double convertAndRound(double value, Unit<T> from, Unit<T> to) {
         double rawValue = from == to ? value : from.getConverterTo(to).convert(value);
@@ -203,6 +203,21 @@ public class HomekitAccessoryFactory {
         }
     }
 
+    /**
+     * Checks whether two accessories provide the same HomeKit structure, see
+     * {@link AbstractHomekitAccessoryImpl#isEquivalent(AbstractHomekitAccessoryImpl, boolean)}.
+     *
+     * @param accessory an accessory
+     * @param other another accessory
+     * @param sameItemInstances if true, the items of both accessories also have to be the same instances
+     * @return true if the accessories are equivalent
+     */
+    public static boolean isEquivalent(HomekitAccessory accessory, HomekitAccessory other, boolean sameItemInstances) {
+        return accessory instanceof AbstractHomekitAccessoryImpl && other instanceof AbstractHomekitAccessoryImpl
+                && ((AbstractHomekitAccessoryImpl) accessory).isEquivalent((AbstractHomekitAccessoryImpl) other,
+                        sameItemInstances);
+    }
+
     /**
      * return HomeKit accessory types for a OH item based on meta data
      * 
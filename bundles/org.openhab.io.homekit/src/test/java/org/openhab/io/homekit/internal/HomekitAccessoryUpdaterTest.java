@@ -0,0 +1,107 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.homekit.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.smarthome.core.items.StateChangeListener;
+import org.eclipse.smarthome.core.library.items.SwitchItem;
+import org.eclipse.smarthome.core.library.types.OnOffType;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import io.github.hapjava.characteristics.HomekitCharacteristicChangeCallback;
+
+/**
+ * Tests for {@link HomekitAccessoryUpdater}
+ *
+ * @author agent - Initial contribution
+ */
+public class HomekitAccessoryUpdaterTest {
+
+    @Mock
+    private ScheduledExecutorService scheduler;
+
+    @Mock
+    private SwitchItem item;
+
+    @Mock
+    private HomekitCharacteristicChangeCallback callback;
+
+    private HomekitAccessoryUpdater updater;
+
+    @Before
+    public void setUp() {
+        MockitoAnnotations.initMocks(this);
+        updater = new HomekitAccessoryUpdater(scheduler);
+    }
+
+    private StateChangeListener subscribe() {
+        updater.subscribe(item, callback);
+        ArgumentCaptor<StateChangeListener> listener = ArgumentCaptor.forClass(StateChangeListener.class);
+        verify(item).addStateChangeListener(listener.capture());
+        return listener.getValue();
+    }
+
+    private Runnable scheduledNotification() {
+        ArgumentCaptor<Runnable> notification = ArgumentCaptor.forClass(Runnable.class);
+        verify(scheduler).schedule(notification.capture(), eq(50L), eq(TimeUnit.MILLISECONDS));
+        return notification.getValue();
+    }
+
+    @Test
+    public void testChangesAreNotifiedImmediatelyByDefault() {
+        StateChangeListener listener = subscribe();
+        listener.stateChanged(item, OnOffType.OFF, OnOffType.ON);
+        listener.stateChanged(item, OnOffType.ON, OnOffType.OFF);
+
+        verify(callback, times(2)).changed();
+        verifyZeroInteractions(scheduler);
+        assertEquals(2, updater.getNotifiedChanges());
+    }
+
+    @Test
+    public void testChangesWithinDelayAreCoalesced() {
+        updater.setNotificationDelay(50);
+        StateChangeListener listener = subscribe();
+        listener.stateChanged(item, OnOffType.OFF, OnOffType.ON);
+        listener.stateChanged(item, OnOffType.ON, OnOffType.OFF);
+        verify(callback, never()).changed();
+
+        scheduledNotification().run();
+        verify(callback).changed();
+        assertEquals(1, updater.getNotifiedChanges());
+        assertEquals(1, updater.getCoalescedChanges());
+    }
+
+    @Test
+    public void testPendingChangesAreDroppedOnUnsubscribe() {
+        updater.setNotificationDelay(50);
+        StateChangeListener listener = subscribe();
+        listener.stateChanged(item, OnOffType.OFF, OnOffType.ON);
+        updater.unsubscribe(item);
+        verify(item).removeStateChangeListener(listener);
+
+        scheduledNotification().run();
+        verify(callback, never()).changed();
+        assertEquals(0, updater.getNotifiedChanges());
+    }
+}
@@ -0,0 +1,105 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.homekit.internal.accessories;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.mock;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+
+import org.eclipse.smarthome.core.library.items.SwitchItem;
+import org.junit.Test;
+import org.openhab.io.homekit.internal.HomekitAccessoryType;
+import org.openhab.io.homekit.internal.HomekitAccessoryUpdater;
+import org.openhab.io.homekit.internal.HomekitCharacteristicType;
+import org.openhab.io.homekit.internal.HomekitOHItemProxy;
+import org.openhab.io.homekit.internal.HomekitSettings;
+import org.openhab.io.homekit.internal.HomekitTaggedItem;
+
+import io.github.hapjava.accessories.HomekitAccessory;
+
+/**
+ * Tests for {@link HomekitAccessoryFactory#isEquivalent}
+ *
+ * @author agent - Initial contribution
+ */
+public class HomekitAccessoryFactoryTest {
+
+    private final HomekitAccessoryUpdater updater = new HomekitAccessoryUpdater(mock(ScheduledExecutorService.class));
+    private final HomekitSettings settings = new HomekitSettings();
+
+    private HomekitAccessory createSwitch(SwitchItem item, Map<String, Object> configuration)
+            throws IncompleteAccessoryException {
+        HomekitOHItemProxy proxy = new HomekitOHItemProxy(item);
+        HomekitTaggedItem onState = new HomekitTaggedItem(proxy, HomekitAccessoryType.SWITCH,
+                HomekitCharacteristicType.ON_STATE, configuration);
+        return new HomekitSwitchImpl(new HomekitTaggedItem(proxy, HomekitAccessoryType.SWITCH, configuration),
+                Collections.singletonList(onState), updater, settings);
+    }
+
+    private HomekitAccessory createSwitch(SwitchItem item) throws IncompleteAccessoryException {
+        return createSwitch(item, Collections.emptyMap());
+    }
+
+    @Test
+    public void testSameItemInstancesAreEquivalent() throws IncompleteAccessoryException {
+        SwitchItem item = new SwitchItem("switch");
+        HomekitAccessory accessory = createSwitch(item);
+        HomekitAccessory rebuilt = createSwitch(item);
+
+        assertTrue(HomekitAccessoryFactory.isEquivalent(accessory, rebuilt, true));
+        assertTrue(HomekitAccessoryFactory.isEquivalent(accessory, rebuilt, false));
+    }
+
+    @Test
+    public void testNewItemInstanceHasSameStructure() throws IncompleteAccessoryException {
+        HomekitAccessory accessory = createSwitch(new SwitchItem("switch"));
+        HomekitAccessory rebuilt = createSwitch(new SwitchItem("switch"));
+
+        assertFalse(HomekitAccessoryFactory.isEquivalent(accessory, rebuilt, true));
+        assertTrue(HomekitAccessoryFactory.isEquivalent(accessory, rebuilt, false));
+    }
+
+    @Test
+    public void testDifferentItemIsNotEquivalent() throws IncompleteAccessoryException {
+        HomekitAccessory accessory = createSwitch(new SwitchItem("switch"));
+        HomekitAccessory other = createSwitch(new SwitchItem("otherSwitch"));
+
+        assertFalse(HomekitAccessoryFactory.isEquivalent(accessory, other, false));
+    }
+
+    @Test
+    public void testDifferentConfigurationIsNotEquivalent() throws IncompleteAccessoryException {
+        SwitchItem item = new SwitchItem("switch");
+        HomekitAccessory accessory = createSwitch(item);
+        HomekitAccessory reconfigured = createSwitch(item, Collections.<String, Object> singletonMap("inverted", true));
+
+        assertFalse(HomekitAccessoryFactory.isEquivalent(accessory, reconfigured, false));
+    }
+
+    @Test
+    public void testDifferentAccessoryTypeIsNotEquivalent() throws IncompleteAccessoryException {
+        SwitchItem item = new SwitchItem("switch");
+        HomekitOHItemProxy proxy = new HomekitOHItemProxy(item);
+        HomekitTaggedItem onState = new HomekitTaggedItem(proxy, HomekitAccessoryType.LIGHTBULB,
+                HomekitCharacteristicType.ON_STATE, null);
+        HomekitAccessory lightbulb = new HomekitLightbulbImpl(
+                new HomekitTaggedItem(proxy, HomekitAccessoryType.LIGHTBULB, null),
+                Collections.singletonList(onState), updater, settings);
+
+        assertFalse(HomekitAccessoryFactory.isEquivalent(createSwitch(item), lightbulb, false));
+        assertFalse(HomekitAccessoryFactory.isEquivalent(lightbulb, createSwitch(item), false));
+    }
+}
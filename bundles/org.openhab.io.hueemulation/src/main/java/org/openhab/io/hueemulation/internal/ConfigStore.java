@@ -93,7 +93,7 @@ public class ConfigStore {
     /**
      * This is the main gson instance, to be obtained by all components that operate on the dto data fields
      */
-    public final Gson gson = new GsonBuilder().registerTypeAdapter(HueLightEntry.class, new HueLightEntry.Serializer())
+    public final Gson gson = new GsonBuilder().registerTypeAdapterFactory(new HueLightEntry.Serializer())
             .registerTypeAdapter(HueSensorEntry.class, new HueSensorEntry.Serializer())
             .registerTypeAdapter(HueRuleEntry.Condition.class, new HueRuleEntry.SerializerCondition())
             .registerTypeAdapter(HueAuthorizedConfig.class, new HueAuthorizedConfig.Serializer())
@@ -12,20 +12,26 @@
  */
 package org.openhab.io.hueemulation.internal.dto;
 
-import java.lang.reflect.Type;
+import java.io.IOException;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.eclipse.smarthome.core.items.GenericItem;
 import org.eclipse.smarthome.core.library.items.StringItem;
 import org.eclipse.smarthome.core.types.Command;
+import org.eclipse.smarthome.core.types.State;
 import org.openhab.io.hueemulation.internal.DeviceType;
 import org.openhab.io.hueemulation.internal.StateUtils;
 import org.openhab.io.hueemulation.internal.dto.changerequest.HueStateChange;
 
-import com.google.gson.JsonElement;
-import com.google.gson.JsonSerializationContext;
-import com.google.gson.JsonSerializer;
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 
 /**
  * Hue API device object
@@ -57,6 +63,54 @@ public class HueLightEntry {
     public transient @Nullable Command lastCommand = null;
     public transient @Nullable HueStateChange lastHueChange = null;
 
+    private static final AtomicLong VERSIONS = new AtomicLong();
+
+    /**
+     * An immutable serialized snapshot of a light and the inputs it has been created from
+     */
+    public static class Snapshot {
+        private final String json;
+        private final long version;
+        private final GenericItem item;
+        private final State itemState;
+        private final @Nullable String label;
+        private final @Nullable Command lastCommand;
+        private final @Nullable HueStateChange lastHueChange;
+
+        private Snapshot(String json, GenericItem item, State itemState, @Nullable String label,
+                @Nullable Command lastCommand, @Nullable HueStateChange lastHueChange) {
+            this.json = json;
+            this.version = VERSIONS.incrementAndGet();
+            this.item = item;
+            this.itemState = itemState;
+            this.label = label;
+            this.lastCommand = lastCommand;
+            this.lastHueChange = lastHueChange;
+        }
+
+        boolean isUpToDate(HueLightEntry light) {
+            final GenericItem item = light.item;
+            return this.item == item && itemState.equals(item.getState()) && Objects.equals(label, item.getLabel())
+                    && lastCommand == light.lastCommand && lastHueChange == light.lastHueChange;
+        }
+
+        /**
+         * Returns the serialized light
+         */
+        public String getJson() {
+            return json;
+        }
+
+        /**
+         * Returns the version of this snapshot. It is unique across all lights and increases with every snapshot.
+         */
+        public long getVersion() {
+            return version;
+        }
+    }
+
+    private transient volatile @Nullable Snapshot snapshot;
+
     public static class Config {
         public final String archetype = "classicbulb";
         public final String function = "functional";
@@ -160,27 +214,107 @@ public class HueLightEntry {
 
     /**
      * This custom serializer updates the light state and label, before serializing.
+     * <p>
+     * The serialized form is kept as a snapshot per light and is only created again if the item, its state or label
+     * or the last hue command changed. Serializing all lights therefore only concatenates the snapshots of unchanged
+     * lights.
      */
     @NonNullByDefault({})
-    public static class Serializer implements JsonSerializer<HueLightEntry> {
+    public static class Serializer implements TypeAdapterFactory {
+        @SuppressWarnings("unchecked")
+        @Override
+        public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+            if (!HueLightEntry.class.equals(type.getRawType())) {
+                return null;
+            }
+            return (TypeAdapter<T>) new SnapshotAdapter(
+                    gson.getDelegateAdapter(this, TypeToken.get(HueLightEntry.class)));
+        }
+    }
+
+    @NonNullByDefault({})
+    private static class SnapshotAdapter extends TypeAdapter<HueLightEntry> {
+        private final TypeAdapter<HueLightEntry> delegate;
 
-        static class HueDeviceHelper extends HueLightEntry {
+        SnapshotAdapter(TypeAdapter<HueLightEntry> delegate) {
+            this.delegate = delegate;
         }
 
         @Override
-        public JsonElement serialize(HueLightEntry product, Type type, JsonSerializationContext context) {
-            product.state = StateUtils.adjustedColorStateFromItemState(product.item.getState(), product.deviceType,
-                    product.lastCommand, product.lastHueChange);
-            String label = product.item.getLabel();
-            if (label != null) {
-                product.name = label;
+        public void write(JsonWriter out, HueLightEntry product) throws IOException {
+            if (product == null) {
+                out.nullValue();
+            } else {
+                out.jsonValue(product.snapshot(delegate).json);
+            }
+        }
+
+        @Override
+        public HueLightEntry read(JsonReader in) throws IOException {
+            return delegate.read(in);
+        }
+    }
+
+    /**
+     * Returns an up to date serialized snapshot of this light, see {@link #snapshot(TypeAdapter)}.
+     * <p>
+     * Use the serialized form and the version of the same snapshot if both are needed, for example for a response
+     * body and its entity tag. The light might have been changed in between two calls otherwise.
+     *
+     * @param gson A gson instance with the {@link Serializer} registered
+     */
+    public Snapshot refreshSnapshot(Gson gson) {
+        TypeAdapter<HueLightEntry> adapter = gson.getAdapter(HueLightEntry.class);
+        if (!(adapter instanceof SnapshotAdapter)) {
+            throw new IllegalArgumentException("The HueLightEntry.Serializer is not registered");
+        }
+        return snapshot(((SnapshotAdapter) adapter).delegate);
+    }
+
+    /**
+     * Returns the serialized snapshot of this light. The light state and label are synchronized with the item
+     * and the snapshot is created again, if the item state, label or the last hue command changed since the last call.
+     * <p>
+     * An up to date snapshot is returned without locking, so that polling clients do not contend with
+     * item state changes.
+     *
+     * @param adapter The reflective gson adapter for this class
+     */
+    private Snapshot snapshot(TypeAdapter<HueLightEntry> adapter) {
+        Snapshot snapshot = this.snapshot;
+        if (snapshot != null && snapshot.isUpToDate(this)) {
+            return snapshot;
+        }
+        synchronized (this) {
+            snapshot = this.snapshot;
+            if (snapshot != null && snapshot.isUpToDate(this)) {
+                return snapshot;
             }
+            final GenericItem item = this.item;
+            final State itemState = item.getState();
+            final String label = item.getLabel();
+            final Command lastCommand = this.lastCommand;
+            final HueStateChange lastHueChange = this.lastHueChange;
 
-            JsonElement jsonSubscription = context.serialize(product, HueDeviceHelper.class);
-            return jsonSubscription;
+            state = StateUtils.adjustedColorStateFromItemState(itemState, deviceType, lastCommand, lastHueChange);
+            if (label != null) {
+                name = label;
+            }
+            snapshot = new Snapshot(adapter.toJson(this), item, itemState, label, lastCommand, lastHueChange);
+            this.snapshot = snapshot;
+            return snapshot;
         }
     }
 
+    /**
+     * Returns the version of the serialized snapshot of this light. The version changes whenever the snapshot
+     * is created again and is unique across all lights.
+     */
+    public long getVersion() {
+        Snapshot snapshot = this.snapshot;
+        return snapshot != null ? snapshot.version : 0;
+    }
+
     /**
      * Replaces the associated openHAB item of this hue device with the given once
      * and also synchronizes/updates the color information of this hue device with the item.
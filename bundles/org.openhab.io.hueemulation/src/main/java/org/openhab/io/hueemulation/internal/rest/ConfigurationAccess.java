@@ -22,6 +22,7 @@ import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Request;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.UriInfo;
 
@@ -74,12 +75,15 @@ public class ConfigurationAccess {
     @Produces(MediaType.APPLICATION_JSON)
     @ApiOperation(value = "Return the full data store")
     @ApiResponses(value = { @ApiResponse(code = 200, message = "OK") })
-    public Response getAllApi(@Context UriInfo uri,
+    public Response getAllApi(@Context UriInfo uri, @Context Request request,
             @PathParam("username") @ApiParam(value = "username") String username) {
         if (!userManagement.authorizeUser(username)) {
             return NetworkUtils.singleError(cs.gson, uri, HueResponse.UNAUTHORIZED, "Not Authorized");
         }
-        return Response.ok(cs.gson.toJson(cs.ds)).build();
+        // Lights are serialized from their snapshots. The other parts are small and are tagged by content.
+        String body = cs.gson.toJson(cs.ds);
+        return NetworkUtils.taggedResponse(request,
+                "datastore-" + Integer.toHexString(body.length()) + "-" + Integer.toHexString(body.hashCode()), body);
     }
 
     @GET
@@ -13,8 +13,12 @@
 package org.openhab.io.hueemulation.internal.rest;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -27,18 +31,23 @@ import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Request;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.UriInfo;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.eclipse.smarthome.core.common.registry.RegistryChangeListener;
+import org.eclipse.smarthome.core.events.Event;
+import org.eclipse.smarthome.core.events.EventFilter;
 import org.eclipse.smarthome.core.events.EventPublisher;
+import org.eclipse.smarthome.core.events.EventSubscriber;
 import org.eclipse.smarthome.core.items.GenericItem;
 import org.eclipse.smarthome.core.items.GroupItem;
 import org.eclipse.smarthome.core.items.Item;
 import org.eclipse.smarthome.core.items.ItemRegistry;
 import org.eclipse.smarthome.core.items.events.ItemEventFactory;
+import org.eclipse.smarthome.core.items.events.ItemStateChangedEvent;
 import org.eclipse.smarthome.core.library.CoreItemFactory;
 import org.eclipse.smarthome.core.types.Command;
 import org.openhab.io.hueemulation.internal.ConfigStore;
@@ -88,16 +97,19 @@ import io.swagger.annotations.ApiResponses;
  * </p>
  *
  * <p>
+ * Item state changes are received as {@link ItemStateChangedEvent}s. Only the serialized snapshot of the affected
+ * light is updated, so that REST requests can serve all lights without locking.
  * </p>
  *
  * @author David Graeff - Initial contribution
  * @author Florian Schmidt - Removed base type restriction from Group items
  */
-@Component(immediate = false, service = { LightsAndGroups.class }, property = "com.eclipsesource.jaxrs.publish=false")
+@Component(immediate = false, service = { LightsAndGroups.class,
+        EventSubscriber.class }, property = "com.eclipsesource.jaxrs.publish=false")
 @NonNullByDefault
 @Path("")
 @Produces(MediaType.APPLICATION_JSON)
-public class LightsAndGroups implements RegistryChangeListener<Item> {
+public class LightsAndGroups implements RegistryChangeListener<Item>, EventSubscriber {
     public static final String EXPOSE_AS_DEVICE_TAG = "huelight";
     private final Logger logger = LoggerFactory.getLogger(LightsAndGroups.class);
     private static final String ITEM_TYPE_GROUP = "Group";
@@ -113,12 +125,16 @@ public class LightsAndGroups implements RegistryChangeListener<Item> {
     @Reference(policy = ReferencePolicy.DYNAMIC, cardinality = ReferenceCardinality.OPTIONAL)
     protected volatile @Nullable EventPublisher eventPublisher;
 
+    /** Maps item names to exposed lights, for updating the light state on item state changes */
+    private final Map<String, HueLightEntry> lightsByItemName = new ConcurrentHashMap<>();
+
     /**
      * Registers to the {@link ItemRegistry} and enumerates currently existing items.
      */
     @Activate
     protected void activate() {
         cs.ds.resetGroupsAndLights();
+        lightsByItemName.clear();
 
         itemRegistry.removeRegistryChangeListener(this);
         itemRegistry.addRegistryChangeListener(this);
@@ -178,6 +194,7 @@ public class LightsAndGroups implements RegistryChangeListener<Item> {
             HueLightEntry device = new HueLightEntry(element, cs.ds.config.uuid + "-" + hueID.toString(), deviceType);
             device.item = element;
             cs.ds.lights.put(hueID, device);
+            lightsByItemName.put(element.getName(), device);
             updateGroup0();
         }
     }
@@ -196,6 +213,7 @@ public class LightsAndGroups implements RegistryChangeListener<Item> {
         logger.debug("Remove item {}", hueID);
         cs.ds.lights.remove(hueID);
         cs.ds.groups.remove(hueID);
+        lightsByItemName.remove(element.getName());
         updateGroup0();
     }
 
@@ -237,18 +255,73 @@ public class LightsAndGroups implements RegistryChangeListener<Item> {
         }
 
         hueDevice.updateItem(element);
+        lightsByItemName.put(element.getName(), hueDevice);
+    }
+
+    @Override
+    public Set<String> getSubscribedEventTypes() {
+        return Collections.singleton(ItemStateChangedEvent.TYPE);
+    }
+
+    @Override
+    public @Nullable EventFilter getEventFilter() {
+        return null;
+    }
+
+    /**
+     * Updates the serialized snapshot of the light that is associated with the changed item.
+     * Other lights and the registry listener methods are not involved.
+     */
+    @Override
+    public void receive(Event event) {
+        if (!(event instanceof ItemStateChangedEvent)) {
+            return;
+        }
+        HueLightEntry hueDevice = lightsByItemName.get(((ItemStateChangedEvent) event).getItemName());
+        if (hueDevice != null) {
+            hueDevice.refreshSnapshot(cs.gson);
+        }
     }
 
     @GET
     @Path("{username}/lights")
     @ApiOperation(value = "Return all lights")
     @ApiResponses(value = { @ApiResponse(code = 200, message = "OK") })
-    public Response getAllLightsApi(@Context UriInfo uri,
+    public Response getAllLightsApi(@Context UriInfo uri, @Context Request request,
             @PathParam("username") @ApiParam(value = "username") String username) {
         if (!userManagement.authorizeUser(username)) {
             return NetworkUtils.singleError(cs.gson, uri, HueResponse.UNAUTHORIZED, "Not Authorized");
         }
-        return Response.ok(cs.gson.toJson(cs.ds.lights)).build();
+        // Body and tag are both derived from the same snapshots, lights may change concurrently
+        Map<String, HueLightEntry.Snapshot> snapshots = new LinkedHashMap<>();
+        cs.ds.lights.forEach((id, light) -> snapshots.put(id, light.refreshSnapshot(cs.gson)));
+        return NetworkUtils.taggedResponse(request, lightsTag(snapshots), lightsJson(snapshots));
+    }
+
+    /**
+     * Computes an entity tag for the given light snapshots out of the light IDs and the snapshot versions.
+     */
+    static String lightsTag(Map<String, HueLightEntry.Snapshot> snapshots) {
+        long hash = 1;
+        for (Map.Entry<String, HueLightEntry.Snapshot> entry : snapshots.entrySet()) {
+            hash = 31 * hash + entry.getKey().hashCode();
+            hash = 31 * hash + entry.getValue().getVersion();
+        }
+        return "lights-" + Long.toHexString(hash);
+    }
+
+    /**
+     * Concatenates the given light snapshots to a json object with the light IDs as keys.
+     */
+    private String lightsJson(Map<String, HueLightEntry.Snapshot> snapshots) {
+        StringBuilder json = new StringBuilder("{");
+        for (Map.Entry<String, HueLightEntry.Snapshot> entry : snapshots.entrySet()) {
+            if (json.length() > 1) {
+                json.append(',');
+            }
+            json.append(cs.gson.toJson(entry.getKey())).append(':').append(entry.getValue().getJson());
+        }
+        return json.append('}').toString();
     }
 
     @GET
@@ -279,13 +352,18 @@ public class LightsAndGroups implements RegistryChangeListener<Item> {
     @Path("{username}/lights/{id}")
     @ApiOperation(value = "Return a light")
     @ApiResponses(value = { @ApiResponse(code = 200, message = "OK") })
-    public Response getLightApi(@Context UriInfo uri, //
+    public Response getLightApi(@Context UriInfo uri, @Context Request request, //
             @PathParam("username") @ApiParam(value = "username") String username,
             @PathParam("id") @ApiParam(value = "light id") String id) {
         if (!userManagement.authorizeUser(username)) {
             return NetworkUtils.singleError(cs.gson, uri, HueResponse.UNAUTHORIZED, "Not Authorized");
         }
-        return Response.ok(cs.gson.toJson(cs.ds.lights.get(id))).build();
+        HueLightEntry hueDevice = cs.ds.lights.get(id);
+        if (hueDevice == null) {
+            return Response.ok(cs.gson.toJson(hueDevice)).build();
+        }
+        HueLightEntry.Snapshot snapshot = hueDevice.refreshSnapshot(cs.gson);
+        return NetworkUtils.taggedResponse(request, "light-" + snapshot.getVersion(), snapshot.getJson());
     }
 
     @SuppressWarnings({ "null", "unused" })
@@ -20,6 +20,7 @@ import static org.mockito.Mockito.verify;
 import java.io.IOException;
 
 import javax.ws.rs.client.Entity;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.Response;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -27,10 +28,12 @@ import org.eclipse.smarthome.core.events.Event;
 import org.eclipse.smarthome.core.items.GroupItem;
 import org.eclipse.smarthome.core.items.ItemRegistry;
 import org.eclipse.smarthome.core.items.events.ItemCommandEvent;
+import org.eclipse.smarthome.core.items.events.ItemEventFactory;
 import org.eclipse.smarthome.core.library.items.ColorItem;
 import org.eclipse.smarthome.core.library.items.SwitchItem;
 import org.eclipse.smarthome.core.library.types.HSBType;
 import org.eclipse.smarthome.core.library.types.OnOffType;
+import org.eclipse.smarthome.core.types.UnDefType;
 import org.glassfish.jersey.server.ResourceConfig;
 import org.junit.After;
 import org.junit.Before;
@@ -334,6 +337,65 @@ public class LightsAndGroupsTests {
         assertThat(body, containsString("color"));
     }
 
+    @Test
+    public void unchangedLightsNotModified() {
+        Response response = commonSetup.client.target(commonSetup.basePath + "/testuser/lights").request().get();
+        assertEquals(200, response.getStatus());
+        String etag = response.getHeaderString(HttpHeaders.ETAG);
+        assertNotNull(etag);
+        String body = response.readEntity(String.class);
+
+        // Nothing changed: The client already has the current representation
+        response = commonSetup.client.target(commonSetup.basePath + "/testuser/lights").request()
+                .header(HttpHeaders.IF_NONE_MATCH, etag).get();
+        assertEquals(304, response.getStatus());
+
+        // Unchanged lights are served from their snapshots
+        assertThat(cs.gson.toJson(cs.ds.lights), is(body));
+
+        // An item state change invalidates the snapshot of this light only
+        long switchVersion = cs.ds.lights.get("1").getVersion();
+        cs.ds.lights.get("2").item.setState(OnOffType.ON);
+        response = commonSetup.client.target(commonSetup.basePath + "/testuser/lights").request()
+                .header(HttpHeaders.IF_NONE_MATCH, etag).get();
+        assertEquals(200, response.getStatus());
+        assertThat(response.getHeaderString(HttpHeaders.ETAG), not(is(etag)));
+        assertThat(response.readEntity(String.class), not(is(body)));
+        assertThat(cs.ds.lights.get("1").getVersion(), is(switchVersion));
+
+        // Single light access
+        response = commonSetup.client.target(commonSetup.basePath + "/testuser/lights/2").request().get();
+        assertEquals(200, response.getStatus());
+        etag = response.getHeaderString(HttpHeaders.ETAG);
+        response = commonSetup.client.target(commonSetup.basePath + "/testuser/lights/2").request()
+                .header(HttpHeaders.IF_NONE_MATCH, etag).get();
+        assertEquals(304, response.getStatus());
+    }
+
+    @Test
+    public void itemStateChangeUpdatesLightSnapshot() {
+        SwitchItem item = new SwitchItem("switch1");
+        item.addTag("Switchable");
+        itemRegistry.add(item);
+        HueLightEntry device = cs.ds.lights.get(cs.mapItemUIDtoHueID(item));
+        HueLightEntry.Snapshot snapshot = device.refreshSnapshot(cs.gson);
+        String json = snapshot.getJson();
+        long version = snapshot.getVersion();
+        assertThat(cs.gson.toJson(device), is(json));
+        long otherVersion = cs.ds.lights.get("2").getVersion();
+
+        item.setState(OnOffType.ON);
+        subject.receive(ItemEventFactory.createStateChangedEvent("switch1", OnOffType.ON, UnDefType.NULL));
+
+        assertThat(device.getVersion(), not(is(version)));
+        assertThat(((HueStatePlug) device.state).on, is(true));
+        assertThat(cs.gson.toJson(device), not(is(json)));
+        assertThat(cs.ds.lights.get("2").getVersion(), is(otherVersion));
+
+        // Events of items that are not exposed are ignored
+        subject.receive(ItemEventFactory.createStateChangedEvent("unknown", OnOffType.ON, UnDefType.NULL));
+    }
+
     private boolean assertHueValue(ItemCommandEvent ce, int hueValue) {
         assertThat(((HSBType) ce.getItemCommand()).getHue().intValue(), is(hueValue * 360 / HueStateColorBulb.MAX_HUE));
         return true;
@@ -0,0 +1,184 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.mqttembeddedbroker.internal;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.moquette.interception.InterceptHandler;
+import io.moquette.interception.messages.InterceptAcknowledgedMessage;
+import io.moquette.interception.messages.InterceptConnectMessage;
+import io.moquette.interception.messages.InterceptConnectionLostMessage;
+import io.moquette.interception.messages.InterceptDisconnectMessage;
+import io.moquette.interception.messages.InterceptPublishMessage;
+import io.moquette.interception.messages.InterceptSubscribeMessage;
+import io.moquette.interception.messages.InterceptUnsubscribeMessage;
+
+/**
+ * Collects throughput metrics of the embedded broker via the Moquette interceptor API.
+ * <p>
+ * Published messages and payload bytes are counted per topic prefix (the first topic level) and per
+ * connected client. Moquette notifies interceptors on its own executor, so counting does not delay
+ * the network threads. Counters of a client are dropped as soon as the client disconnects.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class BrokerMetrics implements InterceptHandler {
+    private final Logger logger = LoggerFactory.getLogger(BrokerMetrics.class);
+
+    /**
+     * Message and payload byte counter
+     */
+    public static class Counter {
+        private final LongAdder messages = new LongAdder();
+        private final LongAdder bytes = new LongAdder();
+
+        void add(int payloadBytes) {
+            messages.increment();
+            bytes.add(payloadBytes);
+        }
+
+        public long getMessages() {
+            return messages.sum();
+        }
+
+        public long getBytes() {
+            return bytes.sum();
+        }
+    }
+
+    private final Map<String, Counter> topicPrefixes = new ConcurrentHashMap<>();
+    private final Map<String, Counter> clients = new ConcurrentHashMap<>();
+    private final Counter total = new Counter();
+    private volatile long startTime = System.nanoTime();
+
+    @Override
+    public String getID() {
+        return "metrics";
+    }
+
+    @Override
+    public Class<?>[] getInterceptedMessageTypes() {
+        return new Class<?>[] { InterceptConnectMessage.class, InterceptDisconnectMessage.class,
+                InterceptConnectionLostMessage.class, InterceptPublishMessage.class };
+    }
+
+    @Override
+    public void onConnect(@Nullable InterceptConnectMessage msg) {
+        if (msg != null) {
+            logger.debug("MQTT Client connected: {}", msg.getClientID());
+            clients.put(msg.getClientID(), new Counter());
+        }
+    }
+
+    @Override
+    public void onDisconnect(@Nullable InterceptDisconnectMessage msg) {
+        if (msg != null) {
+            logger.debug("MQTT Client disconnected: {}", msg.getClientID());
+            clients.remove(msg.getClientID());
+        }
+    }
+
+    @Override
+    public void onConnectionLost(@Nullable InterceptConnectionLostMessage msg) {
+        if (msg != null) {
+            logger.debug("MQTT Client connection lost: {}", msg.getClientID());
+            clients.remove(msg.getClientID());
+        }
+    }
+
+    @Override
+    public void onPublish(@Nullable InterceptPublishMessage msg) {
+        if (msg == null) {
+            return;
+        }
+        // The payload is owned and released by Moquette. Only its size is read here.
+        final int payloadBytes = msg.getPayload().readableBytes();
+        total.add(payloadBytes);
+        topicPrefixes.computeIfAbsent(topicPrefix(msg.getTopicName()), k -> new Counter()).add(payloadBytes);
+        final String clientID = msg.getClientID();
+        if (clientID != null) {
+            clients.computeIfAbsent(clientID, k -> new Counter()).add(payloadBytes);
+        }
+    }
+
+    @Override
+    public void onSubscribe(@Nullable InterceptSubscribeMessage msg) {
+    }
+
+    @Override
+    public void onUnsubscribe(@Nullable InterceptUnsubscribeMessage msg) {
+    }
+
+    @Override
+    public void onMessageAcknowledged(@Nullable InterceptAcknowledgedMessage msg) {
+    }
+
+    /**
+     * Returns the first level of the given topic. "$SYS/broker/uptime" results in "$SYS" for example.
+     */
+    static String topicPrefix(String topic) {
+        final int index = topic.indexOf('/');
+        return index == -1 ? topic : topic.substring(0, index);
+    }
+
+    /**
+     * Returns the message and byte counters per topic prefix, sorted by prefix.
+     */
+    public Map<String, Counter> getTopicPrefixes() {
+        return Collections.unmodifiableMap(new TreeMap<>(topicPrefixes));
+    }
+
+    /**
+     * Returns the message and byte counters per connected client, sorted by client ID.
+     */
+    public Map<String, Counter> getClients() {
+        return Collections.unmodifiableMap(new TreeMap<>(clients));
+    }
+
+    /**
+     * Returns the message and byte counter of all published messages.
+     */
+    public Counter getTotal() {
+        return total;
+    }
+
+    /**
+     * Returns the message rate per second of the given counter since the metrics have been reset.
+     */
+    public double getMessageRate(Counter counter) {
+        final double seconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - startTime));
+        return counter.getMessages() / seconds;
+    }
+
+    /**
+     * Resets all counters. Connected clients are listed again as soon as they connect or publish.
+     */
+    public void reset() {
+        startTime = System.nanoTime();
+        topicPrefixes.clear();
+        clients.clear();
+        total.messages.reset();
+        total.bytes.reset();
+    }
+}
@@ -0,0 +1,114 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.mqttembeddedbroker.internal;
+
+import java.io.File;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.annotation.security.RolesAllowed;
+import javax.ws.rs.GET;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.eclipse.smarthome.core.auth.Role;
+import org.eclipse.smarthome.io.rest.RESTResource;
+import org.openhab.io.mqttembeddedbroker.internal.BrokerMetrics.Counter;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+
+/**
+ * REST resource to show the metrics of the embedded broker, the same as the console command
+ * {@link EmbeddedBrokerCommandExtension} prints.
+ *
+ * @author agent - Initial contribution
+ */
+@Path(BrokerMetricsResource.PATH_MQTTBROKER)
+@RolesAllowed({ Role.ADMIN })
+@Component(service = { RESTResource.class, BrokerMetricsResource.class })
+@NonNullByDefault
+public class BrokerMetricsResource implements RESTResource {
+    public static final String PATH_MQTTBROKER = "mqttbroker";
+
+    /**
+     * Message and payload byte counter, with the message rate since the metrics have been reset
+     */
+    public static class CounterDTO {
+        public long messages;
+        public long bytes;
+        public double messagesPerSecond;
+    }
+
+    /**
+     * Metrics of the embedded broker
+     */
+    public static class BrokerMetricsDTO {
+        public int connectedClients;
+        public @Nullable CounterDTO total;
+        public Map<String, CounterDTO> topicPrefixes = new LinkedHashMap<>();
+        public Map<String, CounterDTO> clients = new LinkedHashMap<>();
+        /** Persistence file, or null if retained messages are kept in memory only */
+        public @Nullable String persistenceFile;
+        public long persistenceFileBytes;
+        public long persistenceFileLastModified;
+    }
+
+    private final EmbeddedBrokerService service;
+
+    @Activate
+    public BrokerMetricsResource(@Reference EmbeddedBrokerService service) {
+        this.service = service;
+    }
+
+    @GET
+    @Path("/metrics")
+    @Produces(MediaType.APPLICATION_JSON)
+    public Response getMetrics() {
+        final BrokerMetrics metrics = service.getMetrics();
+        final BrokerMetricsDTO dto = new BrokerMetricsDTO();
+        dto.connectedClients = service.getConnectedClientsCount();
+        dto.total = map(metrics, metrics.getTotal());
+        metrics.getTopicPrefixes().forEach((name, counter) -> dto.topicPrefixes.put(name, map(metrics, counter)));
+        metrics.getClients().forEach((name, counter) -> dto.clients.put(name, map(metrics, counter)));
+
+        final String persistenceFilename = service.getPersistenceFilename();
+        if (!persistenceFilename.isEmpty()) {
+            File file = new File(persistenceFilename);
+            dto.persistenceFile = persistenceFilename;
+            dto.persistenceFileBytes = file.length();
+            dto.persistenceFileLastModified = file.lastModified();
+        }
+        return Response.ok(dto).build();
+    }
+
+    @POST
+    @Path("/metrics/reset")
+    public Response resetMetrics() {
+        service.getMetrics().reset();
+        return Response.ok().build();
+    }
+
+    private static CounterDTO map(BrokerMetrics metrics, Counter counter) {
+        CounterDTO dto = new CounterDTO();
+        dto.messages = counter.getMessages();
+        dto.bytes = counter.getBytes();
+        dto.messagesPerSecond = metrics.getMessageRate(counter);
+        return dto;
+    }
+}
@@ -0,0 +1,106 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.mqttembeddedbroker.internal;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.smarthome.io.console.Console;
+import org.eclipse.smarthome.io.console.extensions.AbstractConsoleCommandExtension;
+import org.eclipse.smarthome.io.console.extensions.ConsoleCommandExtension;
+import org.openhab.io.mqttembeddedbroker.internal.BrokerMetrics.Counter;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+
+/**
+ * Console commands to show the metrics of the embedded broker
+ *
+ * @author agent - Initial contribution
+ */
+@Component(service = ConsoleCommandExtension.class)
+@NonNullByDefault
+public class EmbeddedBrokerCommandExtension extends AbstractConsoleCommandExtension {
+    private static final String SUBCMD_METRICS = "metrics";
+    private static final String SUBCMD_RESET_METRICS = "resetMetrics";
+
+    private final EmbeddedBrokerService service;
+
+    @Activate
+    public EmbeddedBrokerCommandExtension(@Reference EmbeddedBrokerService service) {
+        super("mqttbroker", "Show the metrics of the embedded MQTT broker.");
+        this.service = service;
+    }
+
+    @Override
+    public void execute(String[] args, Console console) {
+        if (args.length > 0) {
+            String subCommand = args[0];
+            switch (subCommand) {
+                case SUBCMD_METRICS:
+                    printMetrics(console);
+                    break;
+                case SUBCMD_RESET_METRICS:
+                    service.getMetrics().reset();
+                    console.println("Metrics reset");
+                    break;
+                default:
+                    console.println("Unknown command '" + subCommand + "'");
+                    printUsage(console);
+                    break;
+            }
+        } else {
+            printUsage(console);
+        }
+    }
+
+    @Override
+    public List<String> getUsages() {
+        return Arrays.asList(
+                buildCommandUsage(SUBCMD_METRICS,
+                        "print message rates per topic prefix, throughput per client and the persistence file state"),
+                buildCommandUsage(SUBCMD_RESET_METRICS, "reset the message counters"));
+    }
+
+    private void printMetrics(Console console) {
+        final BrokerMetrics metrics = service.getMetrics();
+        console.println("Connected clients: " + service.getConnectedClientsCount());
+        console.println("Published: " + format(metrics, metrics.getTotal()));
+        console.println("Topic prefixes:");
+        printCounters(console, metrics, metrics.getTopicPrefixes());
+        console.println("Clients:");
+        printCounters(console, metrics, metrics.getClients());
+
+        final String persistenceFilename = service.getPersistenceFilename();
+        if (persistenceFilename.isEmpty()) {
+            console.println("Persistence: in-memory");
+        } else {
+            File file = new File(persistenceFilename);
+            console.println("Persistence: " + persistenceFilename + ", " + file.length() + " bytes, last written "
+                    + new Date(file.lastModified()));
+        }
+    }
+
+    private void printCounters(Console console, BrokerMetrics metrics, Map<String, Counter> counters) {
+        counters.forEach((name, counter) -> console.println("    " + name + ": " + format(metrics, counter)));
+    }
+
+    private String format(BrokerMetrics metrics, Counter counter) {
+        return String.format("%d messages (%.2f/s), %d bytes", counter.getMessages(), metrics.getMessageRate(counter),
+                counter.getBytes());
+    }
+}
@@ -59,14 +59,6 @@ import io.moquette.broker.Server;
 import io.moquette.broker.config.MemoryConfig;
 import io.moquette.broker.security.IAuthenticator;
 import io.moquette.broker.security.IAuthorizatorPolicy;
-import io.moquette.interception.InterceptHandler;
-import io.moquette.interception.messages.InterceptAcknowledgedMessage;
-import io.moquette.interception.messages.InterceptConnectMessage;
-import io.moquette.interception.messages.InterceptConnectionLostMessage;
-import io.moquette.interception.messages.InterceptDisconnectMessage;
-import io.moquette.interception.messages.InterceptPublishMessage;
-import io.moquette.interception.messages.InterceptSubscribeMessage;
-import io.moquette.interception.messages.InterceptUnsubscribeMessage;
 import io.netty.handler.ssl.SslContext;
 import io.netty.handler.ssl.SslContextBuilder;
 
@@ -91,54 +83,10 @@ public class EmbeddedBrokerService
     private String persistenceFilename = "";
     // private NetworkServerTls networkServerTls; //TODO wait for NetworkServerTls implementation
 
-    @NonNullByDefault({})
-    class BrokerMetricsListenerEx implements InterceptHandler {
-
-        @Override
-        public String getID() {
-            return "logger";
-        }
-
-        @Override
-        public Class<?>[] getInterceptedMessageTypes() {
-            return new Class<?>[] { InterceptConnectMessage.class, InterceptDisconnectMessage.class };
-        }
-
-        @Override
-        public void onConnect(InterceptConnectMessage arg0) {
-            logger.debug("MQTT Client connected: {}", arg0.getClientID());
-        }
-
-        @Override
-        public void onConnectionLost(InterceptConnectionLostMessage arg0) {
-        }
-
-        @Override
-        public void onDisconnect(InterceptDisconnectMessage arg0) {
-            logger.debug("MQTT Client disconnected: {}", arg0.getClientID());
-        }
-
-        @Override
-        public void onMessageAcknowledged(InterceptAcknowledgedMessage arg0) {
-        }
-
-        @Override
-        public void onPublish(InterceptPublishMessage arg0) {
-        }
-
-        @Override
-        public void onSubscribe(InterceptSubscribeMessage arg0) {
-        }
-
-        @Override
-        public void onUnsubscribe(InterceptUnsubscribeMessage arg0) {
-        }
-    }
-
     protected @Nullable Server server;
     private final Logger logger = LoggerFactory.getLogger(EmbeddedBrokerService.class);
     protected MqttEmbeddedBrokerDetectStart detectStart = new MqttEmbeddedBrokerDetectStart(this);
-    protected BrokerMetricsListenerEx metrics = new BrokerMetricsListenerEx();
+    protected BrokerMetrics metrics = new BrokerMetrics();
 
     private @Nullable MqttBrokerConnection connection;
 
@@ -313,6 +261,7 @@ public class EmbeddedBrokerService
             }
         }
         this.server = server;
+        metrics.reset();
         server.addInterceptHandler(metrics);
         ScheduledExecutorService s = new ScheduledThreadPoolExecutor(1);
         detectStart.startBrokerStartedDetection(port, s);
@@ -378,6 +327,21 @@ public class EmbeddedBrokerService
         });
     }
 
+    /**
+     * Returns the message throughput metrics of the embedded broker.
+     */
+    public BrokerMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Returns the number of clients connected to the embedded broker, including the embedded broker connection.
+     */
+    public int getConnectedClientsCount() {
+        Server server = this.server;
+        return server != null ? server.listConnectedClients().size() : 0;
+    }
+
     public @Nullable MqttBrokerConnection getConnection() {
         return connection;
     }
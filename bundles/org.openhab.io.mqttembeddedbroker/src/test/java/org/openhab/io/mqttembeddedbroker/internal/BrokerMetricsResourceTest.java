@@ -0,0 +1,69 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.mqttembeddedbroker.internal;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import javax.ws.rs.core.Response;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.openhab.io.mqttembeddedbroker.internal.BrokerMetricsResource.BrokerMetricsDTO;
+
+import io.moquette.interception.messages.InterceptConnectMessage;
+
+/**
+ * Tests the {@link BrokerMetricsResource}.
+ *
+ * @author agent - Initial contribution
+ */
+public class BrokerMetricsResourceTest {
+    private final BrokerMetrics metrics = new BrokerMetrics();
+    private final EmbeddedBrokerService service = mock(EmbeddedBrokerService.class);
+    private final BrokerMetricsResource resource = new BrokerMetricsResource(service);
+
+    @Before
+    public void setUp() {
+        when(service.getMetrics()).thenReturn(metrics);
+        when(service.getConnectedClientsCount()).thenReturn(1);
+        when(service.getPersistenceFilename()).thenReturn("");
+    }
+
+    @Test
+    public void metricsAreReturned() {
+        InterceptConnectMessage connect = mock(InterceptConnectMessage.class);
+        when(connect.getClientID()).thenReturn("client1");
+        metrics.onConnect(connect);
+
+        Response response = resource.getMetrics();
+        assertThat(response.getStatus(), is(200));
+        BrokerMetricsDTO dto = (BrokerMetricsDTO) response.getEntity();
+        assertThat(dto.connectedClients, is(1));
+        assertThat(dto.total.messages, is(0L));
+        assertTrue(dto.clients.containsKey("client1"));
+        assertTrue(dto.topicPrefixes.isEmpty());
+        assertNull(dto.persistenceFile);
+    }
+
+    @Test
+    public void resetMetrics() {
+        InterceptConnectMessage connect = mock(InterceptConnectMessage.class);
+        when(connect.getClientID()).thenReturn("client1");
+        metrics.onConnect(connect);
+
+        assertThat(resource.resetMetrics().getStatus(), is(200));
+        assertTrue(metrics.getClients().isEmpty());
+    }
+}
@@ -0,0 +1,71 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.mqttembeddedbroker.internal;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import io.moquette.interception.messages.InterceptPublishMessage;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.mqtt.MqttMessageBuilders;
+import io.netty.handler.codec.mqtt.MqttPublishMessage;
+import io.netty.handler.codec.mqtt.MqttQoS;
+
+/**
+ * Tests the {@link BrokerMetrics} interceptor.
+ *
+ * @author agent - Initial contribution
+ */
+public class BrokerMetricsTest {
+    private final BrokerMetrics metrics = new BrokerMetrics();
+
+    private void publish(String clientID, String topic, String payload) {
+        MqttPublishMessage msg = MqttMessageBuilders.publish().topicName(topic).qos(MqttQoS.AT_MOST_ONCE)
+                .payload(Unpooled.copiedBuffer(payload.getBytes())).build();
+        try {
+            metrics.onPublish(new InterceptPublishMessage(msg, clientID, "user"));
+        } finally {
+            msg.release();
+        }
+    }
+
+    @Test
+    public void topicPrefix() {
+        assertThat(BrokerMetrics.topicPrefix("homie/device/$state"), is("homie"));
+        assertThat(BrokerMetrics.topicPrefix("$SYS/broker/uptime"), is("$SYS"));
+        assertThat(BrokerMetrics.topicPrefix("demotopic"), is("demotopic"));
+    }
+
+    @Test
+    public void countsPerTopicPrefixAndClient() {
+        publish("client1", "homie/device/$state", "ready");
+        publish("client1", "homie/device/node/property", "12");
+        publish("client2", "homeassistant/switch/a/config", "{}");
+
+        assertThat(metrics.getTotal().getMessages(), is(3L));
+        assertThat(metrics.getTotal().getBytes(), is(9L));
+        assertThat(metrics.getTopicPrefixes().get("homie").getMessages(), is(2L));
+        assertThat(metrics.getTopicPrefixes().get("homie").getBytes(), is(7L));
+        assertThat(metrics.getTopicPrefixes().get("homeassistant").getMessages(), is(1L));
+        assertThat(metrics.getClients().get("client1").getMessages(), is(2L));
+        assertThat(metrics.getClients().get("client2").getBytes(), is(2L));
+        assertTrue(metrics.getMessageRate(metrics.getTotal()) > 0);
+
+        metrics.reset();
+        assertThat(metrics.getTotal().getMessages(), is(0L));
+        assertTrue(metrics.getTopicPrefixes().isEmpty());
+        assertTrue(metrics.getClients().isEmpty());
+    }
+}
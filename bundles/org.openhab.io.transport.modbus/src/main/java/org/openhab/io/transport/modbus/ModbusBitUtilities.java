@@ -14,8 +14,6 @@ package org.openhab.io.transport.modbus;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
-import java.nio.ByteBuffer;
-import java.nio.ByteOrder;
 import java.nio.charset.Charset;
 import java.util.Optional;
 
@@ -111,107 +109,197 @@ public class ModbusBitUtilities {
         }
         switch (type) {
             case BIT:
-                return Optional
-                        .of(new DecimalType((registers.getRegister(index / 16).toUnsignedShort() >> (index % 16)) & 1));
+                return Optional.of(
+                        new DecimalType((registers.getUnsignedRegisterValue(index / 16) >> (index % 16)) & 1));
             case INT8:
-                return Optional.of(new DecimalType(registers.getRegister(index / 2).getBytes()[1 - (index % 2)]));
+                return Optional
+                        .of(new DecimalType((byte) (registers.getRegisterValue(index / 2) >> (8 * (index % 2)))));
             case UINT8:
                 return Optional.of(new DecimalType(
-                        (registers.getRegister(index / 2).toUnsignedShort() >> (8 * (index % 2))) & 0xff));
-            case INT16: {
-                ByteBuffer buff = ByteBuffer.allocate(2);
-                buff.put(registers.getRegister(index).getBytes());
-                return Optional.of(new DecimalType(buff.order(ByteOrder.BIG_ENDIAN).getShort(0)));
-            }
+                        (registers.getUnsignedRegisterValue(index / 2) >> (8 * (index % 2))) & 0xff));
+            case INT16:
+                return Optional.of(new DecimalType(extractInt16(registers, index)));
             case UINT16:
-                return Optional.of(new DecimalType(registers.getRegister(index).toUnsignedShort()));
-            case INT32: {
-                ByteBuffer buff = ByteBuffer.allocate(4);
-                buff.put(registers.getRegister(index).getBytes());
-                buff.put(registers.getRegister(index + 1).getBytes());
-                return Optional.of(new DecimalType(buff.order(ByteOrder.BIG_ENDIAN).getInt(0)));
-            }
-            case UINT32: {
-                ByteBuffer buff = ByteBuffer.allocate(8);
-                buff.position(4);
-                buff.put(registers.getRegister(index).getBytes());
-                buff.put(registers.getRegister(index + 1).getBytes());
-                return Optional.of(new DecimalType(buff.order(ByteOrder.BIG_ENDIAN).getLong(0)));
-            }
-            case FLOAT32: {
-                ByteBuffer buff = ByteBuffer.allocate(4);
-                buff.put(registers.getRegister(index).getBytes());
-                buff.put(registers.getRegister(index + 1).getBytes());
+                return Optional.of(new DecimalType(extractUInt16(registers, index)));
+            case INT32:
+                return Optional.of(new DecimalType(extractInt32(registers, index)));
+            case UINT32:
+                return Optional.of(new DecimalType(extractUInt32(registers, index)));
+            case FLOAT32:
                 try {
-                    return Optional.of(new DecimalType(buff.order(ByteOrder.BIG_ENDIAN).getFloat(0)));
+                    return Optional.of(new DecimalType(extractFloat32(registers, index)));
                 } catch (NumberFormatException e) {
                     // floating point NaN or infinity encountered
                     return Optional.empty();
                 }
-            }
-            case INT64: {
-                ByteBuffer buff = ByteBuffer.allocate(8);
-                buff.put(registers.getRegister(index).getBytes());
-                buff.put(registers.getRegister(index + 1).getBytes());
-                buff.put(registers.getRegister(index + 2).getBytes());
-                buff.put(registers.getRegister(index + 3).getBytes());
-                return Optional.of(new DecimalType(buff.order(ByteOrder.BIG_ENDIAN).getLong(0)));
-            }
-            case UINT64: {
-                ByteBuffer buff = ByteBuffer.allocate(8);
-                buff.put(registers.getRegister(index).getBytes());
-                buff.put(registers.getRegister(index + 1).getBytes());
-                buff.put(registers.getRegister(index + 2).getBytes());
-                buff.put(registers.getRegister(index + 3).getBytes());
-                return Optional.of(
-                        new DecimalType(new BigDecimal(new BigInteger(1, buff.order(ByteOrder.BIG_ENDIAN).array()))));
-            }
-            case INT32_SWAP: {
-                ByteBuffer buff = ByteBuffer.allocate(4);
-                buff.put(registers.getRegister(index + 1).getBytes());
-                buff.put(registers.getRegister(index).getBytes());
-                return Optional.of(new DecimalType(buff.order(ByteOrder.BIG_ENDIAN).getInt(0)));
-            }
-            case UINT32_SWAP: {
-                ByteBuffer buff = ByteBuffer.allocate(8);
-                buff.position(4);
-                buff.put(registers.getRegister(index + 1).getBytes());
-                buff.put(registers.getRegister(index).getBytes());
-                return Optional.of(new DecimalType(buff.order(ByteOrder.BIG_ENDIAN).getLong(0)));
-            }
-            case FLOAT32_SWAP: {
-                ByteBuffer buff = ByteBuffer.allocate(4);
-                buff.put(registers.getRegister(index + 1).getBytes());
-                buff.put(registers.getRegister(index).getBytes());
+            case INT64:
+                return Optional.of(new DecimalType(extractInt64(registers, index)));
+            case UINT64:
+                return Optional.of(unsignedDecimal(extractInt64(registers, index)));
+            case INT32_SWAP:
+                return Optional.of(new DecimalType(extractInt32Swap(registers, index)));
+            case UINT32_SWAP:
+                return Optional.of(new DecimalType(extractUInt32Swap(registers, index)));
+            case FLOAT32_SWAP:
                 try {
-                    return Optional.of(new DecimalType(buff.order(ByteOrder.BIG_ENDIAN).getFloat(0)));
+                    return Optional.of(new DecimalType(extractFloat32Swap(registers, index)));
                 } catch (NumberFormatException e) {
                     // floating point NaN or infinity encountered
                     return Optional.empty();
                 }
-            }
-            case INT64_SWAP: {
-                ByteBuffer buff = ByteBuffer.allocate(8);
-                buff.put(registers.getRegister(index + 3).getBytes());
-                buff.put(registers.getRegister(index + 2).getBytes());
-                buff.put(registers.getRegister(index + 1).getBytes());
-                buff.put(registers.getRegister(index).getBytes());
-                return Optional.of(new DecimalType(buff.order(ByteOrder.BIG_ENDIAN).getLong(0)));
-            }
-            case UINT64_SWAP: {
-                ByteBuffer buff = ByteBuffer.allocate(8);
-                buff.put(registers.getRegister(index + 3).getBytes());
-                buff.put(registers.getRegister(index + 2).getBytes());
-                buff.put(registers.getRegister(index + 1).getBytes());
-                buff.put(registers.getRegister(index).getBytes());
-                return Optional.of(
-                        new DecimalType(new BigDecimal(new BigInteger(1, buff.order(ByteOrder.BIG_ENDIAN).array()))));
-            }
+            case INT64_SWAP:
+                return Optional.of(new DecimalType(extractInt64Swap(registers, index)));
+            case UINT64_SWAP:
+                return Optional.of(unsignedDecimal(extractInt64Swap(registers, index)));
             default:
                 throw new IllegalArgumentException(type.getConfigValue());
         }
     }
 
+    private static DecimalType unsignedDecimal(long value) {
+        if (value >= 0) {
+            return new DecimalType(value);
+        }
+        return new DecimalType(new BigDecimal(new BigInteger(Long.toUnsignedString(value))));
+    }
+
+    /**
+     * Read register (index) as signed 16 bit integer
+     *
+     * The extraction methods below read the data directly from the packed register data, without intermediate
+     * objects. The caller is responsible for ensuring that the index is valid.
+     *
+     * @param registers registers to read from
+     * @param index register index
+     * @return value
+     * @throws IndexOutOfBoundsException when <tt>index</tt> is out of bounds of registers
+     */
+    public static short extractInt16(ModbusRegisterArray registers, int index) {
+        return (short) registers.getRegisterValue(index);
+    }
+
+    /**
+     * Read register (index) as unsigned 16 bit integer
+     *
+     * @param registers registers to read from
+     * @param index register index
+     * @return value
+     * @throws IndexOutOfBoundsException when <tt>index</tt> is out of bounds of registers
+     */
+    public static int extractUInt16(ModbusRegisterArray registers, int index) {
+        return registers.getUnsignedRegisterValue(index);
+    }
+
+    /**
+     * Read registers (index) and (index + 1) as signed 32 bit integer, first register containing the most significant
+     * 16 bits
+     *
+     * @param registers registers to read from
+     * @param index index of the first register
+     * @return value
+     * @throws IndexOutOfBoundsException when <tt>index</tt> is out of bounds of registers
+     */
+    public static int extractInt32(ModbusRegisterArray registers, int index) {
+        return (registers.getUnsignedRegisterValue(index) << 16) | registers.getUnsignedRegisterValue(index + 1);
+    }
+
+    /**
+     * Read registers (index) and (index + 1) as signed 32 bit integer, second register containing the most
+     * significant 16 bits
+     *
+     * @param registers registers to read from
+     * @param index index of the first register
+     * @return value
+     * @throws IndexOutOfBoundsException when <tt>index</tt> is out of bounds of registers
+     */
+    public static int extractInt32Swap(ModbusRegisterArray registers, int index) {
+        return (registers.getUnsignedRegisterValue(index + 1) << 16) | registers.getUnsignedRegisterValue(index);
+    }
+
+    /**
+     * Read registers (index) and (index + 1) as unsigned 32 bit integer, first register containing the most
+     * significant 16 bits
+     *
+     * @param registers registers to read from
+     * @param index index of the first register
+     * @return value
+     * @throws IndexOutOfBoundsException when <tt>index</tt> is out of bounds of registers
+     */
+    public static long extractUInt32(ModbusRegisterArray registers, int index) {
+        return extractInt32(registers, index) & 0xffffffffL;
+    }
+
+    /**
+     * Read registers (index) and (index + 1) as unsigned 32 bit integer, second register containing the most
+     * significant 16 bits
+     *
+     * @param registers registers to read from
+     * @param index index of the first register
+     * @return value
+     * @throws IndexOutOfBoundsException when <tt>index</tt> is out of bounds of registers
+     */
+    public static long extractUInt32Swap(ModbusRegisterArray registers, int index) {
+        return extractInt32Swap(registers, index) & 0xffffffffL;
+    }
+
+    /**
+     * Read registers (index) and (index + 1) as 32 bit floating point number, first register containing the most
+     * significant 16 bits
+     *
+     * @param registers registers to read from
+     * @param index index of the first register
+     * @return value
+     * @throws IndexOutOfBoundsException when <tt>index</tt> is out of bounds of registers
+     */
+    public static float extractFloat32(ModbusRegisterArray registers, int index) {
+        return Float.intBitsToFloat(extractInt32(registers, index));
+    }
+
+    /**
+     * Read registers (index) and (index + 1) as 32 bit floating point number, second register containing the most
+     * significant 16 bits
+     *
+     * @param registers registers to read from
+     * @param index index of the first register
+     * @return value
+     * @throws IndexOutOfBoundsException when <tt>index</tt> is out of bounds of registers
+     */
+    public static float extractFloat32Swap(ModbusRegisterArray registers, int index) {
+        return Float.intBitsToFloat(extractInt32Swap(registers, index));
+    }
+
+    /**
+     * Read registers (index), (index + 1), (index + 2) and (index + 3) as signed 64 bit integer, first register
+     * containing the most significant 16 bits
+     *
+     * @param registers registers to read from
+     * @param index index of the first register
+     * @return value
+     * @throws IndexOutOfBoundsException when <tt>index</tt> is out of bounds of registers
+     */
+    public static long extractInt64(ModbusRegisterArray registers, int index) {
+        return ((long) registers.getUnsignedRegisterValue(index) << 48)
+                | ((long) registers.getUnsignedRegisterValue(index + 1) << 32)
+                | ((long) registers.getUnsignedRegisterValue(index + 2) << 16)
+                | registers.getUnsignedRegisterValue(index + 3);
+    }
+
+    /**
+     * Read registers (index), (index + 1), (index + 2) and (index + 3) as signed 64 bit integer, last register
+     * containing the most significant 16 bits
+     *
+     * @param registers registers to read from
+     * @param index index of the first register
+     * @return value
+     * @throws IndexOutOfBoundsException when <tt>index</tt> is out of bounds of registers
+     */
+    public static long extractInt64Swap(ModbusRegisterArray registers, int index) {
+        return ((long) registers.getUnsignedRegisterValue(index + 3) << 48)
+                | ((long) registers.getUnsignedRegisterValue(index + 2) << 32)
+                | ((long) registers.getUnsignedRegisterValue(index + 1) << 16)
+                | registers.getUnsignedRegisterValue(index);
+    }
+
     /**
      * Read data from registers and convert the result to StringType
      * Strings should start the the first byte of a register, but could
@@ -249,9 +337,9 @@ public class ModbusBitUtilities {
 
             byte chr;
             if (dest % 2 == 0) {
-                chr = (byte) ((registers.getRegister(src).getValue() >> 8));
+                chr = (byte) ((registers.getRegisterValue(src) >> 8));
             } else {
-                chr = (byte) (registers.getRegister(src).getValue() & 0xff);
+                chr = (byte) (registers.getRegisterValue(src) & 0xff);
                 src++;
             }
             if (chr == 0) {
@@ -0,0 +1,136 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.transport.modbus;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * Metrics of the communication with single endpoint. The counters are cumulative since the first communication
+ * interface to the endpoint was opened.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public interface ModbusEndpointMetrics {
+
+    /**
+     * Upper limits (inclusive) of the transaction latency histogram buckets, in milliseconds. The histogram has one
+     * additional bucket for latencies exceeding the last limit.
+     */
+    static final List<Long> TRANSACTION_LATENCY_BUCKET_LIMITS_MILLIS = Collections
+            .unmodifiableList(Arrays.asList(10L, 25L, 50L, 100L, 250L, 500L, 1000L, 2500L, 5000L));
+
+    /**
+     * Get number of read and write operations executed with the endpoint
+     *
+     * Single operation might consist of several transactions when it is retried.
+     *
+     * @return number of operations
+     */
+    long getRequestCount();
+
+    /**
+     * Get number of operations that failed, after all the retries
+     *
+     * @return number of failed operations
+     */
+    long getErrorCount();
+
+    /**
+     * Get number of failed operations by the type of the error
+     *
+     * @return map with simple class name of the exception as key, and the number of errors as value
+     */
+    Map<String, Long> getErrorCountsByType();
+
+    /**
+     * Get number of connections borrowed from the connection pool
+     *
+     * @return number of connection borrows
+     */
+    long getConnectionBorrowCount();
+
+    /**
+     * Get total time spent waiting for connections, in milliseconds
+     *
+     * @return total wait time
+     */
+    long getTotalConnectionBorrowWaitMillis();
+
+    /**
+     * Get longest time spent waiting for connection, in milliseconds
+     *
+     * @return maximum wait time
+     */
+    long getMaxConnectionBorrowWaitMillis();
+
+    /**
+     * Get number of transactions (request-response round-trips) executed with the endpoint, including failed ones
+     *
+     * @return number of transactions
+     */
+    long getTransactionCount();
+
+    /**
+     * Get total time spent in transactions, in milliseconds
+     *
+     * @return total transaction time
+     */
+    long getTotalTransactionMillis();
+
+    /**
+     * Get histogram of the transaction latencies
+     *
+     * @return counts of transactions in each bucket, see {@link #TRANSACTION_LATENCY_BUCKET_LIMITS_MILLIS}
+     */
+    long[] getTransactionLatencyHistogram();
+
+    /**
+     * Get number of operations currently queued for execution with the endpoint
+     *
+     * @return queue depth
+     */
+    int getQueueDepth();
+
+    /**
+     * Get number of regular poll executions dropped since they were still queued when the poll was triggered again
+     *
+     * @return number of dropped poll executions
+     */
+    long getDroppedPollCount();
+
+    /**
+     * Get average time spent waiting for connection
+     *
+     * @return average wait time in milliseconds, or 0 if no connections have been borrowed
+     */
+    default double getAverageConnectionBorrowWaitMillis() {
+        long count = getConnectionBorrowCount();
+        return count == 0 ? 0 : (double) getTotalConnectionBorrowWaitMillis() / count;
+    }
+
+    /**
+     * Get average transaction latency
+     *
+     * @return average transaction latency in milliseconds, or 0 if no transactions have been executed
+     */
+    default double getAverageTransactionMillis() {
+        long count = getTransactionCount();
+        return count == 0 ? 0 : (double) getTotalTransactionMillis() / count;
+    }
+}
@@ -46,4 +46,12 @@ public interface ModbusManager {
      * @return general connection settings of the given endpoint
      */
     public @Nullable EndpointPoolConfiguration getEndpointPoolConfiguration(ModbusSlaveEndpoint endpoint);
+
+    /**
+     * Get metrics of the communication with a given endpoint
+     *
+     * @param endpoint endpoint to query
+     * @return metrics of the endpoint, or null if no communication interface has been opened to the endpoint
+     */
+    public @Nullable ModbusEndpointMetrics getEndpointMetrics(ModbusSlaveEndpoint endpoint);
 }
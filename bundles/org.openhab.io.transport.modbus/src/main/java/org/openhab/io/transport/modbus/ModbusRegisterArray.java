@@ -20,12 +20,16 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 /**
  * Immutable {@link ModbusRegisterArray} implementation
  *
+ * Register data is stored packed as array of <code>short</code>. {@link ModbusRegister} objects are created only
+ * when requested with {@link #getRegister(int)}; use {@link #getRegisterValue(int)} and
+ * {@link #getUnsignedRegisterValue(int)} to access the data without allocations.
+ *
  * @author Sami Salonen - Initial contribution
  */
 @NonNullByDefault
 public class ModbusRegisterArray implements Iterable<ModbusRegister> {
 
-    private final ModbusRegister[] registers;
+    private final short[] registers;
 
     /**
      * Construct plain <code>ModbusRegister[]</code> array from register values
@@ -47,7 +51,21 @@ public class ModbusRegisterArray implements Iterable<ModbusRegister> {
      * @param registers
      */
     public ModbusRegisterArray(ModbusRegister[] registers) {
-        this.registers = registers;
+        this.registers = new short[registers.length];
+        for (int i = 0; i < registers.length; i++) {
+            this.registers[i] = (short) registers[i].getValue();
+        }
+    }
+
+    /**
+     * Construct ModbusRegisterArrayImpl from packed register data
+     *
+     * Note that the array is not copied, and thus it should not be modified after construction.
+     *
+     * @param registerValues register values, each <code>short</code> corresponding to one register
+     */
+    public ModbusRegisterArray(short[] registerValues) {
+        this.registers = registerValues;
     }
 
     /**
@@ -57,7 +75,10 @@ public class ModbusRegisterArray implements Iterable<ModbusRegister> {
      * @return
      */
     public ModbusRegisterArray(int... registerValues) {
-        this(registersFromValues(registerValues));
+        this.registers = new short[registerValues.length];
+        for (int i = 0; i < registerValues.length; i++) {
+            this.registers[i] = (short) registerValues[i];
+        }
     }
 
     /**
@@ -70,9 +91,35 @@ public class ModbusRegisterArray implements Iterable<ModbusRegister> {
      * @throws IndexOutOfBoundsException if the index is out of bounds.
      */
     public ModbusRegister getRegister(int index) {
+        return new ModbusRegister(registers[index]);
+    }
+
+    /**
+     * Return value of the register at the given index, parsed as signed 16 bit integer
+     *
+     * Equivalent to <code>getRegister(index).getValue()</code> but without allocations.
+     *
+     * @param index the index of the register
+     * @return register value as signed integer
+     * @throws IndexOutOfBoundsException if the index is out of bounds.
+     */
+    public int getRegisterValue(int index) {
         return registers[index];
     }
 
+    /**
+     * Return value of the register at the given index, parsed as unsigned 16 bit integer
+     *
+     * Equivalent to <code>getRegister(index).toUnsignedShort()</code> but without allocations.
+     *
+     * @param index the index of the register
+     * @return register value as unsigned integer
+     * @throws IndexOutOfBoundsException if the index is out of bounds.
+     */
+    public int getUnsignedRegisterValue(int index) {
+        return registers[index] & 0xffff;
+    }
+
     /**
      * Get number of registers stored in this instance
      *
@@ -0,0 +1,163 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.transport.modbus.internal;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.apache.commons.lang.builder.ToStringBuilder;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.io.transport.modbus.AsyncModbusFailure;
+import org.openhab.io.transport.modbus.AsyncModbusReadResult;
+import org.openhab.io.transport.modbus.BitArray;
+import org.openhab.io.transport.modbus.ModbusFailureCallback;
+import org.openhab.io.transport.modbus.ModbusReadCallback;
+import org.openhab.io.transport.modbus.ModbusReadRequestBlueprint;
+import org.openhab.io.transport.modbus.ModbusRegisterArray;
+import org.openhab.io.transport.modbus.PollTask;
+import org.openhab.io.transport.modbus.endpoint.ModbusSlaveEndpoint;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Poll task reading a merged range on behalf of several member poll tasks.
+ *
+ * The response of the merged request is sliced and passed to the callbacks of each member, as if the members were
+ * executed individually. Similarly, errors are reported to the failure callbacks of all members. Members that are
+ * not active anymore (e.g. unregistered while the request was executing) are skipped.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class CoalescedPollTask implements PollTask {
+
+    private final Logger logger = LoggerFactory.getLogger(CoalescedPollTask.class);
+
+    private final ModbusSlaveEndpoint endpoint;
+    private final ModbusReadRequestBlueprint request;
+    private final List<PollTask> members;
+    private final Predicate<PollTask> memberActive;
+    private final ModbusReadCallback resultCallback = this::handleResult;
+    private final ModbusFailureCallback<ModbusReadRequestBlueprint> failureCallback = this::handleFailure;
+
+    public CoalescedPollTask(ModbusSlaveEndpoint endpoint, ModbusReadRequestBlueprint request,
+            List<PollTask> members) {
+        this(endpoint, request, members, member -> true);
+    }
+
+    /**
+     * @param memberActive tells whether the result should still be passed to the member
+     */
+    public CoalescedPollTask(ModbusSlaveEndpoint endpoint, ModbusReadRequestBlueprint request, List<PollTask> members,
+            Predicate<PollTask> memberActive) {
+        this.endpoint = endpoint;
+        this.request = request;
+        this.members = Collections.unmodifiableList(members);
+        this.memberActive = memberActive;
+    }
+
+    /**
+     * Get poll tasks served by this task
+     *
+     * @return member poll tasks, ordered by start address
+     */
+    public List<PollTask> getMembers() {
+        return members;
+    }
+
+    @Override
+    public ModbusSlaveEndpoint getEndpoint() {
+        return endpoint;
+    }
+
+    @Override
+    public ModbusReadRequestBlueprint getRequest() {
+        return request;
+    }
+
+    @Override
+    public ModbusReadCallback getResultCallback() {
+        return resultCallback;
+    }
+
+    @Override
+    public ModbusFailureCallback<ModbusReadRequestBlueprint> getFailureCallback() {
+        return failureCallback;
+    }
+
+    private void handleResult(AsyncModbusReadResult result) {
+        for (PollTask member : members) {
+            if (!memberActive.test(member)) {
+                logger.debug("Poll task {} is not active anymore, skipping its result", member);
+                continue;
+            }
+            ModbusReadRequestBlueprint memberRequest = member.getRequest();
+            int offset = memberRequest.getReference() - request.getReference();
+            int length = memberRequest.getDataLength();
+            AsyncModbusReadResult memberResult;
+            if (result.getRegisters().isPresent()) {
+                memberResult = new AsyncModbusReadResult(memberRequest,
+                        sliceRegisters(result.getRegisters().get(), offset, length));
+            } else if (result.getBits().isPresent()) {
+                memberResult = new AsyncModbusReadResult(memberRequest,
+                        sliceBits(result.getBits().get(), offset, length));
+            } else {
+                logger.warn("Result {} of coalesced request has no data, ignoring", result);
+                return;
+            }
+            try {
+                member.getResultCallback().handle(memberResult);
+            } catch (RuntimeException e) {
+                // Do not let one misbehaving callback prevent delivery to the rest of the members
+                logger.warn("Result callback of poll task {} failed unexpectedly", member, e);
+            }
+        }
+    }
+
+    private void handleFailure(AsyncModbusFailure<ModbusReadRequestBlueprint> failure) {
+        for (PollTask member : members) {
+            if (!memberActive.test(member)) {
+                logger.debug("Poll task {} is not active anymore, skipping its failure", member);
+                continue;
+            }
+            try {
+                member.getFailureCallback().handle(new AsyncModbusFailure<>(member.getRequest(), failure.getCause()));
+            } catch (RuntimeException e) {
+                logger.warn("Failure callback of poll task {} failed unexpectedly", member, e);
+            }
+        }
+    }
+
+    private static ModbusRegisterArray sliceRegisters(ModbusRegisterArray registers, int offset, int length) {
+        short[] slice = new short[length];
+        for (int i = 0; i < length; i++) {
+            slice[i] = (short) registers.getRegisterValue(offset + i);
+        }
+        return new ModbusRegisterArray(slice);
+    }
+
+    private static BitArray sliceBits(BitArray bits, int offset, int length) {
+        BitArray slice = new BitArray(length);
+        for (int i = 0; i < length; i++) {
+            slice.setBit(i, bits.getBit(offset + i));
+        }
+        return slice;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this, BasicPollTask.toStringStyle).append("request", request)
+                .append("endpoint", endpoint).append("members", members.size()).toString();
+    }
+}
@@ -0,0 +1,187 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.transport.modbus.internal;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Predicate;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.io.transport.modbus.endpoint.ModbusSlaveEndpoint;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Queue of operations with single endpoint.
+ *
+ * Operations are executed in the given executor, with at most <code>maxConcurrentTasks</code> operations executing at
+ * the same time. Priority operations (writes and one-off polls) are executed before regular polls, so that
+ * commands are not delayed by the poll backlog of a slow slave.
+ *
+ * To avoid starvation of regular polls, a queued regular poll is executed after
+ * {@link #MAX_CONSECUTIVE_PRIORITY_TASKS} consecutive priority operations.
+ *
+ * Only one execution of each regular poll is kept in the queue. If the poll is triggered again while the previous
+ * execution is still queued, the stale execution is replaced by the new one, keeping its place in the queue.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class EndpointTaskQueue {
+
+    /**
+     * Maximum number of priority tasks executed in a row while regular polls are waiting
+     */
+    public static final int MAX_CONSECUTIVE_PRIORITY_TASKS = 5;
+
+    private static class RegularTask {
+        private final Object key;
+        private Runnable task;
+
+        RegularTask(Object key, Runnable task) {
+            this.key = key;
+            this.task = task;
+        }
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(EndpointTaskQueue.class);
+
+    private final ModbusSlaveEndpoint endpoint;
+    private final Executor executor;
+    private final int maxConcurrentTasks;
+    private final ModbusEndpointMetricsImpl metrics;
+
+    private final Deque<Runnable> priorityTasks = new ArrayDeque<>();
+    private final Deque<RegularTask> regularTasks = new ArrayDeque<>();
+    private final Map<Object, RegularTask> queuedRegularTasks = new HashMap<>();
+    private int runningWorkers;
+    private int consecutivePriorityTasks;
+
+    public EndpointTaskQueue(ModbusSlaveEndpoint endpoint, Executor executor, int maxConcurrentTasks,
+            ModbusEndpointMetricsImpl metrics) {
+        this.endpoint = endpoint;
+        this.executor = executor;
+        this.maxConcurrentTasks = maxConcurrentTasks;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Submit priority task (write or one-off poll)
+     *
+     * @param task task to execute
+     */
+    public synchronized void submitPriority(Runnable task) {
+        priorityTasks.add(task);
+        metrics.operationQueued();
+        maybeStartWorker();
+    }
+
+    /**
+     * Submit execution of a regular poll
+     *
+     * @param key identifies the regular poll. Queued execution with the same key is replaced by this execution.
+     * @param task task to execute
+     */
+    public synchronized void submitRegular(Object key, Runnable task) {
+        RegularTask queued = queuedRegularTasks.get(key);
+        if (queued != null) {
+            logger.debug("Previous execution of regular poll {} with endpoint {} still queued, dropping it as stale",
+                    key, endpoint);
+            queued.task = task;
+            metrics.stalePollDropped();
+            return;
+        }
+        RegularTask regularTask = new RegularTask(key, task);
+        regularTasks.add(regularTask);
+        queuedRegularTasks.put(key, regularTask);
+        metrics.operationQueued();
+        maybeStartWorker();
+    }
+
+    /**
+     * Remove queued executions of regular polls, e.g. since the poll was unregistered
+     *
+     * @param keyFilter matches the keys of the regular polls to remove
+     * @return number of removed executions
+     */
+    public synchronized int cancelRegular(Predicate<Object> keyFilter) {
+        int removed = 0;
+        Iterator<RegularTask> iterator = regularTasks.iterator();
+        while (iterator.hasNext()) {
+            RegularTask regularTask = iterator.next();
+            if (keyFilter.test(regularTask.key)) {
+                iterator.remove();
+                queuedRegularTasks.remove(regularTask.key);
+                metrics.operationDequeued();
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Whether no task is queued or executing
+     */
+    public synchronized boolean isIdle() {
+        return runningWorkers == 0 && priorityTasks.isEmpty() && regularTasks.isEmpty();
+    }
+
+    private void maybeStartWorker() {
+        if (runningWorkers >= maxConcurrentTasks) {
+            return;
+        }
+        runningWorkers++;
+        try {
+            executor.execute(this::work);
+        } catch (RejectedExecutionException e) {
+            runningWorkers--;
+            throw e;
+        }
+    }
+
+    private synchronized @Nullable Runnable next() {
+        boolean regularDue = consecutivePriorityTasks >= MAX_CONSECUTIVE_PRIORITY_TASKS;
+        if (!priorityTasks.isEmpty() && !(regularDue && !regularTasks.isEmpty())) {
+            consecutivePriorityTasks++;
+            metrics.operationDequeued();
+            return priorityTasks.poll();
+        }
+        consecutivePriorityTasks = 0;
+        RegularTask regularTask = regularTasks.poll();
+        if (regularTask == null) {
+            runningWorkers--;
+            return null;
+        }
+        queuedRegularTasks.remove(regularTask.key);
+        metrics.operationDequeued();
+        return regularTask.task;
+    }
+
+    private void work() {
+        Runnable task;
+        while ((task = next()) != null) {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                // Keep serving the queue even if single task fails unexpectedly
+                logger.warn("Execution of task with endpoint {} failed unexpectedly", endpoint, e);
+            }
+        }
+    }
+}
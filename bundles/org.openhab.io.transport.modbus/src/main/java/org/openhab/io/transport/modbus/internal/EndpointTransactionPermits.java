@@ -0,0 +1,108 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.transport.modbus.internal;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.function.ToIntFunction;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.io.transport.modbus.endpoint.ModbusSlaveEndpoint;
+
+/**
+ * Permits limiting the concurrent transactions per endpoint.
+ *
+ * The connection pool does not cap the connections per endpoint, these permits are the only guard for exclusive access
+ * to a serial port or slave. The permits of an endpoint can be discarded when the endpoint is not used anymore, but
+ * only while no transaction holds or waits for a permit. A transaction never runs with fresh permits while permits
+ * discarded before are still in use.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class EndpointTransactionPermits {
+
+    private static class Permits extends Semaphore {
+        private static final long serialVersionUID = 3516419307512011738L;
+
+        private final int maxConcurrentTransactions;
+
+        Permits(int maxConcurrentTransactions) {
+            super(maxConcurrentTransactions, true);
+            this.maxConcurrentTransactions = maxConcurrentTransactions;
+        }
+
+        /**
+         * Whether no transaction is ongoing or waiting for a permit
+         */
+        boolean isIdle() {
+            return availablePermits() == maxConcurrentTransactions && !hasQueuedThreads();
+        }
+    }
+
+    private final Map<ModbusSlaveEndpoint, Permits> permits = new ConcurrentHashMap<>();
+    private final ToIntFunction<ModbusSlaveEndpoint> maxConcurrentTransactions;
+
+    /**
+     * @param maxConcurrentTransactions maximum number of concurrent transactions with an endpoint. It is queried when
+     *            the permits of the endpoint are created.
+     */
+    public EndpointTransactionPermits(ToIntFunction<ModbusSlaveEndpoint> maxConcurrentTransactions) {
+        this.maxConcurrentTransactions = maxConcurrentTransactions;
+    }
+
+    /**
+     * Acquire a permit for a transaction with the endpoint, waiting until one is available.
+     *
+     * @param endpoint endpoint of the transaction
+     * @return the permits the permit was acquired from. The caller must release the permit to them when the
+     *         transaction is over.
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public Semaphore acquire(ModbusSlaveEndpoint endpoint) throws InterruptedException {
+        while (true) {
+            Permits current = permits.computeIfAbsent(endpoint,
+                    e -> new Permits(Math.max(1, maxConcurrentTransactions.applyAsInt(e))));
+            current.acquire();
+            if (permits.get(endpoint) == current) {
+                return current;
+            }
+            // Permits were discarded as idle before we acquired one. Retry with the current permits so that the
+            // concurrency limit of the endpoint is never exceeded.
+            current.release();
+        }
+    }
+
+    /**
+     * Discard the permits of the endpoint, unless a transaction is ongoing or waiting for a permit.
+     *
+     * @param endpoint endpoint to discard the permits of
+     * @return whether the endpoint has no permits anymore
+     */
+    public boolean discardIfIdle(ModbusSlaveEndpoint endpoint) {
+        return permits.computeIfPresent(endpoint, (e, current) -> current.isIdle() ? null : current) == null;
+    }
+
+    /**
+     * Get the number of transactions that can be started with the endpoint right now
+     *
+     * @param endpoint endpoint of the transactions
+     * @return number of available permits, or the configured maximum if the endpoint has no permits yet
+     */
+    public int getAvailablePermits(ModbusSlaveEndpoint endpoint) {
+        Permits current = permits.get(endpoint);
+        return current != null ? current.availablePermits()
+                : Math.max(1, maxConcurrentTransactions.applyAsInt(endpoint));
+    }
+}
@@ -25,7 +25,7 @@ import net.wimpi.modbus.net.ModbusSlaveConnection;
 /**
  * Pool for modbus connections.
  *
- * Only one connection is allowed to be active at a time.
+ * The pool does not limit the number of active connections per endpoint, see {@link ModbusPoolConfig}.
  *
  * @author Sami Salonen - Initial contribution
  *
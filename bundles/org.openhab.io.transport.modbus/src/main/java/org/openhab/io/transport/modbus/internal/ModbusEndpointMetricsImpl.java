@@ -0,0 +1,159 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.transport.modbus.internal;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.commons.lang.builder.ToStringBuilder;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.io.transport.modbus.ModbusEndpointMetrics;
+
+/**
+ * Thread-safe implementation of {@link ModbusEndpointMetrics}, updated by {@link ModbusManagerImpl}
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ModbusEndpointMetricsImpl implements ModbusEndpointMetrics {
+
+    private static final long[] BUCKET_LIMITS_MILLIS = TRANSACTION_LATENCY_BUCKET_LIMITS_MILLIS.stream()
+            .mapToLong(Long::longValue).toArray();
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final Map<String, LongAdder> errorsByType = new ConcurrentHashMap<>();
+    private final LongAdder connectionBorrows = new LongAdder();
+    private final LongAdder connectionBorrowWaitMillis = new LongAdder();
+    private final AtomicLong maxConnectionBorrowWaitMillis = new AtomicLong();
+    private final LongAdder transactions = new LongAdder();
+    private final LongAdder transactionMillis = new LongAdder();
+    private final AtomicLongArray transactionLatencyHistogram = new AtomicLongArray(
+            BUCKET_LIMITS_MILLIS.length + 1);
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    private final LongAdder droppedPolls = new LongAdder();
+
+    public void operationStarted() {
+        requests.increment();
+    }
+
+    public void operationQueued() {
+        queueDepth.incrementAndGet();
+    }
+
+    public void operationDequeued() {
+        queueDepth.decrementAndGet();
+    }
+
+    public void stalePollDropped() {
+        droppedPolls.increment();
+    }
+
+    public void connectionBorrowed(long waitMillis) {
+        connectionBorrows.increment();
+        connectionBorrowWaitMillis.add(waitMillis);
+        maxConnectionBorrowWaitMillis.accumulateAndGet(waitMillis, Math::max);
+    }
+
+    public void transactionExecuted(long millis) {
+        transactions.increment();
+        transactionMillis.add(millis);
+        int bucket = 0;
+        while (bucket < BUCKET_LIMITS_MILLIS.length && millis > BUCKET_LIMITS_MILLIS[bucket]) {
+            bucket++;
+        }
+        transactionLatencyHistogram.incrementAndGet(bucket);
+    }
+
+    public void operationFailed(Exception error) {
+        errors.increment();
+        errorsByType.computeIfAbsent(error.getClass().getSimpleName(), type -> new LongAdder()).increment();
+    }
+
+    @Override
+    public long getRequestCount() {
+        return requests.sum();
+    }
+
+    @Override
+    public long getErrorCount() {
+        return errors.sum();
+    }
+
+    @Override
+    public Map<String, Long> getErrorCountsByType() {
+        Map<String, Long> counts = new HashMap<>();
+        errorsByType.forEach((type, count) -> counts.put(type, count.sum()));
+        return Collections.unmodifiableMap(counts);
+    }
+
+    @Override
+    public long getConnectionBorrowCount() {
+        return connectionBorrows.sum();
+    }
+
+    @Override
+    public long getTotalConnectionBorrowWaitMillis() {
+        return connectionBorrowWaitMillis.sum();
+    }
+
+    @Override
+    public long getMaxConnectionBorrowWaitMillis() {
+        return maxConnectionBorrowWaitMillis.get();
+    }
+
+    @Override
+    public long getTransactionCount() {
+        return transactions.sum();
+    }
+
+    @Override
+    public long getTotalTransactionMillis() {
+        return transactionMillis.sum();
+    }
+
+    @Override
+    public long[] getTransactionLatencyHistogram() {
+        long[] histogram = new long[transactionLatencyHistogram.length()];
+        for (int i = 0; i < histogram.length; i++) {
+            histogram[i] = transactionLatencyHistogram.get(i);
+        }
+        return histogram;
+    }
+
+    @Override
+    public int getQueueDepth() {
+        return queueDepth.get();
+    }
+
+    @Override
+    public long getDroppedPollCount() {
+        return droppedPolls.sum();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this, BasicPollTask.toStringStyle).append("requests", getRequestCount())
+                .append("errors", getErrorCountsByType()).append("queueDepth", getQueueDepth())
+                .append("droppedPolls", getDroppedPollCount())
+                .append("averageConnectionBorrowWaitMillis", getAverageConnectionBorrowWaitMillis())
+                .append("averageTransactionMillis", getAverageTransactionMillis())
+                .append("transactionLatencyHistogram", getTransactionLatencyHistogram()).toString();
+    }
+}
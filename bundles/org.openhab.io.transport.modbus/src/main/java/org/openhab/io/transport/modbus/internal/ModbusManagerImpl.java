@@ -13,18 +13,24 @@
 package org.openhab.io.transport.modbus.internal;
 
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
 
 import javax.imageio.IIOException;
 
@@ -39,6 +45,7 @@ import org.eclipse.smarthome.core.common.ThreadPoolManager;
 import org.openhab.io.transport.modbus.AsyncModbusFailure;
 import org.openhab.io.transport.modbus.AsyncModbusWriteResult;
 import org.openhab.io.transport.modbus.ModbusCommunicationInterface;
+import org.openhab.io.transport.modbus.ModbusEndpointMetrics;
 import org.openhab.io.transport.modbus.ModbusFailureCallback;
 import org.openhab.io.transport.modbus.ModbusManager;
 import org.openhab.io.transport.modbus.ModbusReadCallback;
@@ -82,6 +89,13 @@ import net.wimpi.modbus.net.ModbusSlaveConnection;
  * important with serial slaves but practice has shown that even many tcp slaves have limited
  * capability to handle many connections at the same time
  *
+ * With TCP endpoints, more transactions can be executed concurrently (each with its own connection) by configuring
+ * {@link EndpointPoolConfiguration#getMaxInFlightTransactions()}. This is useful with TCP gateways serving many
+ * slaves.
+ *
+ * Operations with each endpoint are queued in {@link EndpointTaskQueue}, where writes and one-off polls are executed
+ * before regular polls.
+ *
  * @author Sami Salonen - Initial contribution
  */
 @Component(service = ModbusManager.class, immediate = true, configurationPid = "transport.modbus")
@@ -96,6 +110,26 @@ public class ModbusManagerImpl implements ModbusManager {
         private static final long serialVersionUID = 6939730579178506885L;
     }
 
+    /**
+     * Regular poll tasks of single endpoint sharing the same poll period. The tasks are polled together using
+     * coalesced requests.
+     */
+    private static class CoalescedPollGroup {
+        private final ModbusSlaveEndpoint endpoint;
+        private final long pollPeriodMillis;
+        private final Set<PollTask> tasks = new CopyOnWriteArraySet<>();
+        private volatile @Nullable ScheduledFuture<?> future;
+
+        CoalescedPollGroup(ModbusSlaveEndpoint endpoint, long pollPeriodMillis) {
+            this.endpoint = endpoint;
+            this.pollPeriodMillis = pollPeriodMillis;
+        }
+
+        boolean matches(ModbusSlaveEndpoint endpoint, long pollPeriodMillis) {
+            return this.endpoint.equals(endpoint) && this.pollPeriodMillis == pollPeriodMillis;
+        }
+    }
+
     @FunctionalInterface
     private interface ModbusOperation<T> {
 
@@ -181,6 +215,21 @@ public class ModbusManagerImpl implements ModbusManager {
         }
     }
 
+    /**
+     * Execute the transaction, recording its latency to the metrics of the endpoint
+     *
+     * @throws ModbusException on Modbus protocol errors
+     */
+    private void executeTransaction(AggregateStopWatch timer, ModbusSlaveEndpoint endpoint,
+            ModbusTransaction transaction) throws ModbusException {
+        long start = System.currentTimeMillis();
+        try {
+            timer.transaction.timeRunnableWithModbusException(() -> transaction.execute());
+        } finally {
+            getOrCreateEndpointMetrics(endpoint).transactionExecuted(System.currentTimeMillis() - start);
+        }
+    }
+
     /**
      * Implementation for the PollTask operation
      *
@@ -188,6 +237,15 @@ public class ModbusManagerImpl implements ModbusManager {
      *
      */
     private class PollOperation implements ModbusOperation<PollTask> {
+        /**
+         * Whether results are passed only to registered poll tasks (with executions of regular polls)
+         */
+        private final boolean registeredOnly;
+
+        PollOperation(boolean registeredOnly) {
+            this.registeredOnly = registeredOnly;
+        }
+
         @Override
         public void accept(AggregateStopWatch timer, PollTask task, ModbusSlaveConnection connection)
                 throws ModbusException, ModbusUnexpectedTransactionIdException,
@@ -205,13 +263,19 @@ public class ModbusManagerImpl implements ModbusManager {
                     request.getFunctionCode(), libRequest.getHexMessage(), operationId);
             // Might throw ModbusIOException (I/O error) or ModbusSlaveException (explicit exception response from
             // slave)
-            timer.transaction.timeRunnableWithModbusException(() -> transaction.execute());
+            executeTransaction(timer, endpoint, transaction);
             ModbusResponse response = transaction.getResponse();
             logger.trace("Response for read request (FC={}, transaction ID={}): {} [operation ID {}]",
                     response.getFunctionCode(), response.getTransactionID(), response.getHexMessage(), operationId);
             checkTransactionId(response, libRequest, operationId);
             checkFunctionCode(response, libRequest, operationId);
             checkResponseSize(response, request, operationId);
+            if (registeredOnly && !isRegistered(task)) {
+                logger.debug(
+                        "Poll task {} was unregistered during the transaction, not calling callback [operation ID {}]",
+                        task, operationId);
+                return;
+            }
             timer.callback
                     .timeRunnable(() -> ModbusLibraryWrapper.invokeCallbackWithResponse(request, callback, response));
         }
@@ -243,7 +307,7 @@ public class ModbusManagerImpl implements ModbusManager {
 
             // Might throw ModbusIOException (I/O error) or ModbusSlaveException (explicit exception response from
             // slave)
-            timer.transaction.timeRunnableWithModbusException(() -> transaction.execute());
+            executeTransaction(timer, endpoint, transaction);
             ModbusResponse response = transaction.getResponse();
             logger.trace("Response for write request (FC={}, transaction ID={}): {} [operation ID {}]",
                     response.getFunctionCode(), response.getTransactionID(), response.getHexMessage(), operationId);
@@ -294,7 +358,8 @@ public class ModbusManagerImpl implements ModbusManager {
     private static final long WARN_QUEUE_SIZE = 500;
     private static final long MONITOR_QUEUE_INTERVAL_MILLIS = 10000;
 
-    private final PollOperation pollOperation = new PollOperation();
+    private final PollOperation pollOperation = new PollOperation(false);
+    private final PollOperation regularPollOperation = new PollOperation(true);
     private final WriteOperation writeOperation = new WriteOperation();
 
     private volatile long lastQueueMonitorLog = -1;
@@ -312,12 +377,28 @@ public class ModbusManagerImpl implements ModbusManager {
     private volatile @Nullable KeyedObjectPool<ModbusSlaveEndpoint, ModbusSlaveConnection> connectionPool;
     private volatile @Nullable ModbusSlaveConnectionFactoryImpl connectionFactory;
     private volatile Map<PollTask, ScheduledFuture<?>> scheduledPollTasks = new ConcurrentHashMap<>();
+    /**
+     * Regular poll tasks of endpoints having poll coalescing enabled, and the groups they are polled with
+     */
+    private volatile Map<PollTask, CoalescedPollGroup> coalescedPollTasks = new ConcurrentHashMap<>();
+    private volatile Set<CoalescedPollGroup> coalescedPollGroups = new CopyOnWriteArraySet<>();
     /**
      * Executor for requests
      */
     private volatile @Nullable ScheduledExecutorService scheduledThreadPoolExecutor;
     private volatile @Nullable ScheduledFuture<?> monitorFuture;
     private volatile Set<ModbusCommunicationInterfaceImpl> communicationInterfaces = new ConcurrentHashSet<>();
+    /**
+     * Permits limiting the concurrent transactions per endpoint, and the permits held by the borrowed connections
+     */
+    private final EndpointTransactionPermits transactionPermits = new EndpointTransactionPermits(
+            this::getMaxConcurrentTransactions);
+    private volatile Map<ModbusSlaveConnection, Semaphore> borrowedConnectionPermits = new ConcurrentHashMap<>();
+    private volatile Map<ModbusSlaveEndpoint, ModbusEndpointMetricsImpl> endpointMetrics = new ConcurrentHashMap<>();
+    /**
+     * Queues of operations per endpoint, prioritizing writes and one-off polls over regular polls
+     */
+    private volatile Map<ModbusSlaveEndpoint, EndpointTaskQueue> taskQueues = new ConcurrentHashMap<>();
 
     private void constructConnectionPool() {
         ModbusSlaveConnectionFactoryImpl connectionFactory = new ModbusSlaveConnectionFactoryImpl();
@@ -376,14 +457,25 @@ public class ModbusManagerImpl implements ModbusManager {
             return connection;
         }
         long start = System.currentTimeMillis();
+        Semaphore permits;
+        try {
+            permits = transactionPermits.acquire(endpoint);
+        } catch (InterruptedException e) {
+            logger.warn("Interrupted while waiting for transaction slot with endpoint {}", endpoint);
+            Thread.currentThread().interrupt();
+            return connection;
+        }
         try {
             connection = Optional.ofNullable(pool.borrowObject(endpoint));
         } catch (Exception e) {
             logger.warn("Error getting a new connection for endpoint {}. Error was: {} {}", endpoint,
                     e.getClass().getName(), e.getMessage());
         }
-        if (connection.isPresent()) {
+        if (!connection.isPresent()) {
+            permits.release();
+        } else {
             ModbusSlaveConnection slaveConnection = connection.get();
+            borrowedConnectionPermits.put(slaveConnection, permits);
             if (!slaveConnection.isConnected()) {
                 logger.trace(
                         "Received connection which is unconnected, preventing use by returning connection to pool.");
@@ -396,6 +488,35 @@ public class ModbusManagerImpl implements ModbusManager {
         return connection;
     }
 
+    /**
+     * Get maximum number of concurrent transactions with the endpoint.
+     *
+     * Only TCP endpoints can have more than one transaction ongoing at a time.
+     */
+    private int getMaxConcurrentTransactions(ModbusSlaveEndpoint endpoint) {
+        if (!(endpoint instanceof ModbusTCPSlaveEndpoint)) {
+            return 1;
+        }
+        ModbusSlaveConnectionFactoryImpl connectionFactory = this.connectionFactory;
+        @Nullable
+        EndpointPoolConfiguration config = connectionFactory == null ? null
+                : connectionFactory.getEndpointPoolConfiguration(endpoint);
+        return Math.max(1, config == null ? 1 : config.getMaxInFlightTransactions());
+    }
+
+    private EndpointTaskQueue getTaskQueue(ScheduledExecutorService executor, ModbusSlaveEndpoint endpoint) {
+        return taskQueues.computeIfAbsent(endpoint, e -> new EndpointTaskQueue(e, executor,
+                getMaxConcurrentTransactions(e), getOrCreateEndpointMetrics(e)));
+    }
+
+    private void releasePermit(ModbusSlaveConnection connection) {
+        @Nullable
+        Semaphore permits = borrowedConnectionPermits.remove(connection);
+        if (permits != null) {
+            permits.release();
+        }
+    }
+
     private void invalidate(ModbusSlaveEndpoint endpoint, Optional<ModbusSlaveConnection> connection) {
         KeyedObjectPool<ModbusSlaveEndpoint, ModbusSlaveConnection> pool = connectionPool;
         if (pool == null) {
@@ -408,6 +529,8 @@ public class ModbusManagerImpl implements ModbusManager {
             } catch (Exception e) {
                 logger.warn("Error invalidating connection in pool for endpoint {}. Error was: {} {}", endpoint,
                         e.getClass().getName(), e.getMessage(), e);
+            } finally {
+                releasePermit(con);
             }
         });
         logger.trace("invalidating connection for endpoint {} took {} ms", endpoint,
@@ -427,6 +550,8 @@ public class ModbusManagerImpl implements ModbusManager {
             } catch (Exception e) {
                 logger.warn("Error returning connection to pool for endpoint {}. Error was: {} {}", endpoint,
                         e.getClass().getName(), e.getMessage(), e);
+            } finally {
+                releasePermit(con);
             }
         });
         logger.trace("returning connection for endpoint {} took {} ms", endpoint, System.currentTimeMillis() - start);
@@ -461,8 +586,10 @@ public class ModbusManagerImpl implements ModbusManager {
 
         R request = task.getRequest();
         Optional<ModbusSlaveConnection> connection = timer.connection.timeSupplier(() -> borrowConnection(endpoint));
+        long connectionBorrowMillis = System.currentTimeMillis() - connectionBorrowStart;
         logger.trace("Executing task {} (oneOff={})! Connection received in {} ms [operation ID {}]", task, oneOffTask,
-                System.currentTimeMillis() - connectionBorrowStart, operationId);
+                connectionBorrowMillis, operationId);
+        getOrCreateEndpointMetrics(endpoint).connectionBorrowed(connectionBorrowMillis);
         if (scheduledThreadPoolExecutor == null) {
             // manager deactivated
             timer.connection.timeRunnable(() -> invalidate(endpoint, connection));
@@ -471,8 +598,14 @@ public class ModbusManagerImpl implements ModbusManager {
         if (!connection.isPresent()) {
             logger.warn("Could not connect to endpoint {} -- aborting request {} [operation ID {}]", endpoint, request,
                     operationId);
-            timer.callback.timeRunnable(
-                    () -> invokeCallbackWithError(request, failureCallback, new ModbusConnectionException(endpoint)));
+            ModbusConnectionException error = new ModbusConnectionException(endpoint);
+            getOrCreateEndpointMetrics(endpoint).operationFailed(error);
+            if (isUnregisteredPoll(task, oneOffTask)) {
+                logger.debug("Poll task {} was unregistered, not calling failure callback [operation ID {}]", task,
+                        operationId);
+                return connection;
+            }
+            timer.callback.timeRunnable(() -> invokeCallbackWithError(request, failureCallback, error));
         }
         return connection;
     }
@@ -500,8 +633,23 @@ public class ModbusManagerImpl implements ModbusManager {
         }
     }
 
+    private boolean isRegistered(PollTask task) {
+        if (task instanceof CoalescedPollTask) {
+            // Coalesced request is still relevant as long as some of the members are registered
+            return ((CoalescedPollTask) task).getMembers().stream().anyMatch(this::isRegistered);
+        }
+        return this.scheduledPollTasks.containsKey(task) || this.coalescedPollTasks.containsKey(task);
+    }
+
+    /**
+     * Whether the task is execution of regular poll that has been unregistered meanwhile
+     */
+    private boolean isUnregisteredPoll(TaskWithEndpoint<?, ?, ?> task, boolean oneOffTask) {
+        return !oneOffTask && task instanceof PollTask && !isRegistered((PollTask) task);
+    }
+
     private void verifyTaskIsRegistered(PollTask task) throws PollTaskUnregistered {
-        if (!this.scheduledPollTasks.containsKey(task)) {
+        if (!isRegistered(task)) {
             String msg = String.format("Poll task %s is unregistered", task);
             logger.debug(msg);
             throw new PollTaskUnregistered(msg);
@@ -549,10 +697,12 @@ public class ModbusManagerImpl implements ModbusManager {
             throw new IllegalArgumentException("maxTries should be positive");
         }
 
+        ModbusEndpointMetricsImpl metrics = getOrCreateEndpointMetrics(endpoint);
         Optional<ModbusSlaveConnection> connection = Optional.empty();
         try {
             logger.trace("Starting new operation with task {}. Trying to get connection [operation ID {}]", task,
                     operationId);
+            metrics.operationStarted();
             connection = getConnection(timer, oneOffTask, task);
             logger.trace("Operation with task {}. Got a connection {} [operation ID {}]", task,
                     connection.isPresent() ? "successfully" : "which was unconnected (connection issue)", operationId);
@@ -700,6 +850,12 @@ public class ModbusManagerImpl implements ModbusManager {
             Exception exception = lastError.get();
             if (exception != null) {
                 // All retries failed with some error
+                metrics.operationFailed(exception);
+                if (isUnregisteredPoll(task, oneOffTask)) {
+                    logger.debug("Poll task {} was unregistered, not calling failure callback [operation ID {}]", task,
+                            operationId);
+                    return;
+                }
                 timer.callback.timeRunnable(() -> {
                     invokeCallbackWithError(request, failureCallback, exception);
                 });
@@ -748,12 +904,13 @@ public class ModbusManagerImpl implements ModbusManager {
             long scheduleTime = System.currentTimeMillis();
             BasicPollTask task = new BasicPollTask(endpoint, request, resultCallback, failureCallback);
             logger.debug("Scheduling one-off poll task {}", task);
-            Future<?> future = executor.submit(() -> {
+            FutureTask<?> future = new FutureTask<>(() -> {
                 long millisInThreadPoolWaiting = System.currentTimeMillis() - scheduleTime;
-                logger.debug("Will now execute one-off poll task {}, waited in thread pool for {}", task,
+                logger.debug("Will now execute one-off poll task {}, waited in queue for {}", task,
                         millisInThreadPoolWaiting);
                 executeOperation(task, true, pollOperation);
-            });
+            }, null);
+            getTaskQueue(executor, endpoint).submitPriority(future);
             return future;
         }
 
@@ -770,16 +927,26 @@ public class ModbusManagerImpl implements ModbusManager {
                 BasicPollTask task = new BasicPollTask(endpoint, request, resultCallback, failureCallback);
                 logger.trace("Registering poll task {} with period {} using initial delay {}", task, pollPeriodMillis,
                         initialDelayMillis);
-                if (scheduledPollTasks.containsKey(task)) {
+                if (isRegistered(task)) {
                     logger.trace("Unregistering previous poll task (possibly with different period)");
                     unregisterRegularPoll(task);
                 }
-                ScheduledFuture<?> future = executor.scheduleWithFixedDelay(() -> {
+                EndpointPoolConfiguration endpointConfiguration = getEndpointPoolConfiguration(endpoint);
+                if (endpointConfiguration != null && endpointConfiguration.isCoalescePolls()) {
+                    registerCoalescedPoll(executor, task, pollPeriodMillis, initialDelayMillis);
+                    pollTasksRegisteredByThisCommInterface.add(task);
+                    return task;
+                }
+                Runnable poll = () -> {
+                    if (!isRegistered(task)) {
+                        logger.debug("Poll task {} was unregistered while queued, skipping execution", task);
+                        return;
+                    }
                     long started = System.currentTimeMillis();
                     logger.debug("Executing scheduled ({}ms) poll task {}. Current millis: {}", pollPeriodMillis, task,
                             started);
                     try {
-                        executeOperation(task, false, pollOperation);
+                        executeOperation(task, false, regularPollOperation);
                     } catch (RuntimeException e) {
                         // We want to catch all unexpected exceptions since all unhandled exceptions make
                         // ScheduledExecutorService halt the polling. It is better to print out the exception, and try
@@ -793,7 +960,11 @@ public class ModbusManagerImpl implements ModbusManager {
                     logger.debug(
                             "Execution of scheduled ({}ms) poll task {} finished at {}. Was started at millis: {} (=duration of {} millis)",
                             pollPeriodMillis, task, finished, started, finished - started);
-                }, initialDelayMillis, pollPeriodMillis, TimeUnit.MILLISECONDS);
+                };
+                // The scheduled trigger only queues the poll, executions are ordered by the endpoint task queue
+                EndpointTaskQueue taskQueue = getTaskQueue(executor, endpoint);
+                ScheduledFuture<?> future = executor.scheduleWithFixedDelay(() -> taskQueue.submitRegular(task, poll),
+                        initialDelayMillis, pollPeriodMillis, TimeUnit.MILLISECONDS);
 
                 scheduledPollTasks.put(task, future);
                 pollTasksRegisteredByThisCommInterface.add(task);
@@ -803,6 +974,53 @@ public class ModbusManagerImpl implements ModbusManager {
             }
         }
 
+        /**
+         * Add the poll task to the coalesced poll group of this endpoint and poll period, creating new group if
+         * necessary.
+         *
+         * Note that the initial delay is respected only when new group is created. Tasks joining an existing group
+         * are polled on the schedule of the group.
+         */
+        private void registerCoalescedPoll(ScheduledExecutorService executor, PollTask task, long pollPeriodMillis,
+                long initialDelayMillis) {
+            @Nullable
+            CoalescedPollGroup group = coalescedPollGroups.stream()
+                    .filter(candidate -> candidate.matches(endpoint, pollPeriodMillis)).findFirst().orElse(null);
+            if (group == null) {
+                CoalescedPollGroup newGroup = new CoalescedPollGroup(endpoint, pollPeriodMillis);
+                EndpointTaskQueue taskQueue = getTaskQueue(executor, endpoint);
+                newGroup.future = executor.scheduleWithFixedDelay(() -> {
+                    logger.debug("Queuing scheduled ({}ms) coalesced poll of {} tasks with endpoint {}",
+                            pollPeriodMillis, newGroup.tasks.size(), endpoint);
+                    List<CoalescedPollTask> coalescedTasks = ReadRequestCoalescer.coalesce(endpoint, newGroup.tasks,
+                            ModbusManagerImpl.this::isRegistered);
+                    for (CoalescedPollTask coalescedTask : coalescedTasks) {
+                        // Coalesced tasks are re-created on every poll, identify them by group and merged request
+                        taskQueue.submitRegular(Arrays.asList(newGroup, coalescedTask.getRequest()), () -> {
+                            if (!isRegistered(coalescedTask)) {
+                                logger.debug("Coalesced poll task {} was unregistered while queued, skipping execution",
+                                        coalescedTask);
+                                return;
+                            }
+                            try {
+                                executeOperation(coalescedTask, false, regularPollOperation);
+                            } catch (RuntimeException e) {
+                                // Catch all unexpected exceptions since they would halt the polling
+                                logger.warn(
+                                        "Execution of scheduled ({}ms) coalesced poll task {} failed unexpectedly. Ignoring exception, polling again according to poll interval.",
+                                        pollPeriodMillis, coalescedTask, e);
+                            }
+                        });
+                    }
+                }, initialDelayMillis, pollPeriodMillis, TimeUnit.MILLISECONDS);
+                coalescedPollGroups.add(newGroup);
+                group = newGroup;
+            }
+            group.tasks.add(task);
+            coalescedPollTasks.put(task, group);
+            logger.trace("Registered poll task {} to coalesced poll group with period {}", task, pollPeriodMillis);
+        }
+
         @SuppressWarnings({ "null", "unused" })
         @Override
         public boolean unregisterRegularPoll(PollTask task) {
@@ -814,6 +1032,23 @@ public class ModbusManagerImpl implements ModbusManager {
                 ModbusSlaveConnectionFactoryImpl localConnectionFactory = connectionFactory;
                 Objects.requireNonNull(localConnectionFactory, "Not activated!");
 
+                @Nullable
+                CoalescedPollGroup group = coalescedPollTasks.remove(task);
+                if (group != null) {
+                    group.tasks.remove(task);
+                    logger.debug("Unregistered regular poll task {} from coalesced poll group", task);
+                    if (group.tasks.isEmpty()) {
+                        coalescedPollGroups.remove(group);
+                        ScheduledFuture<?> groupFuture = group.future;
+                        if (groupFuture != null) {
+                            groupFuture.cancel(true);
+                        }
+                        cancelQueuedPolls(key -> key instanceof List && ((List<?>) key).get(0) == group);
+                        logger.debug("Last task of coalesced poll group unregistered, poll group canceled");
+                    }
+                    return true;
+                }
+
                 // cancel poller
                 @Nullable
                 ScheduledFuture<?> future = scheduledPollTasks.remove(task);
@@ -824,11 +1059,25 @@ public class ModbusManagerImpl implements ModbusManager {
                 }
                 logger.debug("Unregistering regular poll task {} (interrupting if necessary)", task);
                 future.cancel(true);
+                cancelQueuedPolls(key -> key.equals(task));
                 logger.debug("Poll task {} canceled", task);
                 return true;
             }
         }
 
+        /**
+         * Remove queued executions of regular polls. Executions that are already ongoing notice the unregistration
+         * before calling the callbacks.
+         */
+        private void cancelQueuedPolls(Predicate<Object> keyFilter) {
+            @Nullable
+            EndpointTaskQueue taskQueue = taskQueues.get(endpoint);
+            if (taskQueue != null) {
+                int removed = taskQueue.cancelRegular(keyFilter);
+                logger.debug("Removed {} queued executions of unregistered poll with endpoint {}", removed, endpoint);
+            }
+        }
+
         @Override
         public Future<?> submitOneTimeWrite(ModbusWriteRequestBlueprint request, ModbusWriteCallback resultCallback,
                 ModbusFailureCallback<ModbusWriteRequestBlueprint> failureCallback) {
@@ -840,12 +1089,13 @@ public class ModbusManagerImpl implements ModbusManager {
             WriteTask task = new BasicWriteTask(endpoint, request, resultCallback, failureCallback);
             long scheduleTime = System.currentTimeMillis();
             logger.debug("Scheduling one-off write task {}", task);
-            Future<?> future = localScheduledThreadPoolExecutor.submit(() -> {
+            FutureTask<?> future = new FutureTask<>(() -> {
                 long millisInThreadPoolWaiting = System.currentTimeMillis() - scheduleTime;
-                logger.debug("Will now execute one-off write task {}, waited in thread pool for {}", task,
+                logger.debug("Will now execute one-off write task {}, waited in queue for {}", task,
                         millisInThreadPoolWaiting);
                 executeOperation(task, true, writeOperation);
-            });
+            }, null);
+            getTaskQueue(localScheduledThreadPoolExecutor, endpoint).submitPriority(future);
             return future;
         }
 
@@ -886,6 +1136,7 @@ public class ModbusManagerImpl implements ModbusManager {
 
         ModbusCommunicationInterfaceImpl comm = new ModbusCommunicationInterfaceImpl(endpoint, configuration);
         communicationInterfaces.add(comm);
+        getOrCreateEndpointMetrics(endpoint);
         return comm;
     }
 
@@ -895,6 +1146,15 @@ public class ModbusManagerImpl implements ModbusManager {
         return connectionFactory.getEndpointPoolConfiguration(endpoint);
     }
 
+    @Override
+    public @Nullable ModbusEndpointMetrics getEndpointMetrics(ModbusSlaveEndpoint endpoint) {
+        return endpointMetrics.get(endpoint);
+    }
+
+    private ModbusEndpointMetricsImpl getOrCreateEndpointMetrics(ModbusSlaveEndpoint endpoint) {
+        return endpointMetrics.computeIfAbsent(endpoint, e -> new ModbusEndpointMetricsImpl());
+    }
+
     private void unregisterCommunicationInterface(ModbusCommunicationInterface commInterface) {
         communicationInterfaces.remove(commInterface);
         maybeCloseConnections(commInterface.getEndpoint());
@@ -909,6 +1169,19 @@ public class ModbusManagerImpl implements ModbusManager {
 
             // Make sure connections to this endpoint are closed when they are returned to pool (which
             // is usually pretty soon as transactions should be relatively short-lived)
+            // Concurrency limits, queue and metrics are re-created with the configuration of next communication
+            // interface. They are kept as long as transactions are still ongoing or queued, to keep the transactions
+            // of the endpoint within the concurrency limit.
+            boolean permitsDiscarded = transactionPermits.discardIfIdle(endpoint);
+            EndpointTaskQueue taskQueue = taskQueues.computeIfPresent(endpoint,
+                    (e, current) -> permitsDiscarded && current.isIdle() ? null : current);
+            if (permitsDiscarded && taskQueue == null) {
+                endpointMetrics.remove(endpoint);
+            } else {
+                logger.debug("Transactions with endpoint {} are still ongoing, keeping its concurrency limits",
+                        endpoint);
+            }
+
             ModbusSlaveConnectionFactoryImpl localConnectionFactory = connectionFactory;
             if (localConnectionFactory != null) {
                 localConnectionFactory.disconnectOnReturn(endpoint, System.currentTimeMillis());
@@ -994,6 +1267,14 @@ public class ModbusManagerImpl implements ModbusManager {
                         task.getRequest().getDataLength(), future.isDone(), future.isCancelled(),
                         future.getDelay(TimeUnit.MILLISECONDS), task);
             });
+            this.endpointMetrics.forEach((endpoint, metrics) -> {
+                pollMonitorLogger.trace("POLL MONITOR: endpoint {} metrics: {}", endpoint, metrics);
+            });
+            this.coalescedPollGroups.forEach(group -> {
+                pollMonitorLogger.trace(
+                        "POLL MONITOR: coalesced poll group. Endpoint: {}, period {}, number of poll tasks {}",
+                        group.endpoint, group.pollPeriodMillis, group.tasks.size());
+            });
             if (scheduledThreadPoolExecutor instanceof ThreadPoolExecutor) {
                 ThreadPoolExecutor executor = ((ThreadPoolExecutor) scheduledThreadPoolExecutor);
                 pollMonitorLogger.trace(
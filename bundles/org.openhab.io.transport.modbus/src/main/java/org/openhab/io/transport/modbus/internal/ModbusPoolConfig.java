@@ -26,7 +26,8 @@ import net.wimpi.modbus.net.ModbusSlaveConnection;
  * Configuration for Modbus connection pool
  *
  * Default is that
- * - there is only one connection per endpoint
+ * - number of connections per endpoint is not limited by the pool. Instead, {@link ModbusManagerImpl} limits the
+ * concurrent transactions (and thus the connections in use) per endpoint, by default to one.
  * - clients are served "fairly" (first-come-first-serve)
  *
  * @author Sami Salonen - Initial contribution
@@ -45,10 +46,12 @@ public class ModbusPoolConfig extends GenericKeyedObjectPoolConfig {
         // available instances in request arrival order.
         setFairness(true);
 
-        // Limit one connection per endpoint (i.e. same ip:port pair or same serial device).
-        // If there are multiple read/write requests to process at the same time, block until previous one finishes
+        // Number of connections per endpoint (i.e. same ip:port pair or same serial device) is limited by
+        // ModbusManagerImpl according to EndpointPoolConfiguration.maxInFlightTransactions (one with serial
+        // endpoints). If there are more read/write requests to process at the same time, block until previous one
+        // finishes
         setBlockWhenExhausted(true);
-        setMaxTotalPerKey(1);
+        setMaxTotalPerKey(-1);
 
         // block infinitely when exhausted
         setMaxWaitMillis(-1);
@@ -0,0 +1,167 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.transport.modbus.internal;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.io.transport.modbus.ModbusReadFunctionCode;
+import org.openhab.io.transport.modbus.ModbusReadRequestBlueprint;
+import org.openhab.io.transport.modbus.PollTask;
+import org.openhab.io.transport.modbus.endpoint.ModbusSlaveEndpoint;
+
+/**
+ * Utility for merging read requests of several poll tasks into as few requests as possible
+ *
+ * Poll tasks are merged when they share unit id and function code, and their address ranges overlap or are adjacent.
+ * The merged request never exceeds the maximum quantity allowed by the Modbus protocol for single request
+ * ({@value #MAX_REGISTERS_PER_REQUEST} registers or {@value #MAX_BITS_PER_REQUEST} coils/discrete inputs).
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ReadRequestCoalescer {
+
+    /**
+     * Maximum number of holding or input registers that can be read with one request
+     */
+    public static final int MAX_REGISTERS_PER_REQUEST = 125;
+
+    /**
+     * Maximum number of coils or discrete inputs that can be read with one request
+     */
+    public static final int MAX_BITS_PER_REQUEST = 2000;
+
+    private static class GroupKey {
+        private final int unitId;
+        private final ModbusReadFunctionCode functionCode;
+
+        private GroupKey(ModbusReadRequestBlueprint request) {
+            this.unitId = request.getUnitID();
+            this.functionCode = request.getFunctionCode();
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(unitId, functionCode);
+        }
+
+        @Override
+        public boolean equals(@Nullable Object obj) {
+            if (!(obj instanceof GroupKey)) {
+                return false;
+            }
+            GroupKey other = (GroupKey) obj;
+            return unitId == other.unitId && functionCode == other.functionCode;
+        }
+    }
+
+    /**
+     * Get maximum data length of single read request using the given function code
+     *
+     * @param functionCode function code of the request
+     * @return maximum number of registers or bits
+     */
+    public static int getMaxDataLength(ModbusReadFunctionCode functionCode) {
+        switch (functionCode) {
+            case READ_COILS:
+            case READ_INPUT_DISCRETES:
+                return MAX_BITS_PER_REQUEST;
+            case READ_INPUT_REGISTERS:
+            case READ_MULTIPLE_REGISTERS:
+                return MAX_REGISTERS_PER_REQUEST;
+            default:
+                throw new IllegalArgumentException(String.format("Unexpected function code %s", functionCode));
+        }
+    }
+
+    /**
+     * Merge the requests of given poll tasks
+     *
+     * Every poll task is represented in exactly one of the returned tasks. Poll tasks that cannot be merged with any
+     * other task are still wrapped, resulting in a coalesced task with a single member.
+     *
+     * @param endpoint endpoint of the poll tasks
+     * @param tasks poll tasks to merge. All tasks must be using the given endpoint.
+     * @return coalesced poll tasks
+     */
+    public static List<CoalescedPollTask> coalesce(ModbusSlaveEndpoint endpoint, Collection<PollTask> tasks) {
+        return coalesce(endpoint, tasks, task -> true);
+    }
+
+    /**
+     * Merge the requests of given poll tasks
+     *
+     * @param endpoint endpoint of the poll tasks
+     * @param tasks poll tasks to merge. All tasks must be using the given endpoint.
+     * @param memberActive tells whether the results should still be passed to the poll task
+     * @return coalesced poll tasks
+     */
+    public static List<CoalescedPollTask> coalesce(ModbusSlaveEndpoint endpoint, Collection<PollTask> tasks,
+            Predicate<PollTask> memberActive) {
+        Map<GroupKey, List<PollTask>> groups = new LinkedHashMap<>();
+        for (PollTask task : tasks) {
+            groups.computeIfAbsent(new GroupKey(task.getRequest()), key -> new ArrayList<>()).add(task);
+        }
+
+        List<CoalescedPollTask> coalesced = new ArrayList<>();
+        for (List<PollTask> group : groups.values()) {
+            group.sort(Comparator.comparingInt((PollTask task) -> task.getRequest().getReference())
+                    .thenComparingInt(task -> task.getRequest().getDataLength()));
+            int maxLength = getMaxDataLength(group.get(0).getRequest().getFunctionCode());
+
+            List<PollTask> members = new ArrayList<>();
+            int start = 0;
+            int end = 0; // exclusive
+            for (PollTask task : group) {
+                ModbusReadRequestBlueprint request = task.getRequest();
+                int taskStart = request.getReference();
+                int taskEnd = taskStart + request.getDataLength();
+                if (!members.isEmpty() && taskStart <= end && Math.max(end, taskEnd) - start <= maxLength) {
+                    // Overlapping or adjacent range, and still within protocol limits
+                    members.add(task);
+                    end = Math.max(end, taskEnd);
+                    continue;
+                }
+                if (!members.isEmpty()) {
+                    coalesced.add(newCoalescedTask(endpoint, members, start, end, memberActive));
+                }
+                members = new ArrayList<>();
+                members.add(task);
+                start = taskStart;
+                end = taskEnd;
+            }
+            if (!members.isEmpty()) {
+                coalesced.add(newCoalescedTask(endpoint, members, start, end, memberActive));
+            }
+        }
+        return coalesced;
+    }
+
+    private static CoalescedPollTask newCoalescedTask(ModbusSlaveEndpoint endpoint, List<PollTask> members, int start,
+            int end, Predicate<PollTask> memberActive) {
+        ModbusReadRequestBlueprint first = members.get(0).getRequest();
+        int maxTries = members.stream().mapToInt(PollTask::getMaxTries).max().orElse(1);
+        ModbusReadRequestBlueprint request = new ModbusReadRequestBlueprint(first.getUnitID(),
+                first.getFunctionCode(), start, end - start, maxTries);
+        return new CoalescedPollTask(endpoint, request, members, memberActive);
+    }
+}
@@ -113,6 +113,10 @@ public class ModbusSlaveConnectionFactoryImpl
     private final Logger logger = LoggerFactory.getLogger(ModbusSlaveConnectionFactoryImpl.class);
     private volatile Map<ModbusSlaveEndpoint, @Nullable EndpointPoolConfiguration> endpointPoolConfigs = new ConcurrentHashMap<>();
     private volatile Map<ModbusSlaveEndpoint, Long> lastPassivateMillis = new ConcurrentHashMap<>();
+    /**
+     * Earliest start of the next transaction per endpoint, shared by all connections to the endpoint
+     */
+    private volatile Map<ModbusSlaveEndpoint, Long> nextTransactionMillis = new ConcurrentHashMap<>();
     private volatile Map<ModbusSlaveEndpoint, Long> lastConnectMillis = new ConcurrentHashMap<>();
     private volatile Map<ModbusSlaveEndpoint, Long> disconnectIfConnectedBefore = new ConcurrentHashMap<>();
     private volatile Function<ModbusSlaveEndpoint, @Nullable EndpointPoolConfiguration> defaultPoolConfigurationFactory = endpoint -> null;
@@ -196,7 +200,7 @@ public class ModbusSlaveConnectionFactoryImpl
             }
 
             if (config != null) {
-                long waited = waitAtleast(lastPassivateMillis.get(endpoint), config.getInterTransactionDelayMillis());
+                long waited = waitForTransactionSlot(endpoint, config.getInterTransactionDelayMillis());
                 logger.trace(
                         "Waited {}ms (interTransactionDelayMillis {}ms) before giving returning connection {} for endpoint {}, to ensure delay between transactions.",
                         waited, config.getInterTransactionDelayMillis(), obj.getObject(), endpoint);
@@ -316,6 +320,30 @@ public class ModbusSlaveConnectionFactoryImpl
         } while (true);
     }
 
+    /**
+     * Sleep until the next transaction with the endpoint may start.
+     *
+     * A transaction starts <code>interTransactionDelayMillis</code> after the previous transaction ended and after
+     * the previous transaction started. The latter spaces the transactions on different connections to the same
+     * endpoint, when several transactions are executed concurrently.
+     *
+     * @param endpoint endpoint of the transaction
+     * @param interTransactionDelayMillis minimum delay between transactions
+     * @return milliseconds slept
+     * @throws InterruptedException
+     */
+    private long waitForTransactionSlot(ModbusSlaveEndpoint endpoint, long interTransactionDelayMillis)
+            throws InterruptedException {
+        long now = System.currentTimeMillis();
+        Long lastPassivate = lastPassivateMillis.get(endpoint);
+        long earliest = lastPassivate == null ? now : Math.max(now, lastPassivate + interTransactionDelayMillis);
+        // Reserve the start atomically, the reserved value is the earliest start of the transaction after this one
+        long start = nextTransactionMillis.compute(endpoint,
+                (e, next) -> (next == null ? earliest : Math.max(next, earliest)) + interTransactionDelayMillis)
+                - interTransactionDelayMillis;
+        return waitAtleast(now, start - now);
+    }
+
     /**
      * Sleep until <code>waitMillis</code> has passed from <code>lastOperation</code>
      *
@@ -0,0 +1,89 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.transport.modbus.test;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Test;
+import org.openhab.io.transport.modbus.ModbusBitUtilities;
+import org.openhab.io.transport.modbus.ModbusConstants.ValueType;
+import org.openhab.io.transport.modbus.ModbusRegister;
+import org.openhab.io.transport.modbus.ModbusRegisterArray;
+
+/**
+ * Tests for allocation-free extraction methods of {@link ModbusBitUtilities}
+ *
+ * @author agent - Initial contribution
+ */
+public class BitUtilitiesExtractPrimitivesFromRegistersTest {
+
+    private final ModbusRegisterArray registers = new ModbusRegisterArray(0xfedc, 0xba98, 0x7654, 0x3210, 0x4049,
+            0x0fdb);
+
+    @Test
+    public void testPackedRegistersMatchRegisterObjects() {
+        ModbusRegisterArray fromObjects = new ModbusRegisterArray(
+                new ModbusRegister[] { new ModbusRegister((byte) 0xfe, (byte) 0xdc), new ModbusRegister(0x1234) });
+        assertThat(fromObjects.getRegisterValue(0), is(equalTo(fromObjects.getRegister(0).getValue())));
+        assertThat(fromObjects.getUnsignedRegisterValue(0), is(equalTo(0xfedc)));
+        assertThat(fromObjects.getRegisterValue(1), is(equalTo(0x1234)));
+        assertThat(fromObjects.toHexString(), is(equalTo("fe dc 12 34")));
+    }
+
+    @Test
+    public void test16bit() {
+        assertThat(ModbusBitUtilities.extractInt16(registers, 0), is(equalTo((short) 0xfedc)));
+        assertThat(ModbusBitUtilities.extractUInt16(registers, 0), is(equalTo(0xfedc)));
+    }
+
+    @Test
+    public void test32bit() {
+        assertThat(ModbusBitUtilities.extractInt32(registers, 0), is(equalTo(0xfedcba98)));
+        assertThat(ModbusBitUtilities.extractInt32Swap(registers, 0), is(equalTo(0xba98fedc)));
+        assertThat(ModbusBitUtilities.extractUInt32(registers, 0), is(equalTo(0xfedcba98L)));
+        assertThat(ModbusBitUtilities.extractUInt32Swap(registers, 0), is(equalTo(0xba98fedcL)));
+        assertThat(ModbusBitUtilities.extractFloat32(registers, 4), is(equalTo(Float.intBitsToFloat(0x40490fdb))));
+        assertThat(ModbusBitUtilities.extractFloat32Swap(registers, 4),
+                is(equalTo(Float.intBitsToFloat(0x0fdb4049))));
+    }
+
+    @Test
+    public void test64bit() {
+        assertThat(ModbusBitUtilities.extractInt64(registers, 0), is(equalTo(0xfedcba9876543210L)));
+        assertThat(ModbusBitUtilities.extractInt64Swap(registers, 0), is(equalTo(0x32107654ba98fedcL)));
+    }
+
+    private void assertStateExtraction(ValueType type, int index, String expected) {
+        assertThat(type + "@" + index, ModbusBitUtilities.extractStateFromRegisters(registers, index, type).get()
+                .toBigDecimal().toPlainString(), is(equalTo(expected)));
+    }
+
+    @Test
+    public void testPrimitivesMatchStateExtraction() {
+        assertStateExtraction(ValueType.INT16, 0, "-292");
+        assertStateExtraction(ValueType.INT16, 2, "30292");
+        assertStateExtraction(ValueType.UINT16, 0, "65244");
+        assertStateExtraction(ValueType.INT32, 0, "-19088744");
+        assertStateExtraction(ValueType.INT32, 2, "1985229328");
+        assertStateExtraction(ValueType.UINT32, 0, "4275878552");
+        assertStateExtraction(ValueType.INT32_SWAP, 0, "-1164378404");
+        assertStateExtraction(ValueType.INT32_SWAP, 3, "1078538768");
+        assertStateExtraction(ValueType.UINT32_SWAP, 0, "3130588892");
+        assertStateExtraction(ValueType.INT64, 0, "-81985529216486896");
+        assertStateExtraction(ValueType.UINT64, 0, "18364758544493064720");
+        assertStateExtraction(ValueType.INT64_SWAP, 0, "3607513407803686620");
+        assertStateExtraction(ValueType.INT64_SWAP, 2, "1142577613585282644");
+        assertStateExtraction(ValueType.UINT64_SWAP, 0, "3607513407803686620");
+    }
+}
@@ -0,0 +1,118 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.transport.modbus.test;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+
+import org.junit.Test;
+import org.openhab.io.transport.modbus.endpoint.ModbusTCPSlaveEndpoint;
+import org.openhab.io.transport.modbus.internal.EndpointTaskQueue;
+import org.openhab.io.transport.modbus.internal.ModbusEndpointMetricsImpl;
+
+/**
+ * @author agent - Initial contribution
+ */
+public class EndpointTaskQueueTest {
+
+    private final Queue<Runnable> workers = new LinkedList<>();
+    private final List<String> executed = new ArrayList<>();
+    private final ModbusEndpointMetricsImpl metrics = new ModbusEndpointMetricsImpl();
+
+    private EndpointTaskQueue newQueue(int maxConcurrentTasks) {
+        return new EndpointTaskQueue(new ModbusTCPSlaveEndpoint("localhost", 502), workers::add, maxConcurrentTasks,
+                metrics);
+    }
+
+    private Runnable task(String name) {
+        return () -> executed.add(name);
+    }
+
+    private void runWorkers() {
+        Runnable worker;
+        while ((worker = workers.poll()) != null) {
+            worker.run();
+        }
+    }
+
+    @Test
+    public void testPriorityTasksAreExecutedFirst() {
+        EndpointTaskQueue queue = newQueue(1);
+        queue.submitRegular("poll1", task("poll1"));
+        queue.submitRegular("poll2", task("poll2"));
+        queue.submitPriority(task("write"));
+        assertThat(metrics.getQueueDepth(), is(equalTo(3)));
+
+        runWorkers();
+        assertThat(executed, is(equalTo(Arrays.asList("write", "poll1", "poll2"))));
+        assertThat(metrics.getQueueDepth(), is(equalTo(0)));
+    }
+
+    @Test
+    public void testRegularPollsAreNotStarved() {
+        EndpointTaskQueue queue = newQueue(1);
+        queue.submitRegular("poll", task("poll"));
+        for (int i = 0; i < EndpointTaskQueue.MAX_CONSECUTIVE_PRIORITY_TASKS + 1; i++) {
+            queue.submitPriority(task("write" + i));
+        }
+
+        runWorkers();
+        assertThat(executed.indexOf("poll"), is(equalTo(EndpointTaskQueue.MAX_CONSECUTIVE_PRIORITY_TASKS)));
+        assertThat(executed.size(), is(equalTo(EndpointTaskQueue.MAX_CONSECUTIVE_PRIORITY_TASKS + 2)));
+    }
+
+    @Test
+    public void testStaleRegularPollIsReplaced() {
+        EndpointTaskQueue queue = newQueue(1);
+        queue.submitRegular("poll1", task("stale"));
+        queue.submitRegular("poll2", task("poll2"));
+        queue.submitRegular("poll1", task("fresh"));
+
+        runWorkers();
+        assertThat(executed, is(equalTo(Arrays.asList("fresh", "poll2"))));
+        assertThat(metrics.getDroppedPollCount(), is(equalTo(1L)));
+    }
+
+    @Test
+    public void testConcurrentWorkersAreLimited() {
+        EndpointTaskQueue queue = newQueue(2);
+        queue.submitPriority(task("write1"));
+        queue.submitPriority(task("write2"));
+        queue.submitPriority(task("write3"));
+        assertThat(workers.size(), is(equalTo(2)));
+
+        runWorkers();
+        assertThat(executed, is(equalTo(Arrays.asList("write1", "write2", "write3"))));
+    }
+
+    @Test
+    public void testCanceledRegularPollIsNotExecuted() {
+        EndpointTaskQueue queue = newQueue(1);
+        queue.submitRegular("poll1", task("poll1"));
+        queue.submitRegular("poll2", task("poll2"));
+        assertThat(queue.cancelRegular(key -> key.equals("poll1")), is(equalTo(1)));
+        assertThat(metrics.getQueueDepth(), is(equalTo(1)));
+
+        // Polls can be queued again with the same key
+        queue.submitRegular("poll1", task("poll1 again"));
+        runWorkers();
+        assertThat(executed, is(equalTo(Arrays.asList("poll2", "poll1 again"))));
+        assertThat(queue.isIdle(), is(true));
+    }
+}
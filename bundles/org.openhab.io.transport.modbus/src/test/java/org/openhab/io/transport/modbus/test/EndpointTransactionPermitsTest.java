@@ -0,0 +1,117 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.transport.modbus.test;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Test;
+import org.openhab.io.transport.modbus.endpoint.ModbusSlaveEndpoint;
+import org.openhab.io.transport.modbus.endpoint.ModbusTCPSlaveEndpoint;
+import org.openhab.io.transport.modbus.internal.EndpointTransactionPermits;
+
+/**
+ * @author agent - Initial contribution
+ */
+public class EndpointTransactionPermitsTest {
+
+    private final ModbusSlaveEndpoint endpoint = new ModbusTCPSlaveEndpoint("localhost", 502);
+    private final EndpointTransactionPermits permits = new EndpointTransactionPermits(e -> 2);
+    private final ExecutorService executor = Executors.newFixedThreadPool(8);
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testMaxInFlightTransactionsHoldsUnderConcurrentSubmits() throws Exception {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        AtomicInteger completed = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> transactions = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            transactions.add(executor.submit(() -> {
+                start.await();
+                Semaphore acquired = permits.acquire(endpoint);
+                try {
+                    maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                    Thread.sleep(1);
+                    inFlight.decrementAndGet();
+                } finally {
+                    acquired.release();
+                }
+                completed.incrementAndGet();
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> transaction : transactions) {
+            transaction.get(10, TimeUnit.SECONDS);
+        }
+
+        assertThat(completed.get(), is(equalTo(50)));
+        assertTrue(maxInFlight.get() <= 2);
+        assertThat(permits.getAvailablePermits(endpoint), is(equalTo(2)));
+    }
+
+    @Test
+    public void testPermitsAreKeptWhileTransactionIsOngoing() throws Exception {
+        Semaphore first = permits.acquire(endpoint);
+        Semaphore second = permits.acquire(endpoint);
+
+        // The endpoint is cleaned up while transactions are ongoing
+        assertFalse(permits.discardIfIdle(endpoint));
+
+        // A new transaction still has to wait for the ongoing ones
+        Future<Semaphore> third = executor.submit(() -> permits.acquire(endpoint));
+        Thread.sleep(100);
+        assertFalse(third.isDone());
+        assertFalse(permits.discardIfIdle(endpoint));
+
+        first.release();
+        Semaphore thirdPermits = third.get(10, TimeUnit.SECONDS);
+        assertThat(thirdPermits, is(sameInstance(first)));
+        assertThat(permits.getAvailablePermits(endpoint), is(equalTo(0)));
+
+        second.release();
+        thirdPermits.release();
+        assertTrue(permits.discardIfIdle(endpoint));
+    }
+
+    @Test
+    public void testPermitsAreRecreatedAfterCleanup() throws Exception {
+        Semaphore first = permits.acquire(endpoint);
+        first.release();
+        assertTrue(permits.discardIfIdle(endpoint));
+        assertTrue(permits.discardIfIdle(endpoint));
+
+        Semaphore second = permits.acquire(endpoint);
+        assertThat(second, is(not(sameInstance(first))));
+        assertThat(permits.getAvailablePermits(endpoint), is(equalTo(1)));
+        second.release();
+        assertThat(permits.getAvailablePermits(endpoint), is(equalTo(2)));
+    }
+}
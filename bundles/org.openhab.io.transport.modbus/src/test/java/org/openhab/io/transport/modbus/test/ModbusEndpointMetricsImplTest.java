@@ -0,0 +1,87 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.transport.modbus.test;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.assertThat;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+import org.openhab.io.transport.modbus.ModbusEndpointMetrics;
+import org.openhab.io.transport.modbus.ModbusSlaveIOException;
+import org.openhab.io.transport.modbus.internal.ModbusEndpointMetricsImpl;
+import org.openhab.io.transport.modbus.internal.ModbusSlaveIOExceptionImpl;
+
+/**
+ * @author agent - Initial contribution
+ */
+public class ModbusEndpointMetricsImplTest {
+
+    private final ModbusEndpointMetricsImpl metrics = new ModbusEndpointMetricsImpl();
+
+    @Test
+    public void testTransactionLatencyHistogramBuckets() {
+        // Bucket limits are inclusive
+        metrics.transactionExecuted(0);
+        metrics.transactionExecuted(10);
+        metrics.transactionExecuted(11);
+        metrics.transactionExecuted(25);
+        metrics.transactionExecuted(26);
+        metrics.transactionExecuted(5000);
+        // Latencies exceeding the last limit go to the additional last bucket
+        metrics.transactionExecuted(5001);
+        metrics.transactionExecuted(60000);
+
+        long[] histogram = metrics.getTransactionLatencyHistogram();
+        assertThat(histogram.length,
+                is(equalTo(ModbusEndpointMetrics.TRANSACTION_LATENCY_BUCKET_LIMITS_MILLIS.size() + 1)));
+        assertThat(histogram, is(equalTo(new long[] { 2, 2, 1, 0, 0, 0, 0, 0, 1, 2 })));
+        assertThat(metrics.getTransactionCount(), is(equalTo(8L)));
+        assertThat(metrics.getTotalTransactionMillis(), is(equalTo(70073L)));
+    }
+
+    @Test
+    public void testHistogramIsSnapshot() {
+        long[] histogram = metrics.getTransactionLatencyHistogram();
+        histogram[0] = 100;
+        assertThat(metrics.getTransactionLatencyHistogram()[0], is(equalTo(0L)));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testBucketLimitsAreUnmodifiable() {
+        ModbusEndpointMetrics.TRANSACTION_LATENCY_BUCKET_LIMITS_MILLIS.set(0, 1L);
+    }
+
+    @Test
+    public void testErrorsAreCountedByType() {
+        ModbusSlaveIOException ioError = new ModbusSlaveIOExceptionImpl(new IOException("timeout"));
+        metrics.operationFailed(ioError);
+        metrics.operationFailed(ioError);
+        metrics.operationFailed(new IllegalStateException());
+
+        Map<String, Long> expected = new HashMap<>();
+        expected.put(ModbusSlaveIOExceptionImpl.class.getSimpleName(), 2L);
+        expected.put(IllegalStateException.class.getSimpleName(), 1L);
+        assertThat(metrics.getErrorCountsByType(), is(equalTo(expected)));
+        assertThat(metrics.getErrorCount(), is(equalTo(3L)));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testErrorCountsByTypeIsUnmodifiable() {
+        metrics.operationFailed(new IllegalStateException());
+        metrics.getErrorCountsByType().clear();
+    }
+}
@@ -0,0 +1,154 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.transport.modbus.test;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+import org.openhab.io.transport.modbus.AsyncModbusFailure;
+import org.openhab.io.transport.modbus.AsyncModbusReadResult;
+import org.openhab.io.transport.modbus.BitArray;
+import org.openhab.io.transport.modbus.ModbusReadFunctionCode;
+import org.openhab.io.transport.modbus.ModbusReadRequestBlueprint;
+import org.openhab.io.transport.modbus.ModbusRegisterArray;
+import org.openhab.io.transport.modbus.PollTask;
+import org.openhab.io.transport.modbus.endpoint.ModbusSlaveEndpoint;
+import org.openhab.io.transport.modbus.endpoint.ModbusTCPSlaveEndpoint;
+import org.openhab.io.transport.modbus.internal.BasicPollTask;
+import org.openhab.io.transport.modbus.internal.CoalescedPollTask;
+import org.openhab.io.transport.modbus.internal.ReadRequestCoalescer;
+
+/**
+ * @author agent - Initial contribution
+ */
+public class ReadRequestCoalescerTest {
+
+    private final ModbusSlaveEndpoint endpoint = new ModbusTCPSlaveEndpoint("localhost", 502);
+    private final List<AsyncModbusReadResult> results = new ArrayList<>();
+    private final List<AsyncModbusFailure<ModbusReadRequestBlueprint>> failures = new ArrayList<>();
+
+    private PollTask task(int unitId, ModbusReadFunctionCode functionCode, int start, int length) {
+        return new BasicPollTask(endpoint, new ModbusReadRequestBlueprint(unitId, functionCode, start, length, 1),
+                results::add, failures::add);
+    }
+
+    @Test
+    public void testOverlappingAndAdjacentRangesAreMerged() {
+        PollTask first = task(1, ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 0, 4);
+        PollTask overlapping = task(1, ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 2, 4);
+        PollTask adjacent = task(1, ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 6, 2);
+        List<CoalescedPollTask> coalesced = ReadRequestCoalescer.coalesce(endpoint,
+                Arrays.asList(adjacent, first, overlapping));
+
+        assertThat(coalesced.size(), is(equalTo(1)));
+        ModbusReadRequestBlueprint request = coalesced.get(0).getRequest();
+        assertThat(request.getReference(), is(equalTo(0)));
+        assertThat(request.getDataLength(), is(equalTo(8)));
+        assertThat(coalesced.get(0).getMembers(), is(equalTo(Arrays.asList(first, overlapping, adjacent))));
+    }
+
+    @Test
+    public void testGapIsNotMerged() {
+        List<CoalescedPollTask> coalesced = ReadRequestCoalescer.coalesce(endpoint,
+                Arrays.asList(task(1, ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 0, 4),
+                        task(1, ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 5, 4)));
+        assertThat(coalesced.size(), is(equalTo(2)));
+    }
+
+    @Test
+    public void testDifferentUnitIdOrFunctionCodeIsNotMerged() {
+        List<CoalescedPollTask> coalesced = ReadRequestCoalescer.coalesce(endpoint,
+                Arrays.asList(task(1, ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 0, 4),
+                        task(2, ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 0, 4),
+                        task(1, ModbusReadFunctionCode.READ_INPUT_REGISTERS, 0, 4)));
+        assertThat(coalesced.size(), is(equalTo(3)));
+    }
+
+    @Test
+    public void testProtocolLimitIsRespected() {
+        List<CoalescedPollTask> coalesced = ReadRequestCoalescer.coalesce(endpoint,
+                Arrays.asList(task(1, ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 0, 100),
+                        task(1, ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 100, 26),
+                        task(1, ModbusReadFunctionCode.READ_COILS, 0, 1000),
+                        task(1, ModbusReadFunctionCode.READ_COILS, 1000, 1000)));
+        assertThat(coalesced.size(), is(equalTo(3)));
+        for (CoalescedPollTask task : coalesced) {
+            assertThat(task.getRequest().getDataLength() <= ReadRequestCoalescer
+                    .getMaxDataLength(task.getRequest().getFunctionCode()), is(true));
+        }
+    }
+
+    @Test
+    public void testRegisterResultIsSlicedToMembers() {
+        List<CoalescedPollTask> coalesced = ReadRequestCoalescer.coalesce(endpoint,
+                Arrays.asList(task(1, ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 10, 2),
+                        task(1, ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 11, 2)));
+        CoalescedPollTask task = coalesced.get(0);
+        task.getResultCallback().handle(new AsyncModbusReadResult(task.getRequest(), new ModbusRegisterArray(1, 2, 3)));
+
+        assertThat(results.size(), is(equalTo(2)));
+        assertThat(results.get(0).getRequest().getReference(), is(equalTo(10)));
+        assertThat(results.get(0).getRegisters().get().toHexString(), is(equalTo("00 01 00 02")));
+        assertThat(results.get(1).getRequest().getReference(), is(equalTo(11)));
+        assertThat(results.get(1).getRegisters().get().toHexString(), is(equalTo("00 02 00 03")));
+    }
+
+    @Test
+    public void testBitResultIsSlicedToMembers() {
+        List<CoalescedPollTask> coalesced = ReadRequestCoalescer.coalesce(endpoint,
+                Arrays.asList(task(1, ModbusReadFunctionCode.READ_COILS, 0, 2),
+                        task(1, ModbusReadFunctionCode.READ_COILS, 2, 1)));
+        CoalescedPollTask task = coalesced.get(0);
+        task.getResultCallback().handle(new AsyncModbusReadResult(task.getRequest(), new BitArray(true, false, true)));
+
+        assertThat(results.size(), is(equalTo(2)));
+        assertThat(results.get(0).getBits().get(), is(equalTo(new BitArray(true, false))));
+        assertThat(results.get(1).getBits().get(), is(equalTo(new BitArray(true))));
+    }
+
+    @Test
+    public void testFailureIsPassedToAllMembers() {
+        List<CoalescedPollTask> coalesced = ReadRequestCoalescer.coalesce(endpoint,
+                Arrays.asList(task(1, ModbusReadFunctionCode.READ_INPUT_REGISTERS, 0, 2),
+                        task(1, ModbusReadFunctionCode.READ_INPUT_REGISTERS, 2, 2)));
+        CoalescedPollTask task = coalesced.get(0);
+        Exception error = new Exception("failure");
+        task.getFailureCallback().handle(new AsyncModbusFailure<>(task.getRequest(), error));
+
+        assertThat(failures.size(), is(equalTo(2)));
+        assertThat(failures.get(0).getRequest().getReference(), is(equalTo(0)));
+        assertThat(failures.get(1).getRequest().getReference(), is(equalTo(2)));
+        assertThat(failures.get(1).getCause(), is(sameInstance(error)));
+    }
+
+    @Test
+    public void testInactiveMembersAreSkipped() {
+        PollTask active = task(1, ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 0, 1);
+        PollTask unregistered = task(1, ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 1, 1);
+        List<CoalescedPollTask> coalesced = ReadRequestCoalescer.coalesce(endpoint,
+                Arrays.asList(active, unregistered), member -> member == active);
+        CoalescedPollTask task = coalesced.get(0);
+        task.getResultCallback().handle(new AsyncModbusReadResult(task.getRequest(), new ModbusRegisterArray(1, 2)));
+        task.getFailureCallback().handle(new AsyncModbusFailure<>(task.getRequest(), new Exception("failure")));
+
+        assertThat(results.size(), is(equalTo(1)));
+        assertThat(results.get(0).getRequest().getReference(), is(equalTo(0)));
+        assertThat(failures.size(), is(equalTo(1)));
+        assertThat(failures.get(0).getRequest().getReference(), is(equalTo(0)));
+    }
+}
@@ -12,7 +12,10 @@
  */
 package org.openhab.transform.jsonpath.internal;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -24,6 +27,7 @@ import org.osgi.service.component.annotations.Component;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.jayway.jsonpath.Configuration;
 import com.jayway.jsonpath.InvalidJsonException;
 import com.jayway.jsonpath.InvalidPathException;
 import com.jayway.jsonpath.JsonPath;
@@ -43,6 +47,30 @@ public class JSonPathTransformationService implements TransformationService {
 
     private final Logger logger = LoggerFactory.getLogger(JSonPathTransformationService.class);
 
+    /**
+     * Maximum number of compiled JsonPath expressions kept in memory. The cache is cleared when the limit is reached.
+     */
+    private static final int MAX_COMPILED_PATHS = 1000;
+
+    /**
+     * Maximum number of parsed JSON documents kept in memory.
+     *
+     * Typically several transformations (e.g. channels subscribed to same MQTT topic) are evaluated against the same
+     * JSON message in a row, and the message needs to be parsed only once.
+     */
+    private static final int MAX_PARSED_DOCUMENTS = 8;
+
+    private final Configuration configuration = Configuration.defaultConfiguration();
+    private final Map<String, JsonPath> compiledPaths = new ConcurrentHashMap<>();
+    private final Map<String, Object> parsedDocuments = new LinkedHashMap<String, Object>(16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.@Nullable Entry<String, Object> eldest) {
+            return size() > MAX_PARSED_DOCUMENTS;
+        }
+    };
+
     /**
      * Transforms the input <code>source</code> by JSonPath expression.
      *
@@ -60,7 +88,7 @@ public class JSonPathTransformationService implements TransformationService {
         logger.debug("about to transform '{}' by the function '{}'", source, jsonPathExpression);
 
         try {
-            Object transformationResult = JsonPath.read(source, jsonPathExpression);
+            Object transformationResult = compile(jsonPathExpression).read(parse(source), configuration);
             logger.debug("transformation resulted in '{}'", transformationResult);
             if (transformationResult == null) {
                 return null;
@@ -76,6 +104,37 @@ public class JSonPathTransformationService implements TransformationService {
         }
     }
 
+    private JsonPath compile(String jsonPathExpression) {
+        JsonPath jsonPath = compiledPaths.get(jsonPathExpression);
+        if (jsonPath == null) {
+            jsonPath = JsonPath.compile(jsonPathExpression);
+            if (compiledPaths.size() >= MAX_COMPILED_PATHS) {
+                compiledPaths.clear();
+            }
+            compiledPaths.put(jsonPathExpression, jsonPath);
+        }
+        return jsonPath;
+    }
+
+    /**
+     * Parse the JSON document, re-using the recently parsed document if available.
+     *
+     * The parsed documents are only read by the JsonPath expressions, never modified, so they can be shared.
+     */
+    private Object parse(String source) {
+        synchronized (parsedDocuments) {
+            Object document = parsedDocuments.get(source);
+            if (document != null) {
+                return document;
+            }
+        }
+        Object document = configuration.jsonProvider().parse(source);
+        synchronized (parsedDocuments) {
+            parsedDocuments.put(source, document);
+        }
+        return document;
+    }
+
     private String flattenList(List<?> list) {
         if (list.size() == 1) {
             return list.get(0).toString();
@@ -128,4 +128,20 @@ public class JSonPathTransformationServiceTest {
         String transformedResponse = processor.transform("$.data", json);
         assertEquals(list, transformedResponse);
     }
+
+    @Test
+    public void testSeveralPathsWithSameSource() throws TransformationException {
+        for (int i = 0; i < 3; i++) {
+            assertEquals("bob", processor.transform("$[0].name", jsonArray));
+            assertEquals("2", processor.transform("$[1].id", jsonArray));
+            assertEquals(null, processor.transform("$[0].empty", jsonArray));
+        }
+    }
+
+    @Test
+    public void testSamePathWithChangingSource() throws TransformationException {
+        for (int i = 0; i < 20; i++) {
+            assertEquals(String.valueOf(i), processor.transform("$.value", "{\"value\":" + i + "}"));
+        }
+    }
 }
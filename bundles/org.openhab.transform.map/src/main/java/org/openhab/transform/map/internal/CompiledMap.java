@@ -0,0 +1,123 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.map.internal;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * Immutable representation of a map file, allowing lookups without locking.
+ *
+ * In addition to the key to value mapping, a reverse index from value to key is maintained. Values which are mapped
+ * from several keys are ambiguous and are not part of the reverse index.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class CompiledMap {
+
+    /**
+     * Key of the entry providing the default value for keys not found in the map
+     */
+    public static final String DEFAULT_KEY = "";
+
+    private final Map<String, String> mapping;
+    private final Map<String, String> reverseMapping;
+    private final @Nullable String defaultValue;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public CompiledMap(Properties properties) {
+        Map<String, String> mapping = new HashMap<>();
+        Map<String, String> reverseMapping = new HashMap<>();
+        Set<String> ambiguousValues = new HashSet<>();
+        for (String key : properties.stringPropertyNames()) {
+            String value = properties.getProperty(key);
+            mapping.put(key, value);
+            if (DEFAULT_KEY.equals(key) || ambiguousValues.contains(value)) {
+                continue;
+            }
+            if (reverseMapping.putIfAbsent(value, key) != null) {
+                reverseMapping.remove(value);
+                ambiguousValues.add(value);
+            }
+        }
+        this.mapping = mapping;
+        this.reverseMapping = reverseMapping;
+        this.defaultValue = mapping.get(DEFAULT_KEY);
+    }
+
+    /**
+     * Get the value mapped to the key, or the default value if the key is not in the map
+     *
+     * @param key key to look up
+     * @return mapped value, or <code>null</code> if neither the key nor default value is in the map
+     */
+    public @Nullable String get(String key) {
+        String value = mapping.get(key);
+        if (value == null) {
+            misses.increment();
+            return defaultValue;
+        }
+        hits.increment();
+        return value;
+    }
+
+    /**
+     * Get the key mapped to the value
+     *
+     * @param value value to look up
+     * @return the only key mapped to the value, or <code>null</code> if the value is not in the map or it is
+     *         ambiguous
+     */
+    public @Nullable String getKey(String value) {
+        String key = reverseMapping.get(value);
+        if (key == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        return key;
+    }
+
+    /**
+     * Get number of lookups which found the looked up key or value
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Get number of lookups which did not find the looked up key or value
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public int size() {
+        return mapping.size();
+    }
+
+    @Override
+    public String toString() {
+        return "CompiledMap [size=" + size() + ", reverseSize=" + reverseMapping.size() + ", hits=" + getHitCount()
+                + ", misses=" + getMissCount() + "]";
+    }
+}
@@ -14,6 +14,8 @@ package org.openhab.transform.map.internal;
 
 import java.io.FileReader;
 import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
 import java.util.Properties;
 
 import org.eclipse.smarthome.core.transform.AbstractFileTransformationService;
@@ -31,42 +33,85 @@ import org.slf4j.LoggerFactory;
  * @author Gaël L'hopital - Make it localizable
  */
 @Component(immediate = true, service = TransformationService.class, property = { "smarthome.transform=MAP" })
-public class MapTransformationService extends AbstractFileTransformationService<Properties> {
+public class MapTransformationService extends AbstractFileTransformationService<CompiledMap> {
 
     private final Logger logger = LoggerFactory.getLogger(MapTransformationService.class);
 
+    /**
+     * Prefix of the source of a reverse transformation passed through {@link #transform(String, String)}. This way
+     * file resolution, caching and reloading of map files are shared with normal transformations. The null character
+     * does not occur in item states and commands.
+     */
+    private static final String REVERSE_LOOKUP_PREFIX = "\u0000reverse:";
+
     /**
      * <p>
      * Transforms the input <code>source</code> by mapping it to another string. It expects the mappings to be read from
      * a file which is stored under the 'configurations/transform' folder. This file should be in property syntax, i.e.
      * simple lines with "key=value" pairs. To organize the various transformations one might use subfolders.
      *
-     * @param properties the list of properties which contains the key value pairs for the mapping.
+     * @param map the compiled map file which contains the key value pairs for the mapping.
      * @param source the input to transform
      */
     @Override
-    protected String internalTransform(Properties properties, String source) throws TransformationException {
-        String target = properties.getProperty(source);
+    protected String internalTransform(CompiledMap map, String source) throws TransformationException {
+        if (source.startsWith(REVERSE_LOOKUP_PREFIX)) {
+            return lookup(map, source.substring(REVERSE_LOOKUP_PREFIX.length()), true);
+        }
+        return lookup(map, source, false);
+    }
 
-        if (target == null) {
-            target = properties.getProperty("");
-            if (target == null) {
-                throw new TransformationException("Target value not found in map for '" + source + "'");
+    /**
+     * Transforms the input <code>source</code> by mapping it back to the key it is mapped from.
+     *
+     * The reverse index of the same cached map file as for normal transformations is used.
+     *
+     * @param filename the name of the map file
+     * @param source the value to transform
+     * @return the only key mapped to the value. Empty string is returned if the value is not found in the map, or it
+     *         is mapped from several keys.
+     * @throws TransformationException if the map file cannot be read
+     */
+    public String reverseTransform(String filename, String source) throws TransformationException {
+        return transform(filename, REVERSE_LOOKUP_PREFIX + source);
+    }
+
+    private String lookup(CompiledMap map, String source, boolean reverse) throws TransformationException {
+        if (reverse) {
+            String key = map.getKey(source);
+            if (key == null) {
+                throw new TransformationException("Key not found in map for value '" + source + "'");
             }
+            logger.debug("Reverse transformation resulted in '{}'", key);
+            return key;
+        }
+
+        String target = map.get(source);
+        if (target == null) {
+            throw new TransformationException("Target value not found in map for '" + source + "'");
         }
 
         logger.debug("Transformation resulted in '{}'", target);
         return target;
     }
 
+    /**
+     * Get the map files currently cached, with their lookup statistics
+     *
+     * @return cached maps by path of the map file
+     */
+    public Map<String, CompiledMap> getCachedMaps() {
+        return Collections.unmodifiableMap(cachedFiles);
+    }
+
     @Override
-    protected Properties internalLoadTransform(String filename) throws TransformationException {
-        Properties result = new Properties();
+    protected CompiledMap internalLoadTransform(String filename) throws TransformationException {
+        Properties properties = new Properties();
         try (FileReader reader = new FileReader(filename)) {
-            result.load(reader);
-            return result;
+            properties.load(reader);
         } catch (IOException e) {
             throw new TransformationException("An error occurred while opening file.", e);
         }
+        return new CompiledMap(properties);
     }
 }
@@ -24,6 +24,7 @@ import org.eclipse.smarthome.core.transform.TransformationService;
 import org.eclipse.smarthome.core.types.Command;
 import org.eclipse.smarthome.core.types.State;
 import org.eclipse.smarthome.core.types.Type;
+import org.openhab.transform.map.internal.MapTransformationService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -46,11 +47,13 @@ public class MapTransformationProfile implements StateProfile {
 
     private static final String FUNCTION_PARAM = "function";
     private static final String SOURCE_FORMAT_PARAM = "sourceFormat";
+    private static final String REVERSE_COMMANDS_PARAM = "reverseCommands";
 
     @NonNullByDefault({})
     private final String function;
     @NonNullByDefault({})
     private final String sourceFormat;
+    private final boolean reverseCommands;
 
     public MapTransformationProfile(ProfileCallback callback, ProfileContext context, TransformationService service) {
         this.service = service;
@@ -58,6 +61,7 @@ public class MapTransformationProfile implements StateProfile {
 
         Object paramFunction = context.getConfiguration().get(FUNCTION_PARAM);
         Object paramSource = context.getConfiguration().get(SOURCE_FORMAT_PARAM);
+        Object paramReverseCommands = context.getConfiguration().get(REVERSE_COMMANDS_PARAM);
 
         logger.debug("Profile configured with '{}'='{}', '{}'={}", FUNCTION_PARAM, paramFunction, SOURCE_FORMAT_PARAM,
                 paramSource);
@@ -74,6 +78,8 @@ public class MapTransformationProfile implements StateProfile {
             function = null;
             sourceFormat = null;
         }
+        reverseCommands = Boolean.TRUE.equals(paramReverseCommands)
+                || "true".equalsIgnoreCase(String.valueOf(paramReverseCommands));
     }
 
     @Override
@@ -88,7 +94,30 @@ public class MapTransformationProfile implements StateProfile {
 
     @Override
     public void onCommandFromItem(Command command) {
-        callback.handleCommand(command);
+        if (!reverseCommands || function == null) {
+            callback.handleCommand(command);
+            return;
+        }
+        if (!(service instanceof MapTransformationService)) {
+            logger.warn("Transformation service {} does not support reverse mapping. Returning the original command.",
+                    service);
+            callback.handleCommand(command);
+            return;
+        }
+        String result = null;
+        try {
+            result = ((MapTransformationService) service).reverseTransform(function, command.toFullString());
+        } catch (TransformationException e) {
+            logger.warn("Could not reverse transform command '{}' with function '{}'", command, function);
+        }
+        if (result == null || result.isEmpty()) {
+            // value not found in the map (or it is ambiguous), we will use the original command
+            callback.handleCommand(command);
+            return;
+        }
+        StringType resultType = new StringType(result);
+        logger.debug("Reverse transformed command '{}' into '{}'", command, resultType);
+        callback.handleCommand(resultType);
     }
 
     @Override
@@ -0,0 +1,68 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.map.internal;
+
+import static org.junit.Assert.*;
+
+import java.util.Properties;
+
+import org.junit.Test;
+
+/**
+ * @author agent - Initial contribution
+ */
+public class CompiledMapTest {
+
+    private static CompiledMap compile(String... keysAndValues) {
+        Properties properties = new Properties();
+        for (int i = 0; i < keysAndValues.length; i += 2) {
+            properties.setProperty(keysAndValues[i], keysAndValues[i + 1]);
+        }
+        return new CompiledMap(properties);
+    }
+
+    @Test
+    public void testLookupMatchesProperties() {
+        CompiledMap map = compile("1", "ON", "0", "OFF", "key", "value");
+        assertEquals("ON", map.get("1"));
+        assertEquals("value", map.get("key"));
+        assertNull(map.get("unknown"));
+        assertEquals(2, map.getHitCount());
+        assertEquals(1, map.getMissCount());
+    }
+
+    @Test
+    public void testDefaultValue() {
+        CompiledMap map = compile("1", "ON", CompiledMap.DEFAULT_KEY, "default");
+        assertEquals("ON", map.get("1"));
+        assertEquals("default", map.get("anything"));
+        // default entry is not part of the reverse index
+        assertNull(map.getKey("default"));
+    }
+
+    @Test
+    public void testReverseLookup() {
+        CompiledMap map = compile("1", "ON", "0", "OFF", "ON", "1");
+        assertEquals("1", map.getKey("ON"));
+        assertEquals("0", map.getKey("OFF"));
+        assertEquals("ON", map.getKey("1"));
+        assertNull(map.getKey("unknown"));
+    }
+
+    @Test
+    public void testAmbiguousValuesAreNotReversed() {
+        CompiledMap map = compile("1", "ON", "true", "ON", "yes", "ON", "0", "OFF");
+        assertNull(map.getKey("ON"));
+        assertEquals("0", map.getKey("OFF"));
+    }
+}
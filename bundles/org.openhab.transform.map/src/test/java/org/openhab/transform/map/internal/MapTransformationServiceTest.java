@@ -159,6 +159,48 @@ public class MapTransformationServiceTest {
         Assert.assertEquals("Default Value", transformedResponse);
     }
 
+    @Test
+    public void testReverseTransformByMap() throws Exception {
+        Assert.assertEquals(SOURCE_CLOSED, processor.reverseTransform(EXISTING_FILENAME_DE, "zu"));
+        Assert.assertEquals("zu", processor.transform(EXISTING_FILENAME_DE, SOURCE_CLOSED));
+        // Values not found in the map give empty string, like keys not found in the map
+        Assert.assertEquals("", processor.reverseTransform(EXISTING_FILENAME_DE, SOURCE_UNKNOWN));
+    }
+
+    @Test
+    public void testReverseTransformFollowsFileChanges() throws Exception {
+        Assert.assertEquals(SOURCE_CLOSED, processor.reverseTransform(EXISTING_FILENAME_DE, "zu"));
+
+        File file = new File(USED_FILENAME);
+        Properties properties = new Properties();
+        properties.setProperty(SOURCE_CLOSED, "geschlossen");
+        try (FileWriter writer = new FileWriter(file)) {
+            properties.store(writer, "");
+        }
+        // The modified file is removed from the cache shared with normal transformations
+        waitForAssert(new Callable<Void>() {
+            @Override
+            public Void call() throws Exception {
+                Assert.assertEquals(SOURCE_CLOSED, processor.reverseTransform(EXISTING_FILENAME_DE, "geschlossen"));
+                return null;
+            }
+        }, 10000, 100);
+        Assert.assertEquals("", processor.reverseTransform(EXISTING_FILENAME_DE, "zu"));
+        Assert.assertEquals("geschlossen", processor.transform(EXISTING_FILENAME_DE, SOURCE_CLOSED));
+    }
+
+    @Test
+    public void testBothDirectionsShareCachedMap() throws Exception {
+        Assert.assertEquals("zu", processor.transform(EXISTING_FILENAME_DE, SOURCE_CLOSED));
+        Assert.assertEquals(SOURCE_CLOSED, processor.reverseTransform(EXISTING_FILENAME_DE, "zu"));
+        Assert.assertEquals("", processor.reverseTransform(EXISTING_FILENAME_DE, SOURCE_UNKNOWN));
+
+        Assert.assertEquals(1, processor.getCachedMaps().size());
+        CompiledMap map = processor.getCachedMaps().values().iterator().next();
+        Assert.assertEquals(2, map.getHitCount());
+        Assert.assertEquals(1, map.getMissCount());
+    }
+
     protected void waitForAssert(Callable<Void> assertion, int timeout, int sleepTime) throws Exception {
         int waitingTime = 0;
         while (waitingTime < timeout) {
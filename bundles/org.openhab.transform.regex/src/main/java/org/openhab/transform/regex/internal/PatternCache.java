@@ -0,0 +1,131 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.regex.internal;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * Bounded cache of compiled {@link Pattern}s, evicting the least recently used pattern when full.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class PatternCache {
+
+    private static class Key {
+        private final String regex;
+        private final int flags;
+
+        Key(String regex, int flags) {
+            this.regex = regex;
+            this.flags = flags;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * regex.hashCode() + flags;
+        }
+
+        @Override
+        public boolean equals(@Nullable Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj == null || getClass() != obj.getClass()) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return flags == other.flags && Objects.equals(regex, other.regex);
+        }
+    }
+
+    private final int maxSize;
+    private final Map<Key, Pattern> patterns;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public PatternCache(int maxSize) {
+        this.maxSize = maxSize;
+        this.patterns = new LinkedHashMap<Key, Pattern>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.@Nullable Entry<Key, Pattern> eldest) {
+                if (size() > PatternCache.this.maxSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Get compiled pattern, compiling it if not found in the cache
+     *
+     * @param regex the expression to compile
+     * @param flags match flags, see {@link Pattern#compile(String, int)}
+     * @return compiled pattern
+     * @throws PatternSyntaxException if the expression's syntax is invalid
+     */
+    public Pattern get(String regex, int flags) {
+        Key key = new Key(regex, flags);
+        synchronized (patterns) {
+            Pattern pattern = patterns.get(key);
+            if (pattern != null) {
+                hits.increment();
+                return pattern;
+            }
+        }
+        misses.increment();
+        // Compile outside the lock, concurrent compilations of the same expression are harmless
+        Pattern pattern = Pattern.compile(regex, flags);
+        synchronized (patterns) {
+            patterns.put(key, pattern);
+        }
+        return pattern;
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    public int size() {
+        synchronized (patterns) {
+            return patterns.size();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "PatternCache [size=" + size() + ", maxSize=" + maxSize + ", hits=" + getHitCount() + ", misses="
+                + getMissCount() + ", evictions=" + getEvictionCount() + "]";
+    }
+}
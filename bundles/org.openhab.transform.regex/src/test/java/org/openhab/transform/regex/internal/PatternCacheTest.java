@@ -0,0 +1,61 @@
+/**
+ * Copyright (c) 2010-2020 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.regex.internal;
+
+import static org.junit.Assert.*;
+
+import java.util.regex.Pattern;
+
+import org.junit.Test;
+
+/**
+ * @author agent - Initial contribution
+ */
+public class PatternCacheTest {
+
+    @Test
+    public void testPatternIsReused() {
+        PatternCache cache = new PatternCache(2);
+        Pattern pattern = cache.get("a+", 0);
+        assertSame(pattern, cache.get("a+", 0));
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    public void testFlagsArePartOfKey() {
+        PatternCache cache = new PatternCache(2);
+        Pattern plain = cache.get("a.b", 0);
+        Pattern dotAll = cache.get("a.b", Pattern.DOTALL);
+        assertNotSame(plain, dotAll);
+        assertEquals(Pattern.DOTALL, dotAll.flags());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedIsEvicted() {
+        PatternCache cache = new PatternCache(2);
+        Pattern first = cache.get("first", 0);
+        cache.get("second", 0);
+        // Access first so that second becomes the least recently used
+        cache.get("first", 0);
+        cache.get("third", 0);
+
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getEvictionCount());
+        assertSame(first, cache.get("first", 0));
+        long missesBefore = cache.getMissCount();
+        cache.get("second", 0);
+        assertEquals(missesBefore + 1, cache.getMissCount());
+    }
+}
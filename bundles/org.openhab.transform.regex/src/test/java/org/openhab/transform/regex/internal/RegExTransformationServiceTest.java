@@ -75,4 +75,29 @@ public class RegExTransformationServiceTest extends AbstractTransformationServic
         // Asserts
         assertEquals("varX=12 varY=54 ", transformedResponse);
     }
+
+    @Test
+    public void testTransformByRegex_repeatedUsesCachedPattern() throws TransformationException {
+        for (int i = 0; i < 3; i++) {
+            assertEquals("8", processor.transform(".*?<current_conditions>.*?<temp_c data=\"(.*?)\".*", source));
+            assertEquals("SetMode(42)", processor.transform("s/^OP:(.*?),ARG:(.*)$/$1($2)/", "OP:SetMode,ARG:42"));
+            assertEquals("varX=12 varY=54 ", processor.transform("s/([A-Z]+)([0-9]+),*/var$1=$2 /g", "X12,Y54"));
+        }
+
+        assertEquals(3, processor.getPatternCache().size());
+        assertEquals(3, processor.getPatternCache().getMissCount());
+        assertEquals(6, processor.getPatternCache().getHitCount());
+    }
+
+    @Test
+    public void testTransformByRegex_sameAsUncompiled() throws TransformationException {
+        String[] inputs = { " X12,Y54 ", "OP:SetMode,ARG:42", "", "a.b.c", "line1\nline2" };
+        String[] substitutions = { "[0-9]+", "\\.", "(\\w+)", "^", "$" };
+        for (String input : inputs) {
+            for (String regex : substitutions) {
+                assertEquals(input.trim().replaceFirst(regex, "_"), processor.transform("s/" + regex + "/_/", input));
+                assertEquals(input.trim().replaceAll(regex, "_"), processor.transform("s/" + regex + "/_/g", input));
+            }
+        }
+    }
 }
@@ -13,12 +13,16 @@
 package org.openhab.transform.xpath.internal;
 
 import java.io.StringReader;
+import java.util.HashMap;
+import java.util.Map;
 
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.xpath.XPath;
 import javax.xml.xpath.XPathConstants;
 import javax.xml.xpath.XPathExpression;
+import javax.xml.xpath.XPathExpressionException;
 import javax.xml.xpath.XPathFactory;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -43,6 +47,19 @@ public class XPathTransformationService implements TransformationService {
 
     private final Logger logger = LoggerFactory.getLogger(XPathTransformationService.class);
 
+    /**
+     * Maximum number of compiled expressions kept per thread. The cache is cleared when the limit is reached.
+     */
+    private static final int MAX_COMPILED_EXPRESSIONS = 100;
+
+    /**
+     * {@link DocumentBuilder} and {@link XPathExpression} are not thread-safe, so they are kept per thread. The
+     * transformations are executed by the limited number of threads of the bindings polling the data.
+     */
+    private final ThreadLocal<@Nullable DocumentBuilder> documentBuilders = new ThreadLocal<>();
+    private final ThreadLocal<Map<String, XPathExpression>> compiledExpressions = ThreadLocal
+            .withInitial(HashMap::new);
+
     @Override
     public @Nullable String transform(String xpathExpression, String source) throws TransformationException {
         if (xpathExpression == null || source == null) {
@@ -54,10 +71,7 @@ public class XPathTransformationService implements TransformationService {
         StringReader stringReader = null;
 
         try {
-            DocumentBuilderFactory domFactory = DocumentBuilderFactory.newInstance();
-            domFactory.setNamespaceAware(true);
-            domFactory.setValidating(false);
-            DocumentBuilder builder = domFactory.newDocumentBuilder();
+            DocumentBuilder builder = getDocumentBuilder();
 
             stringReader = new StringReader(source);
             InputSource inputSource = new InputSource(stringReader);
@@ -65,8 +79,7 @@ public class XPathTransformationService implements TransformationService {
 
             Document doc = builder.parse(inputSource);
 
-            XPath xpath = XPathFactory.newInstance().newXPath();
-            XPathExpression expr = xpath.compile(xpathExpression);
+            XPathExpression expr = getExpression(xpathExpression);
 
             String transformationResult = (String) expr.evaluate(doc, XPathConstants.STRING);
 
@@ -81,4 +94,32 @@ public class XPathTransformationService implements TransformationService {
             }
         }
     }
+
+    private DocumentBuilder getDocumentBuilder() throws ParserConfigurationException {
+        DocumentBuilder builder = documentBuilders.get();
+        if (builder == null) {
+            DocumentBuilderFactory domFactory = DocumentBuilderFactory.newInstance();
+            domFactory.setNamespaceAware(true);
+            domFactory.setValidating(false);
+            builder = domFactory.newDocumentBuilder();
+            documentBuilders.set(builder);
+        } else {
+            builder.reset();
+        }
+        return builder;
+    }
+
+    private XPathExpression getExpression(String xpathExpression) throws XPathExpressionException {
+        Map<String, XPathExpression> expressions = compiledExpressions.get();
+        XPathExpression expr = expressions.get(xpathExpression);
+        if (expr == null) {
+            XPath xpath = XPathFactory.newInstance().newXPath();
+            expr = xpath.compile(xpathExpression);
+            if (expressions.size() >= MAX_COMPILED_EXPRESSIONS) {
+                expressions.clear();
+            }
+            expressions.put(xpathExpression, expr);
+        }
+        return expr;
+    }
 }
@@ -15,9 +15,11 @@ package org.openhab.transform.xslt.internal;
 import java.io.File;
 import java.io.StringReader;
 import java.io.StringWriter;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
-import javax.xml.transform.Source;
-import javax.xml.transform.Transformer;
+import javax.xml.transform.Templates;
+import javax.xml.transform.TransformerConfigurationException;
 import javax.xml.transform.TransformerFactory;
 import javax.xml.transform.stream.StreamResult;
 import javax.xml.transform.stream.StreamSource;
@@ -43,6 +45,33 @@ public class XsltTransformationService implements TransformationService {
 
     private final Logger logger = LoggerFactory.getLogger(XsltTransformationService.class);
 
+    /**
+     * Compiled stylesheet, together with the modification stamp of the file it was compiled from
+     */
+    private static class CachedTemplates {
+        private final Templates templates;
+        private final long lastModified;
+        private final long length;
+
+        CachedTemplates(Templates templates, long lastModified, long length) {
+            this.templates = templates;
+            this.lastModified = lastModified;
+            this.length = length;
+        }
+
+        boolean isUpToDate(File file) {
+            return lastModified == file.lastModified() && length == file.length();
+        }
+    }
+
+    private final TransformerFactory transformerFactory = TransformerFactory.newInstance();
+
+    /**
+     * Compiled stylesheets by file path. {@link Templates} are thread-safe and can be shared by concurrent
+     * transformations, only the (cheap) {@link javax.xml.transform.Transformer} is created per transformation.
+     */
+    private final Map<String, CachedTemplates> cachedTemplates = new ConcurrentHashMap<>();
+
     /**
      * Transforms the input <code>source</code> by XSLT.
      *
@@ -60,12 +89,12 @@ public class XsltTransformationService implements TransformationService {
             throw new TransformationException("the given parameters 'filename' and 'source' must not be null");
         }
 
-        Source xsl = null;
+        Templates templates;
 
         try {
             String path = ConfigConstants.getConfigFolder() + File.separator
                     + TransformationService.TRANSFORM_FOLDER_NAME + File.separator + filename;
-            xsl = new StreamSource(new File(path));
+            templates = getTemplates(new File(path));
         } catch (Exception e) {
             String message = "opening file '" + filename + "' throws exception";
 
@@ -73,16 +102,13 @@ public class XsltTransformationService implements TransformationService {
             throw new TransformationException(message, e);
         }
 
-        logger.debug("about to transform '{}' by the function '{}'", source, xsl);
+        logger.debug("about to transform '{}' by the function '{}'", source, filename);
 
         StringReader xml = new StringReader(source);
         StringWriter out = new StringWriter();
 
-        Transformer transformer;
-
         try {
-            transformer = TransformerFactory.newInstance().newTransformer(xsl);
-            transformer.transform(new StreamSource(xml), new StreamResult(out));
+            templates.newTransformer().transform(new StreamSource(xml), new StreamResult(out));
         } catch (Exception e) {
             logger.error("transformation throws exception", e);
             throw new TransformationException("transformation throws exception", e);
@@ -92,4 +118,26 @@ public class XsltTransformationService implements TransformationService {
 
         return out.toString();
     }
+
+    /**
+     * Get compiled stylesheet, compiling it again if the file has changed since it was last compiled
+     */
+    private Templates getTemplates(File file) throws TransformerConfigurationException {
+        String key = file.getAbsolutePath();
+        CachedTemplates cached = cachedTemplates.get(key);
+        if (cached != null && cached.isUpToDate(file)) {
+            return cached.templates;
+        }
+        // Read modification stamp before compiling, so that modifications during compilation are not missed
+        long lastModified = file.lastModified();
+        long length = file.length();
+        Templates templates;
+        synchronized (transformerFactory) {
+            // TransformerFactory is not thread-safe
+            templates = transformerFactory.newTemplates(new StreamSource(file));
+        }
+        logger.debug("compiled stylesheet '{}'", key);
+        cachedTemplates.put(key, new CachedTemplates(templates, lastModified, length));
+        return templates;
+    }
 }
@@ -14,7 +14,13 @@ package org.openhab.transform.xslt.internal;
 
 import static org.junit.Assert.assertEquals;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
 import org.eclipse.smarthome.core.transform.TransformationException;
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -23,6 +29,8 @@ import org.junit.Test;
  */
 public class XsltTransformationServiceTest extends AbstractTransformationServiceTest {
 
+    private static final File RELOADED_FILE = new File("conf/transform/http/reloaded.xsl");
+
     private XsltTransformationService processor;
 
     @Before
@@ -30,6 +38,11 @@ public class XsltTransformationServiceTest extends AbstractTransformationService
         processor = new XsltTransformationService();
     }
 
+    @After
+    public void cleanup() {
+        RELOADED_FILE.delete();
+    }
+
     @Test
     public void testTransformByXSLT() throws TransformationException {
         // method under test
@@ -38,4 +51,33 @@ public class XsltTransformationServiceTest extends AbstractTransformationService
         // Asserts
         assertEquals("8", transformedResponse);
     }
+
+    @Test
+    public void testRepeatedTransformByXSLT() throws TransformationException {
+        for (int i = 0; i < 3; i++) {
+            assertEquals("8", processor.transform("http/google_weather.xsl", source));
+        }
+    }
+
+    @Test
+    public void testStylesheetIsReloadedWhenChanged() throws TransformationException, IOException {
+        writeStylesheet("temp_c");
+        assertEquals("8", processor.transform("http/reloaded.xsl", source));
+
+        writeStylesheet("temp_f");
+        // make sure the modification is detected even with coarse file system timestamps
+        RELOADED_FILE.setLastModified(RELOADED_FILE.lastModified() + 2000);
+        assertEquals("46", processor.transform("http/reloaded.xsl", source));
+    }
+
+    private void writeStylesheet(String element) throws IOException {
+        String stylesheet = "<?xml version=\"1.0\"?>"
+                + "<xsl:stylesheet xmlns:xsl=\"http://www.w3.org/1999/XSL/Transform\" version=\"1.0\">"
+                + "<xsl:output method=\"text\" />"
+                + "<xsl:template match=\"//current_conditions\"><xsl:value-of select=\"" + element
+                + "/@data\" /></xsl:template>" //
+                + "<xsl:template match=\"text()\" />" //
+                + "</xsl:stylesheet>";
+        Files.write(RELOADED_FILE.toPath(), stylesheet.getBytes(StandardCharsets.UTF_8));
+    }
 }
@@ -26,6 +26,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -788,6 +789,115 @@ public class ModbusDataHandlerTest extends AbstractModbusOSGiTest {
         waitForAssert(() -> verify((ModbusPollerThingHandler) poller.getHandler()).refresh(), 2500, 50);
     }
 
+    private ModbusDataThingHandler createUnchangedDataHandler(ModbusReadRequestBlueprint request,
+            int unchangedDataRefreshPolls, AtomicInteger transformations) {
+        mockTransformation("COUNT", new TransformationService() {
+
+            @Override
+            public String transform(String function, String source) throws TransformationException {
+                transformations.incrementAndGet();
+                return source;
+            }
+        });
+        ModbusSlaveEndpoint endpoint = new ModbusTCPSlaveEndpoint("thisishost", 502);
+        doReturn(3).when(request).getDataLength();
+        doReturn(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS).when(request).getFunctionCode();
+
+        PollTask task = Mockito.mock(PollTask.class);
+        doReturn(endpoint).when(task).getEndpoint();
+        doReturn(request).when(task).getRequest();
+
+        Bridge poller = createPollerMock("poller1", task);
+
+        Configuration dataConfig = new Configuration();
+        dataConfig.put("readStart", "0");
+        dataConfig.put("readTransform", "COUNT(1)");
+        dataConfig.put("readValueType", "int16");
+        dataConfig.put("unchangedDataRefreshPolls", unchangedDataRefreshPolls);
+
+        ModbusDataThingHandler dataHandler = createDataHandler("read1", poller,
+                builder -> builder.withConfiguration(dataConfig), bundleContext);
+        assertThat(dataHandler.getThing().getStatus(), is(equalTo(ThingStatus.ONLINE)));
+        return dataHandler;
+    }
+
+    private void pollRegister(ModbusDataThingHandler dataHandler, ModbusReadRequestBlueprint request, int value) {
+        dataHandler.onReadResult(new AsyncModbusReadResult(request,
+                new ModbusRegisterArray(new ModbusRegister[] { new ModbusRegister((byte) 0, (byte) value) })));
+    }
+
+    @Test
+    public void testUnchangedDataIsProcessedByDefault() {
+        ModbusReadRequestBlueprint request = Mockito.mock(ModbusReadRequestBlueprint.class);
+        AtomicInteger transformations = new AtomicInteger();
+        ModbusDataThingHandler dataHandler = createUnchangedDataHandler(request, 0, transformations);
+
+        pollRegister(dataHandler, request, 5);
+        int transformationsPerPoll = transformations.get();
+        assertThat(transformationsPerPoll, is(not(equalTo(0))));
+        pollRegister(dataHandler, request, 5);
+        pollRegister(dataHandler, request, 5);
+        assertThat(transformations.get(), is(equalTo(3 * transformationsPerPoll)));
+    }
+
+    @Test
+    public void testUnchangedDataIsSkipped() {
+        ModbusReadRequestBlueprint request = Mockito.mock(ModbusReadRequestBlueprint.class);
+        AtomicInteger transformations = new AtomicInteger();
+        ModbusDataThingHandler dataHandler = createUnchangedDataHandler(request, 10, transformations);
+
+        pollRegister(dataHandler, request, 5);
+        int transformationsPerPoll = transformations.get();
+        assertThat(transformationsPerPoll, is(not(equalTo(0))));
+        pollRegister(dataHandler, request, 5);
+        pollRegister(dataHandler, request, 5);
+        assertThat(transformations.get(), is(equalTo(transformationsPerPoll)));
+
+        // Changed data is always processed
+        pollRegister(dataHandler, request, 6);
+        assertThat(transformations.get(), is(equalTo(2 * transformationsPerPoll)));
+    }
+
+    @Test
+    public void testUnchangedDataIsProcessedAfterRefreshPolls() {
+        ModbusReadRequestBlueprint request = Mockito.mock(ModbusReadRequestBlueprint.class);
+        AtomicInteger transformations = new AtomicInteger();
+        ModbusDataThingHandler dataHandler = createUnchangedDataHandler(request, 2, transformations);
+
+        pollRegister(dataHandler, request, 5);
+        int transformationsPerPoll = transformations.get();
+        // two polls are skipped, the third one is processed again
+        pollRegister(dataHandler, request, 5);
+        pollRegister(dataHandler, request, 5);
+        assertThat(transformations.get(), is(equalTo(transformationsPerPoll)));
+        pollRegister(dataHandler, request, 5);
+        assertThat(transformations.get(), is(equalTo(2 * transformationsPerPoll)));
+        pollRegister(dataHandler, request, 5);
+        pollRegister(dataHandler, request, 5);
+        assertThat(transformations.get(), is(equalTo(2 * transformationsPerPoll)));
+        pollRegister(dataHandler, request, 5);
+        assertThat(transformations.get(), is(equalTo(3 * transformationsPerPoll)));
+    }
+
+    @Test
+    public void testUnchangedDataIsProcessedAfterChannelLinked() {
+        ModbusReadRequestBlueprint request = Mockito.mock(ModbusReadRequestBlueprint.class);
+        AtomicInteger transformations = new AtomicInteger();
+        ModbusDataThingHandler dataHandler = createUnchangedDataHandler(request, 10, transformations);
+
+        pollRegister(dataHandler, request, 5);
+        int transformationsPerPoll = transformations.get();
+        pollRegister(dataHandler, request, 5);
+        assertThat(transformations.get(), is(equalTo(transformationsPerPoll)));
+
+        // Newly linked channel needs a state, unchanged data is processed once
+        dataHandler.channelLinked(new ChannelUID(dataHandler.getThing().getUID(), CHANNEL_NUMBER));
+        pollRegister(dataHandler, request, 5);
+        assertThat(transformations.get(), is(equalTo(2 * transformationsPerPoll)));
+        pollRegister(dataHandler, request, 5);
+        assertThat(transformations.get(), is(equalTo(2 * transformationsPerPoll)));
+    }
+
     /**
      *
      * @param pollerFunctionCode poller function code. Use null if you want to have data thing direct child of endpoint